@@ -0,0 +1,123 @@
+package com.oceanview.reservation.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Admission control in front of the connection pool. At most `permits` connections are out at once (the pool
+// size); further callers queue here in arrival order, and once maxWaiting callers are queued new ones are
+// rejected at once instead of all waiting out the pool's connection timeout.
+// Needed with virtual threads: Tomcat no longer caps concurrent requests at its thread count, so a burst would
+// otherwise park thousands of requests on the pool.
+public class BoundedDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxWaiting;
+    private final long timeoutMillis;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    public BoundedDataSource(DataSource target, int permits, int maxWaiting, long timeoutMillis) {
+        super(target);
+        if (permits < 1 || maxWaiting < 0) {
+            throw new IllegalArgumentException("permits must be positive and maxWaiting not negative");
+        }
+        this.permits = new Semaphore(permits, true);
+        this.maxWaiting = maxWaiting;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        return borrowed(() -> super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        return borrowed(() -> super.getConnection(username, password));
+    }
+
+    // Callers queued for a connection right now
+    public int getWaiting() {
+        return waiting.get();
+    }
+
+    // Callers turned away because the queue was full or their wait timed out
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    private void acquire() throws SQLException {
+        if (permits.tryAcquire()) {
+            return;
+        }
+        if (waiting.incrementAndGet() > maxWaiting) {
+            waiting.decrementAndGet();
+            rejected.increment();
+            throw new SQLTransientConnectionException("Too many callers waiting for a database connection (" + maxWaiting + ")");
+        }
+        try {
+            if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                rejected.increment();
+                throw new SQLTransientConnectionException("No database connection available after " + timeoutMillis + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    // Hand out the pooled connection wrapped so that closing it also returns the permit (once)
+    private Connection borrowed(ConnectionSupplier supplier) throws SQLException {
+        Connection connection;
+        try {
+            connection = supplier.get();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        AtomicBoolean released = new AtomicBoolean();
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getName().equals("close") && method.getParameterCount() == 0) {
+                try {
+                    connection.close();
+                } finally {
+                    if (released.compareAndSet(false, true)) {
+                        permits.release();
+                    }
+                }
+                return null;
+            }
+            return invoke(connection, method, args);
+        };
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, handler);
+    }
+
+    private static Object invoke(Connection connection, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(connection, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+}
@@ -31,14 +31,17 @@ public class DataLoader implements CommandLineRunner {
 
         log.info("DataLoader: Database is empty. Loading sample reservations...");
 
+        // Stays are relative to today so they always pass the @Future check on persist
+        LocalDate today = LocalDate.now();
+
         // First sample guest
         Reservation reservation1 = new Reservation();
         reservation1.setGuestFullName("John Smith");
         reservation1.setEmail("john.smith@example.com");
         reservation1.setContactNumber("+1-555-0101");
         reservation1.setAddress("123 Ocean Drive, Miami Beach, FL 33139");
-        reservation1.setCheckIn(LocalDate.of(2026, 6, 1));
-        reservation1.setCheckOut(LocalDate.of(2026, 6, 4));
+        reservation1.setCheckIn(today.plusDays(30));
+        reservation1.setCheckOut(today.plusDays(33));
         reservation1.setNumberOfGuests(2);
         reservation1.setRoomType("DOUBLE");
         reservation1.setStatus("CONFIRMED");
@@ -54,8 +57,8 @@ public class DataLoader implements CommandLineRunner {
         reservation2.setEmail("sarah.johnson@example.com");
         reservation2.setContactNumber("+1-555-0202");
         reservation2.setAddress("456 Sunset Boulevard, Los Angeles, CA 90028");
-        reservation2.setCheckIn(LocalDate.of(2026, 7, 15));
-        reservation2.setCheckOut(LocalDate.of(2026, 7, 20));
+        reservation2.setCheckIn(today.plusDays(60));
+        reservation2.setCheckOut(today.plusDays(65));
         reservation2.setNumberOfGuests(2);
         reservation2.setRoomType("SUITE");
         reservation2.setStatus("CONFIRMED");
@@ -0,0 +1,75 @@
+package com.oceanview.reservation.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+import java.util.ListIterator;
+
+// Jackson setup shared by every API format. Clients that send Accept: application/x-jackson-smile or
+// application/cbor get the same payloads in a binary encoding (JSON stays the default); request bodies in
+// either format are read too. All mappers come from Spring Boot's builder, so they share its settings
+// (ISO dates, the Java time module) and the Blackbird module, which replaces reflective getter, setter and
+// constructor calls with generated lambdas.
+@Configuration
+public class JacksonConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> builders;
+
+    public JacksonConfig(ObjectProvider<Jackson2ObjectMapperBuilder> builders) {
+        this.builders = builders;
+    }
+
+    // Spring Boot registers Module beans with every ObjectMapper it builds
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    // Spring MVC adds its own Smile and CBOR converters when the formats are on the classpath, but with a plain
+    // mapper (dates as timestamps, no Blackbird); swap them for ones from the Boot builder, keeping their place
+    // after the JSON converter
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        MappingJackson2SmileHttpMessageConverter smile = new MappingJackson2SmileHttpMessageConverter(
+                builders.getObject().factory(new SmileFactory()).build());
+        MappingJackson2CborHttpMessageConverter cbor = new MappingJackson2CborHttpMessageConverter(
+                builders.getObject().factory(new CBORFactory()).build());
+        boolean smileAdded = false;
+        boolean cborAdded = false;
+        for (ListIterator<HttpMessageConverter<?>> it = converters.listIterator(); it.hasNext(); ) {
+            HttpMessageConverter<?> converter = it.next();
+            if (converter instanceof MappingJackson2SmileHttpMessageConverter) {
+                if (smileAdded) {
+                    it.remove();
+                } else {
+                    it.set(smile);
+                    smileAdded = true;
+                }
+            } else if (converter instanceof MappingJackson2CborHttpMessageConverter) {
+                if (cborAdded) {
+                    it.remove();
+                } else {
+                    it.set(cbor);
+                    cborAdded = true;
+                }
+            }
+        }
+        if (!smileAdded) {
+            converters.add(smile);
+        }
+        if (!cborAdded) {
+            converters.add(cbor);
+        }
+    }
+}
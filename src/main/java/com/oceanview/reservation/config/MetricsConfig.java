@@ -0,0 +1,48 @@
+package com.oceanview.reservation.config;
+
+import com.oceanview.reservation.service.BillCache;
+import com.oceanview.reservation.service.ReservationCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Application meters that Spring Boot does not record on its own.
+// The in-memory caches are reported with Micrometer's cache meter names (cache.gets by result, cache.size,
+// cache.evictions), so dashboards can show their hit rates next to any other cache.
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder cacheMetrics(BillCache billCache, ReservationCache reservationCache) {
+        return registry -> {
+            FunctionCounter.builder("cache.gets", billCache, cache -> cache.stats().getHits())
+                .tags("cache", "bills", "result", "hit")
+                .description("Bill lookups answered from the cache")
+                .register(registry);
+            FunctionCounter.builder("cache.gets", billCache, cache -> cache.stats().getMisses())
+                .tags("cache", "bills", "result", "miss")
+                .description("Bill lookups that had to calculate the bill")
+                .register(registry);
+            FunctionCounter.builder("cache.evictions", billCache, cache -> cache.stats().getEvictions())
+                .tags("cache", "bills")
+                .register(registry);
+            Gauge.builder("cache.size", billCache, cache -> cache.stats().getSize())
+                .tags("cache", "bills")
+                .register(registry);
+
+            FunctionCounter.builder("cache.gets", reservationCache, cache -> cache.stats().getHits())
+                .tags("cache", "reservations", "result", "hit")
+                .description("Reservation reads answered without the database")
+                .register(registry);
+            FunctionCounter.builder("cache.gets", reservationCache, cache -> cache.stats().getMisses())
+                .tags("cache", "reservations", "result", "miss")
+                .description("Reservation reads loaded from the database")
+                .register(registry);
+            Gauge.builder("cache.size", reservationCache, cache -> cache.stats().getSize())
+                .tags("cache", "reservations")
+                .register(registry);
+        };
+    }
+}
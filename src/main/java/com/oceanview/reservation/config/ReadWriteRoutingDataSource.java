@@ -0,0 +1,52 @@
+package com.oceanview.reservation.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// Picks the replica for @Transactional(readOnly = true) work and the primary for everything else (read-write
+// transactions, Flyway, anything outside a transaction). Must sit behind a LazyConnectionDataSourceProxy: the
+// transaction manager asks for a connection before it marks the transaction read-only, and the proxy holds
+// off fetching the real one until the first statement.
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target { PRIMARY, REPLICA }
+
+    private static final ThreadLocal<Boolean> PRIMARY_READS = new ThreadLocal<>();
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    // Runs the loader with its read-only transactions on the primary, for reads kept beyond the request (e.g. a
+    // copy put in a cache) that must not come from a replica that is behind. Without a replica this is a no-op.
+    public static <T> T readFromPrimary(Supplier<T> loader) {
+        if (PRIMARY_READS.get() != null) {
+            return loader.get();
+        }
+        PRIMARY_READS.set(Boolean.TRUE);
+        try {
+            return loader.get();
+        } finally {
+            PRIMARY_READS.remove();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Target.PRIMARY;
+        }
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // A client that wrote a moment ago reads its own change from the primary, as do readFromPrimary loads
+            return ReadYourWritesFilter.isPinned() || PRIMARY_READS.get() != null ? Target.PRIMARY : Target.REPLICA;
+        }
+        ReadYourWritesFilter.recordWrite();
+        return Target.PRIMARY;
+    }
+}
@@ -0,0 +1,97 @@
+package com.oceanview.reservation.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+// Read-your-writes for the replica routing. When a request starts a read-write transaction the client is sent a
+// cookie holding the end of the sticky window; while it is valid that client's read-only transactions go to the
+// primary as well, so it never reads from a replica that has not caught up with its own change. The rest of the
+// request that wrote is pinned too. Being a cookie, the pin follows the client to any instance.
+// The window starts when the write takes its connection, so it should comfortably exceed replication lag.
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE = "ov-primary-until";
+
+    private static final ThreadLocal<Client> CURRENT = new ThreadLocal<>();
+
+    private final Duration window;
+
+    public ReadYourWritesFilter(Duration window) {
+        this.window = window;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        CURRENT.set(new Client(response, window, pinnedUntil(request) > System.currentTimeMillis()));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    // True while the client on this thread is inside its sticky window
+    static boolean isPinned() {
+        Client client = CURRENT.get();
+        return client != null && client.pinned;
+    }
+
+    // A read-write transaction on this thread is taking a primary connection; no-op outside a request
+    static void recordWrite() {
+        Client client = CURRENT.get();
+        if (client == null) {
+            return;
+        }
+        client.pinned = true;
+        if (!client.cookieSent && !client.response.isCommitted()) {
+            long until = System.currentTimeMillis() + client.window.toMillis();
+            client.response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(COOKIE, Long.toString(until))
+                    .path("/")
+                    .maxAge(client.window)
+                    .httpOnly(true)
+                    .sameSite("Lax")
+                    .build()
+                    .toString());
+            client.cookieSent = true;
+        }
+    }
+
+    private static long pinnedUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (COOKIE.equals(cookie.getName())) {
+                    try {
+                        return Long.parseLong(cookie.getValue());
+                    } catch (NumberFormatException e) {
+                        return 0;
+                    }
+                }
+            }
+        }
+        return 0;
+    }
+
+    private static final class Client {
+        private final HttpServletResponse response;
+        private final Duration window;
+        private boolean pinned;
+        private boolean cookieSent;
+
+        private Client(HttpServletResponse response, Duration window, boolean pinned) {
+            this.response = response;
+            this.window = window;
+            this.pinned = pinned;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.oceanview.reservation.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+// Read replica wiring, on when reservation.datasource.replica.url is set. Replaces Spring Boot's single pool
+// with two - the primary from spring.datasource.* and the replica - both using the spring.datasource.hikari
+// settings, behind a routing DataSource that sends read-only transactions to the replica (see
+// ReadWriteRoutingDataSource and ReadYourWritesFilter). JPA, JdbcTemplate and Flyway all use the routing one;
+// Flyway runs outside a transaction and so migrates the primary only.
+@Configuration
+@ConditionalOnProperty("reservation.datasource.replica.url")
+@Slf4j
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    // Credentials default to the primary's
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties, Environment environment) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(environment.getRequiredProperty("reservation.datasource.replica.url"))
+                .username(environment.getProperty("reservation.datasource.replica.username",
+                        properties.determineUsername()))
+                .password(environment.getProperty("reservation.datasource.replica.password",
+                        properties.determinePassword()))
+                .build();
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica) {
+        log.info("Read-only transactions routed to the replica pool");
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replica));
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(Environment environment) {
+        long seconds = environment.getProperty("reservation.datasource.replica.sticky-seconds", Long.class, 5L);
+        return new ReadYourWritesFilter(Duration.ofSeconds(seconds));
+    }
+}
@@ -0,0 +1,57 @@
+package com.oceanview.reservation.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+// Extra wiring for spring.threads.virtual.enabled=true, which Spring Boot honours on Java 21+ only: Tomcat
+// and the application task executor (@Async) then run on virtual threads, and this guards the connection pool
+// with a BoundedDataSource. On Java 17, or with the property off, none of this is created.
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor boundedDataSourcePostProcessor(Environment environment) {
+        int maxWaiting = environment.getProperty("reservation.datasource.max-waiting", Integer.class, 200);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    // Applies Hikari's defaults (an unset pool size reads as -1 until the pool starts)
+                    hikari.validate();
+                    log.info("Virtual threads enabled: at most {} connections out, {} callers queued",
+                            hikari.getMaximumPoolSize(), maxWaiting);
+                    return new BoundedDataSource(hikari, hikari.getMaximumPoolSize(), maxWaiting,
+                            hikari.getConnectionTimeout());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder boundedDataSourceMetrics(DataSource dataSource) throws SQLException {
+        BoundedDataSource bounded = dataSource.unwrap(BoundedDataSource.class);
+        return registry -> {
+            Gauge.builder("reservation.db.waiting", bounded, BoundedDataSource::getWaiting)
+                .description("Requests queued for a database connection")
+                .register(registry);
+            FunctionCounter.builder("reservation.db.rejected", bounded, BoundedDataSource::getRejected)
+                .description("Requests turned away because the connection queue was full or timed out")
+                .register(registry);
+        };
+    }
+}
@@ -0,0 +1,62 @@
+package com.oceanview.reservation.controller;
+
+import com.oceanview.reservation.service.AvailabilityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+// Handles availability search - free room types and quotes for a date range
+@RestController
+@RequestMapping("/api/availability")
+@CrossOrigin(origins = "*")
+@RequiredArgsConstructor
+@Slf4j
+public class AvailabilityController {
+
+    private final AvailabilityService availabilityService;
+
+    // GET /api/availability?from=&to=&guests= - per-night availability and a quote for every room type
+    @GetMapping
+    public ResponseEntity<?> getAvailability(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "1") int guests) {
+        log.info("Searching availability {} to {} for {} guest(s)", from, to, guests);
+
+        try {
+            return ResponseEntity.ok(availabilityService.search(from, to, guests));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid availability request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ErrorResponse(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error searching availability {} to {}", from, to, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("Failed to search availability: " + e.getMessage()));
+        }
+    }
+
+    // Error response wrapper
+    private static class ErrorResponse {
+        private final String error;
+        private final long timestamp;
+
+        public ErrorResponse(String error) {
+            this.error = error;
+            this.timestamp = System.currentTimeMillis();
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+    }
+}
@@ -1,13 +1,17 @@
 package com.oceanview.reservation.controller;
 
 import com.oceanview.reservation.model.Reservation;
+import com.oceanview.reservation.service.BillCache;
+import com.oceanview.reservation.service.BillingBatchService;
 import com.oceanview.reservation.service.BillingService;
 import com.oceanview.reservation.service.ReservationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Optional;
 
@@ -21,13 +25,22 @@ public class BillingController {
 
     private final ReservationService reservationService;
     private final BillingService billingService;
+    private final BillingBatchService billingBatchService;
+    private final BillCache billCache;
 
-    // GET /api/billing/{id} - get billing details for a reservation
+    // GET /api/billing/{id} - get billing details for a reservation; the ETag follows the reservation's updatedAt
     @GetMapping("/{id}")
     public ResponseEntity<?> getBillingDetails(@PathVariable Long id) {
         log.info("Fetching billing for reservation {}", id);
 
         try {
+            // Unchanged reservations are billed from the cache without reading the database
+            BillCache.Cached cached = billCache.lookup(id);
+            if (cached != null) {
+                log.info("Bill for reservation {} served from cache", id);
+                return ETags.ok(ETags.strong(id, cached.updatedAt()), cached.bill());
+            }
+
             Optional<Reservation> reservationOpt = reservationService.getById(id);
 
             if (reservationOpt.isEmpty()) {
@@ -38,9 +51,10 @@ public class BillingController {
 
             Reservation reservation = reservationOpt.get();
             BillingService.BillDetails billDetails = billingService.calculate(reservation);
+            billCache.put(reservation, billDetails);
 
             log.info("Bill generated for reservation {}: ${}", id, billDetails.getGrandTotal());
-            return ResponseEntity.ok(billDetails);
+            return ETags.ok(ETags.strong(reservation), billDetails);
             
         } catch (IllegalArgumentException e) {
             log.error("Validation error for reservation {}: {}", id, e.getMessage());
@@ -53,6 +67,35 @@ public class BillingController {
         }
     }
 
+    // GET /api/billing/cache/stats - bill cache size and hit/miss counters
+    @GetMapping("/cache/stats")
+    public ResponseEntity<BillCache.Stats> getCacheStats() {
+        return ResponseEntity.ok(billCache.stats());
+    }
+
+    // POST /api/billing/batch - bills for a list of reservation IDs or a check-in date range, streamed as a JSON array
+    @PostMapping("/batch")
+    public ResponseEntity<StreamingResponseBody> getBatchBillingDetails(@RequestBody BillingBatchService.BatchRequest request) {
+        log.info("Received batch billing request");
+
+        // Validate up front - once streaming starts the status code is already sent
+        billingBatchService.validate(request);
+
+        // Entries are written as each chunk is priced; per-reservation failures appear as entries with an error
+        StreamingResponseBody body = out -> billingBatchService.write(request, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    // Validation errors thrown outside a try/catch (e.g. by the batch endpoint) get the usual error body
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<?> handleInvalidRequest(IllegalArgumentException e) {
+        log.error("Invalid billing request: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse(e.getMessage()));
+    }
+
     // Error response wrapper
     private static class ErrorResponse {
         private final String error;
@@ -0,0 +1,30 @@
+package com.oceanview.reservation.controller;
+
+import com.oceanview.reservation.service.DashboardCounters;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+// Handles dashboard API requests - serves the live reservation counters
+@RestController
+@RequestMapping("/api/dashboard")
+@CrossOrigin(origins = "*")
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardController {
+
+    private final DashboardCounters dashboardCounters;
+
+    // GET /api/dashboard/summary - status counts, check-ins and occupancy for today (or ?date=)
+    @GetMapping("/summary")
+    public ResponseEntity<DashboardCounters.Summary> getSummary(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        LocalDate day = date != null ? date : LocalDate.now();
+        log.debug("Fetching dashboard summary for {}", day);
+        return ResponseEntity.ok(dashboardCounters.summary(day));
+    }
+}
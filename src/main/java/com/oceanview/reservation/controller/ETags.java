@@ -0,0 +1,121 @@
+package com.oceanview.reservation.controller;
+
+import com.oceanview.reservation.model.Reservation;
+import com.oceanview.reservation.model.ReservationSummary;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+// Entity tags for reservation responses. Returning them on a ResponseEntity is enough: for a GET whose
+// If-None-Match matches, Spring answers 304 and the body is never serialized.
+final class ETags {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private ETags() {
+    }
+
+    // Strong tag for one reservation (or its bill) - changes whenever updatedAt does; null if it was never saved
+    static String strong(Long id, LocalDateTime updatedAt) {
+        if (id == null || updatedAt == null) {
+            return null;
+        }
+        return "\"" + id + "-" + Long.toString(micros(updatedAt), 36) + "\"";
+    }
+
+    static String strong(Reservation reservation) {
+        return strong(reservation.getId(), reservation.getUpdatedAt());
+    }
+
+    // Weak tag for a list: row count, newest updatedAt and a hash of the ids and updatedAt values in order, so a row
+    // dropping out and another taking its place also changes the tag. extra covers anything else in the body
+    // (e.g. the next-page cursor).
+    static String weak(List<Reservation> reservations, String extra) {
+        return weak(reservations, Reservation::getId, Reservation::getUpdatedAt, extra);
+    }
+
+    static String weakSummaries(List<ReservationSummary> summaries, String extra) {
+        return weak(summaries, ReservationSummary::id, ReservationSummary::updatedAt, extra);
+    }
+
+    private static <T> String weak(List<T> rows, Function<T, Long> id, Function<T, LocalDateTime> updatedAt,
+                                   String extra) {
+        long newest = Long.MIN_VALUE;
+        long hash = 17;
+        for (T row : rows) {
+            long updated = updatedAt.apply(row) != null ? micros(updatedAt.apply(row)) : 0;
+            newest = Math.max(newest, updated);
+            hash = 31 * (31 * hash + (id.apply(row) != null ? id.apply(row) : 0)) + updated;
+        }
+        if (extra != null) {
+            hash = 31 * hash + extra.hashCode();
+        }
+        return "W/\"" + rows.size() + "-" + Long.toString(Math.max(newest, 0), 36)
+                + "-" + Long.toHexString(hash) + "\"";
+    }
+
+    // 200 with the tag set, if there is one. The body may be JSON, Smile or CBOR depending on Accept; each
+    // encoding gets its own tag (see forFormat), and Vary tells caches the body depends on Accept.
+    static <T> ResponseEntity<T> ok(String etag, T body) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT);
+        if (etag != null) {
+            builder.eTag(forFormat(etag, currentAccept()));
+        }
+        return builder.body(body);
+    }
+
+    // A tag promises the exact bytes, so Smile and CBOR bodies get a suffix; JSON (the default) keeps the plain
+    // tag. The format is the Accept entry content negotiation would pick: highest quality first, JSON for */*.
+    static String forFormat(String etag, String accept) {
+        if (accept == null || accept.isBlank()) {
+            return etag;
+        }
+        List<MediaType> acceptable;
+        try {
+            acceptable = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException e) {
+            return etag;
+        }
+        acceptable.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType mediaType : acceptable) {
+            if (mediaType.getQualityValue() == 0) {
+                break;
+            }
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return etag;
+            }
+            if (mediaType.isCompatibleWith(SMILE)) {
+                return withSuffix(etag, "smile");
+            }
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+                return withSuffix(etag, "cbor");
+            }
+        }
+        return etag;
+    }
+
+    private static String withSuffix(String etag, String suffix) {
+        return etag.substring(0, etag.length() - 1) + "-" + suffix + "\"";
+    }
+
+    private static String currentAccept() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes.getRequest().getHeader(HttpHeaders.ACCEPT)
+                : null;
+    }
+
+    // Microsecond precision, as stored, so a copy reloaded from the database has the same tag
+    private static long micros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000;
+    }
+}
@@ -0,0 +1,82 @@
+package com.oceanview.reservation.controller;
+
+import com.oceanview.reservation.service.ReportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+// Handles report API requests - occupancy and revenue aggregates
+@RestController
+@RequestMapping("/api/reports")
+@CrossOrigin(origins = "*")
+@RequiredArgsConstructor
+@Slf4j
+public class ReportController {
+
+    private final ReportService reportService;
+
+    // GET /api/reports/occupancy?date= - rooms occupied on the night of date, per room type
+    @GetMapping("/occupancy")
+    public ResponseEntity<?> getOccupancy(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        log.info("Generating occupancy report for {}", date);
+
+        try {
+            return ResponseEntity.ok(reportService.occupancy(date));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid occupancy report request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ErrorResponse(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error generating occupancy report for {}", date, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("Failed to generate occupancy report: " + e.getMessage()));
+        }
+    }
+
+    // GET /api/reports/revenue?from=&to=&granularity=day|month - revenue of stays checking in within the range
+    @GetMapping("/revenue")
+    public ResponseEntity<?> getRevenue(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String granularity) {
+        log.info("Generating revenue report {} to {} ({})", from, to, granularity);
+
+        try {
+            ReportService.Granularity period = granularity == null ? null : ReportService.Granularity.from(granularity);
+            return ResponseEntity.ok(reportService.revenue(from, to, period));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid revenue report request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ErrorResponse(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error generating revenue report {} to {}", from, to, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("Failed to generate revenue report: " + e.getMessage()));
+        }
+    }
+
+    // Error response wrapper
+    private static class ErrorResponse {
+        private final String error;
+        private final long timestamp;
+
+        public ErrorResponse(String error) {
+            this.error = error;
+            this.timestamp = System.currentTimeMillis();
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+    }
+}
@@ -1,16 +1,33 @@
 package com.oceanview.reservation.controller;
 
 import com.oceanview.reservation.model.Reservation;
+import com.oceanview.reservation.model.ReservationSummary;
+import com.oceanview.reservation.service.ReservationBitmapIndex;
+import com.oceanview.reservation.service.ReservationExportService;
+import com.oceanview.reservation.service.ReservationImportService;
 import com.oceanview.reservation.service.ReservationService;
 import jakarta.validation.Valid;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 // Handles all reservation CRUD operations via REST API
 @RestController
@@ -21,6 +38,8 @@ import java.util.Optional;
 public class ReservationController {
 
     private final ReservationService reservationService;
+    private final ReservationExportService reservationExportService;
+    private final ReservationImportService reservationImportService;
 
     // POST /api/reservations - create a new reservation
     @PostMapping
@@ -42,7 +61,38 @@ public class ReservationController {
         }
     }
 
-    // GET /api/reservations/{id} - get a single reservation
+    // GET /api/reservations/search?q= - best matching reservations by guest name, email or contact number
+    @GetMapping("/search")
+    public ResponseEntity<List<Reservation>> searchReservations(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer limit) {
+        log.info("Searching reservations for '{}'", q);
+        List<Reservation> reservations = reservationService.searchByGuest(q, limit);
+        return ETags.ok(ETags.weak(reservations, null), reservations);
+    }
+
+    // GET /api/reservations/count - reservations matching the filters, in total and per status and room type.
+    // status and roomType take comma-separated values (any of them matches); from/to bound the check-in date.
+    @GetMapping("/count")
+    public ResponseEntity<?> countReservations(
+            @RequestParam(required = false) List<String> status,
+            @RequestParam(required = false) List<String> roomType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.info("Counting reservations (status={}, roomType={}, from={}, to={})", status, roomType, from, to);
+
+        try {
+            ReservationBitmapIndex.Criteria criteria = new ReservationBitmapIndex.Criteria(
+                    upperCase(status), upperCase(roomType), from, to);
+            return ResponseEntity.ok(reservationService.count(criteria));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid reservation count request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ErrorResponse(e.getMessage()));
+        }
+    }
+
+    // GET /api/reservations/{id} - get a single reservation; 304 if If-None-Match still matches its ETag
     @GetMapping("/{id}")
     public ResponseEntity<?> getReservationById(@PathVariable Long id) {
         log.info("Fetching reservation {}", id);
@@ -51,7 +101,7 @@ public class ReservationController {
         
         if (reservation.isPresent()) {
             log.info("Reservation found: {}", id);
-            return ResponseEntity.ok(reservation.get());
+            return ETags.ok(ETags.strong(reservation.get()), reservation.get());
         } else {
             log.warn("Reservation not found: {}", id);
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -59,19 +109,40 @@ public class ReservationController {
         }
     }
 
-    // GET /api/reservations - list all or search by guest name
+    // GET /api/reservations - one page of reservations (newest first) with optional filters
+    // Pass the returned nextCursor back as ?cursor= to get the following page; ?view=summary for list columns only
     @GetMapping
-    public ResponseEntity<List<Reservation>> getAllReservations(
-            @RequestParam(required = false) String guestName) {
+    public ResponseEntity<?> getAllReservations(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String roomType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String guestName,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "full") String view) {
 
-        if (guestName != null && !guestName.trim().isEmpty()) {
-            log.info("Searching reservations for: {}", guestName);
-            List<Reservation> reservations = reservationService.searchByGuest(guestName);
-            return ResponseEntity.ok(reservations);
-        } else {
-            log.info("Fetching all reservations");
-            List<Reservation> reservations = reservationService.listAll();
-            return ResponseEntity.ok(reservations);
+        log.info("Fetching reservations page (status={}, roomType={}, from={}, to={}, guest={})",
+                 status, roomType, from, to, guestName);
+
+        try {
+            ReservationService.ReservationFilter filter = new ReservationService.ReservationFilter(
+                    status == null || status.isBlank() ? null : status.toUpperCase(),
+                    roomType == null || roomType.isBlank() ? null : roomType.toUpperCase(),
+                    from, to, guestName);
+            if (isSummary(view)) {
+                ReservationService.ReservationPage<ReservationSummary> page =
+                        reservationService.listSummaryPage(filter, cursor, limit);
+                log.info("Returning {} reservation summaries", page.getItems().size());
+                return ETags.ok(ETags.weakSummaries(page.getItems(), page.getNextCursor()), page);
+            }
+            ReservationService.ReservationPage<Reservation> page = reservationService.listPage(filter, cursor, limit);
+            log.info("Returning {} reservations", page.getItems().size());
+            return ETags.ok(ETags.weak(page.getItems(), page.getNextCursor()), page);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid reservation listing request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ErrorResponse(e.getMessage()));
         }
     }
 
@@ -97,6 +168,10 @@ public class ReservationController {
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                         .body(new ErrorResponse(e.getMessage()));
             }
+        } catch (IllegalStateException | OptimisticLockingFailureException e) {
+            log.warn("Conflict updating reservation {}: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(new ErrorResponse(e.getMessage()));
         } catch (Exception e) {
             log.error("Error updating reservation {}", id, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -104,30 +179,38 @@ public class ReservationController {
         }
     }
 
-    // PATCH /api/reservations/{id}/status - update only the reservation status
+    // PATCH /api/reservations/{id}/status - move the reservation along its lifecycle with one conditional update.
+    // Pass the version you last read to only change that version; 409 when the move is not allowed or the
+    // reservation changed in the meantime.
     @PatchMapping("/{id}/status")
     public ResponseEntity<?> updateReservationStatus(
             @PathVariable Long id,
-            @RequestBody java.util.Map<String, String> body) {
+            @RequestBody StatusChange body) {
 
-        String newStatus = body.get("status");
-        log.info("Updating status of reservation {} to {}", id, newStatus);
+        log.info("Updating status of reservation {} to {}", id, body.getStatus());
 
-        if (newStatus == null || newStatus.isBlank()) {
+        if (body.getStatus() == null || body.getStatus().isBlank()) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(new ErrorResponse("Status is required"));
         }
 
         try {
-            Reservation existing = reservationService.getById(id)
-                    .orElseThrow(() -> new IllegalArgumentException("Reservation not found with ID: " + id));
-            existing.setStatus(newStatus.toUpperCase());
-            Reservation saved = reservationService.save(existing);
-            log.info("Reservation {} status updated to {}", id, newStatus);
+            Reservation saved = reservationService.transition(id, body.getStatus(), body.getVersion());
+            log.info("Reservation {} status updated to {}", id, saved.getStatus());
             return ResponseEntity.ok(saved);
         } catch (IllegalArgumentException e) {
             log.error("Error updating status for reservation {}: {}", id, e.getMessage());
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+
+            if (e.getMessage().contains("not found")) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(new ErrorResponse(e.getMessage()));
+            } else {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(new ErrorResponse(e.getMessage()));
+            }
+        } catch (IllegalStateException | OptimisticLockingFailureException e) {
+            log.warn("Conflict updating status of reservation {}: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT)
                     .body(new ErrorResponse(e.getMessage()));
         } catch (Exception e) {
             log.error("Error updating reservation status {}", id, e);
@@ -136,6 +219,61 @@ public class ReservationController {
         }
     }
 
+    // PATCH /api/reservations/status - move many reservations to one status in a single update.
+    // Reservations whose status cannot move there are skipped; 409 (and nothing changed) if any of the others
+    // changed while the request ran.
+    @PatchMapping("/status")
+    public ResponseEntity<?> updateReservationStatuses(@RequestBody BulkStatusChange body) {
+        log.info("Updating status of {} reservation(s) to {}",
+                 body.getIds() == null ? 0 : body.getIds().size(), body.getStatus());
+
+        try {
+            return ResponseEntity.ok(reservationService.transitionAll(body.getIds(), body.getStatus()));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid bulk status request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ErrorResponse(e.getMessage()));
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("Conflict in bulk status update: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(new ErrorResponse(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error updating reservation statuses", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("Failed to update statuses: " + e.getMessage()));
+        }
+    }
+
+    // POST /api/reservations/{id}/check-in - check the guest in and assign a room of the booked type
+    @PostMapping("/{id}/check-in")
+    public ResponseEntity<?> checkIn(@PathVariable Long id) {
+        log.info("Checking in reservation {}", id);
+
+        try {
+            Reservation checkedIn = reservationService.checkIn(id);
+            log.info("Reservation {} checked in to room {}", id, checkedIn.getRoomNumber());
+            return ResponseEntity.ok(checkedIn);
+        } catch (IllegalArgumentException e) {
+            log.error("Error checking in reservation {}: {}", id, e.getMessage());
+
+            if (e.getMessage().contains("not found")) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(new ErrorResponse(e.getMessage()));
+            } else {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(new ErrorResponse(e.getMessage()));
+            }
+        } catch (IllegalStateException | OptimisticLockingFailureException e) {
+            log.warn("Conflict checking in reservation {}: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(new ErrorResponse(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error checking in reservation {}", id, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("Failed to check in: " + e.getMessage()));
+        }
+    }
+
     // DELETE /api/reservations/{id} - delete a reservation
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteReservation(@PathVariable Long id) {
@@ -158,38 +296,147 @@ public class ReservationController {
 
     // GET /api/reservations/status/{status} - filter by status
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<Reservation>> getReservationsByStatus(@PathVariable String status) {
+    public ResponseEntity<?> getReservationsByStatus(@PathVariable String status,
+                                                     @RequestParam(defaultValue = "full") String view) {
         log.info("Fetching reservations with status: {}", status);
+        if (isSummary(view)) {
+            List<ReservationSummary> summaries = reservationService.getSummariesByStatus(status.toUpperCase());
+            return ETags.ok(ETags.weakSummaries(summaries, null), summaries);
+        }
         List<Reservation> reservations = reservationService.getByStatus(status.toUpperCase());
         log.info("Found {} reservations with status {}", reservations.size(), status);
-        return ResponseEntity.ok(reservations);
+        return ETags.ok(ETags.weak(reservations, null), reservations);
     }
 
     // GET /api/reservations/active - currently occupied rooms
     @GetMapping("/active")
-    public ResponseEntity<List<Reservation>> getActiveReservations() {
+    public ResponseEntity<?> getActiveReservations(@RequestParam(defaultValue = "full") String view) {
         log.info("Fetching active reservations");
+        if (isSummary(view)) {
+            List<ReservationSummary> summaries = reservationService.getActiveSummaries();
+            return ETags.ok(ETags.weakSummaries(summaries, null), summaries);
+        }
         List<Reservation> reservations = reservationService.getActiveReservations();
         log.info("Found {} active reservations", reservations.size());
-        return ResponseEntity.ok(reservations);
+        return ETags.ok(ETags.weak(reservations, null), reservations);
     }
 
     // GET /api/reservations/upcoming - future check-ins
     @GetMapping("/upcoming")
-    public ResponseEntity<List<Reservation>> getUpcomingReservations() {
+    public ResponseEntity<?> getUpcomingReservations(@RequestParam(defaultValue = "full") String view) {
         log.info("Fetching upcoming reservations");
+        if (isSummary(view)) {
+            List<ReservationSummary> summaries = reservationService.getUpcomingSummaries();
+            return ETags.ok(ETags.weakSummaries(summaries, null), summaries);
+        }
         List<Reservation> reservations = reservationService.getUpcomingReservations();
         log.info("Found {} upcoming reservations", reservations.size());
-        return ResponseEntity.ok(reservations);
+        return ETags.ok(ETags.weak(reservations, null), reservations);
     }
 
     // GET /api/reservations/recent - latest reservations first
     @GetMapping("/recent")
-    public ResponseEntity<List<Reservation>> getRecentReservations() {
+    public ResponseEntity<?> getRecentReservations(@RequestParam(defaultValue = "full") String view) {
         log.info("Fetching recent reservations");
+        if (isSummary(view)) {
+            List<ReservationSummary> summaries = reservationService.getRecentSummaries();
+            return ETags.ok(ETags.weakSummaries(summaries, null), summaries);
+        }
         List<Reservation> reservations = reservationService.getRecentReservations();
         log.info("Retrieved {} recent reservations", reservations.size());
-        return ResponseEntity.ok(reservations);
+        return ETags.ok(ETags.weak(reservations, null), reservations);
+    }
+
+    // GET /api/reservations/export?format=ndjson|csv - stream all reservations (or a check-in range) as a download
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportReservations(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        log.info("Exporting reservations as {} (from={}, to={})", format, from, to);
+
+        // Validate up front - once streaming starts the status code is already sent
+        ReservationExportService.Format exportFormat = ReservationExportService.Format.from(format);
+        if ((from == null) != (to == null)) {
+            throw new IllegalArgumentException("Both from and to dates are required for a date range export");
+        }
+
+        // Rows are written to the response as they are read, nothing is collected in memory
+        StreamingResponseBody body = out -> reservationExportService.export(exportFormat, from, to, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"reservations." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
+    // POST /api/reservations/import - bulk load a CSV (text/csv) or NDJSON (application/x-ndjson) body,
+    // in the same layout as the export; responds with counts and the rows that were rejected
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<?> importReservations(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) throws IOException {
+
+        ReservationExportService.Format format = MediaType.parseMediaType("text/csv").isCompatibleWith(contentType)
+                ? ReservationExportService.Format.CSV
+                : ReservationExportService.Format.NDJSON;
+        log.info("Importing reservations ({})", format);
+
+        ReservationImportService.ImportReport report = reservationImportService.importReservations(format, body);
+        log.info("Import finished: {} imported, {} failed", report.getImported(), report.getFailed());
+        return ResponseEntity.ok(report);
+    }
+
+    // Validation errors thrown outside a try/catch (e.g. by the export endpoint) get the usual error body
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<?> handleInvalidRequest(IllegalArgumentException e) {
+        log.error("Invalid request: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse(e.getMessage()));
+    }
+
+    // PATCH /{id}/status body - version is optional
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StatusChange {
+        private String status;
+        private Long version;
+    }
+
+    // PATCH /status body
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BulkStatusChange {
+        private List<Long> ids;
+        private String status;
+    }
+
+    // ?view=summary selects the list columns only; full (the default) returns whole reservations
+    private static boolean isSummary(String view) {
+        if ("summary".equalsIgnoreCase(view)) {
+            return true;
+        }
+        if ("full".equalsIgnoreCase(view)) {
+            return false;
+        }
+        throw new IllegalArgumentException("view must be 'full' or 'summary'");
+    }
+
+    // Trimmed, upper-cased filter values; null when none are given
+    private static Set<String> upperCase(List<String> values) {
+        if (values == null) {
+            return null;
+        }
+        Set<String> result = new LinkedHashSet<>();
+        for (String value : values) {
+            if (value != null && !value.isBlank()) {
+                result.add(value.trim().toUpperCase());
+            }
+        }
+        return result.isEmpty() ? null : result;
     }
 
     // Error response wrapper
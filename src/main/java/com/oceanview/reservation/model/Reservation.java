@@ -6,7 +6,10 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.id.enhanced.TableGenerator;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -20,8 +23,18 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class Reservation {
 
+    // Ids are handed out in blocks of 100 from the id_generator table (pooled-lo: the stored value is the
+    // last id of the newest block), so inserts can be batched - IDENTITY needs a round trip per row
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "reservation_id")
+    @GenericGenerator(name = "reservation_id", type = TableGenerator.class, parameters = {
+        @Parameter(name = TableGenerator.TABLE_PARAM, value = "id_generator"),
+        @Parameter(name = TableGenerator.SEGMENT_COLUMN_PARAM, value = "sequence_name"),
+        @Parameter(name = TableGenerator.VALUE_COLUMN_PARAM, value = "next_val"),
+        @Parameter(name = TableGenerator.SEGMENT_VALUE_PARAM, value = "reservation"),
+        @Parameter(name = TableGenerator.INCREMENT_PARAM, value = "100"),
+        @Parameter(name = TableGenerator.OPT_PARAM, value = "pooled-lo")
+    })
     private Long id;
 
     @NotBlank(message = "Guest full name is required")
@@ -70,8 +83,15 @@ public class Reservation {
     @Column(name = "special_requests", length = 500)
     private String specialRequests;
 
+    @Pattern(regexp = "^(PENDING|CONFIRMED|CHECKED_IN|CHECKED_OUT|CANCELLED)$",
+             message = "Status must be PENDING, CONFIRMED, CHECKED_IN, CHECKED_OUT, or CANCELLED")
+    // Null until persisted (then PENDING), so a PUT body without a status leaves the status alone
     @Column(name = "status", length = 20)
-    private String status = "PENDING";
+    private String status;
+
+    // Room assigned at check-in (null until then)
+    @Column(name = "room_number", length = 10)
+    private String roomNumber;
 
     @Column(name = "total_amount", precision = 10, scale = 2)
     private BigDecimal totalAmount;
@@ -84,6 +104,11 @@ public class Reservation {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Bumped on every write; a write made from an older version is rejected (optimistic locking)
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     // Make sure check-out is after check-in
     @AssertTrue(message = "Check-out date must be after check-in date")
     public boolean isValidDateRange() {
@@ -0,0 +1,49 @@
+package com.oceanview.reservation.model;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+// Reservation lifecycle: PENDING -> CONFIRMED -> CHECKED_IN -> CHECKED_OUT, or CANCELLED before check-in.
+// A pending booking may also be checked in straight away. Stored by name in reservation.status.
+public enum ReservationStatus {
+    PENDING, CONFIRMED, CHECKED_IN, CHECKED_OUT, CANCELLED;
+
+    // Statuses this one may move to
+    public Set<ReservationStatus> next() {
+        return switch (this) {
+            case PENDING -> EnumSet.of(CONFIRMED, CHECKED_IN, CANCELLED);
+            case CONFIRMED -> EnumSet.of(CHECKED_IN, CANCELLED);
+            case CHECKED_IN -> EnumSet.of(CHECKED_OUT);
+            case CHECKED_OUT, CANCELLED -> EnumSet.noneOf(ReservationStatus.class);
+        };
+    }
+
+    public boolean canMoveTo(ReservationStatus target) {
+        return next().contains(target);
+    }
+
+    // Statuses that may move to the target
+    public static Set<ReservationStatus> sourcesOf(ReservationStatus target) {
+        Set<ReservationStatus> sources = EnumSet.noneOf(ReservationStatus.class);
+        for (ReservationStatus status : values()) {
+            if (status.canMoveTo(target)) {
+                sources.add(status);
+            }
+        }
+        return sources;
+    }
+
+    // Parse a status name, ignoring case
+    public static ReservationStatus from(String value) {
+        if (value != null) {
+            for (ReservationStatus status : values()) {
+                if (status.name().equalsIgnoreCase(value.trim())) {
+                    return status;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Unknown status: " + value + " (expected one of "
+                + Arrays.toString(values()) + ")");
+    }
+}
@@ -0,0 +1,23 @@
+package com.oceanview.reservation.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// The columns the reservation lists show (?view=summary). Selected straight into this record, so a list never
+// loads contact details or special requests and no entity is put in the persistence context.
+// createdAt and updatedAt are kept for paging cursors and list ETags.
+public record ReservationSummary(
+        Long id,
+        String guestFullName,
+        String roomType,
+        LocalDate checkIn,
+        LocalDate checkOut,
+        Integer numberOfGuests,
+        String status,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    // JPQL select list matching the constructor, for "SELECT new ...ReservationSummary(" + COLUMNS + ")"
+    public static final String COLUMNS = "r.id, r.guestFullName, r.roomType, r.checkIn, r.checkOut, "
+            + "r.numberOfGuests, r.status, r.createdAt, r.updatedAt";
+}
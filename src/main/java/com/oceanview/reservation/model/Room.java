@@ -0,0 +1,25 @@
+package com.oceanview.reservation.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Room entity - one bookable room; bookings are counted against the rooms of their type
+@Entity
+@Table(name = "room")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Room {
+
+    @Id
+    @Column(name = "room_number", length = 10)
+    private String roomNumber;
+
+    @Column(name = "room_type", nullable = false, length = 20)
+    private String roomType;
+}
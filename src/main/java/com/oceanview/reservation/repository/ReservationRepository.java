@@ -1,20 +1,35 @@
 package com.oceanview.reservation.repository;
 
 import com.oceanview.reservation.model.Reservation;
+import com.oceanview.reservation.model.ReservationSummary;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+import static org.hibernate.jpa.HibernateHints.HINT_TIMEOUT;
 
 // Database access layer for reservations - Spring Data JPA handles the implementation
 @Repository
-public interface ReservationRepository extends JpaRepository<Reservation, Long> {
+public interface ReservationRepository extends JpaRepository<Reservation, Long>,
+                                               JpaSpecificationExecutor<Reservation>,
+                                               ReservationSummaryQueries {
 
-    // Search by guest name (case-insensitive partial match)
-    List<Reservation> findByGuestFullNameContainingIgnoreCase(String name);
+    String SELECT_SUMMARY = "SELECT new com.oceanview.reservation.model.ReservationSummary("
+            + ReservationSummary.COLUMNS + ") FROM Reservation r ";
 
     // Find by email
     List<Reservation> findByEmail(String email);
@@ -22,6 +37,9 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     // Find by status (PENDING, CONFIRMED, CANCELLED, etc.)
     List<Reservation> findByStatus(String status);
 
+    // Find by any of several statuses (used to warm in-memory indexes)
+    List<Reservation> findByStatusIn(Collection<String> statuses);
+
     // Find by room type
     List<Reservation> findByRoomType(String roomType);
 
@@ -38,7 +56,7 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     List<Reservation> findByCheckOutBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
     // Find currently occupied rooms (check-in <= today < check-out)
-    @Query("SELECT r FROM Reservation r WHERE r.checkIn <= :currentDate AND r.checkOut > :currentDate AND r.status = 'CONFIRMED'")
+    @Query("SELECT r FROM Reservation r WHERE r.checkIn <= :currentDate AND r.checkOut > :currentDate AND r.status IN ('CONFIRMED', 'CHECKED_IN')")
     List<Reservation> findActiveReservations(@Param("currentDate") LocalDate currentDate);
 
     // Find future reservations
@@ -48,20 +66,171 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     // Find by phone number
     List<Reservation> findByContactNumber(String contactNumber);
 
-    // Check for double-booking (overlapping dates for same room type)
-    @Query("SELECT COUNT(r) FROM Reservation r WHERE r.roomType = :roomType " +
-           "AND r.status IN ('PENDING', 'CONFIRMED') " +
-           "AND NOT (r.checkOut <= :checkIn OR r.checkIn >= :checkOut)")
-    long countConflictingReservations(@Param("roomType") String roomType,
-                                       @Param("checkIn") LocalDate checkIn,
-                                       @Param("checkOut") LocalDate checkOut);
+    // Stays of one room type in the given statuses that overlap [checkIn, checkOut), other than excludeId
+    // (rooms booked per night before the occupancy index is warm)
+    @Query("SELECT r.roomType AS roomType, r.checkIn AS checkIn, r.checkOut AS checkOut FROM Reservation r " +
+           "WHERE r.roomType = :roomType AND r.status IN :statuses " +
+           "AND r.checkIn < :checkOut AND r.checkOut > :checkIn " +
+           "AND (:excludeId IS NULL OR r.id <> :excludeId)")
+    List<StayRange> findStaysOfRoomTypeOverlapping(@Param("roomType") String roomType,
+                                                   @Param("statuses") Collection<String> statuses,
+                                                   @Param("checkIn") LocalDate checkIn,
+                                                   @Param("checkOut") LocalDate checkOut,
+                                                   @Param("excludeId") Long excludeId);
+
+    // Rooms already assigned to other stays of this room type that overlap [checkIn, checkOut) (check-in)
+    @Query("SELECT r.roomNumber FROM Reservation r WHERE r.roomType = :roomType AND r.status IN :statuses " +
+           "AND r.checkIn < :checkOut AND r.checkOut > :checkIn AND r.roomNumber IS NOT NULL " +
+           "AND r.id <> :excludeId")
+    List<String> findAssignedRoomNumbers(@Param("roomType") String roomType,
+                                         @Param("statuses") Collection<String> statuses,
+                                         @Param("checkIn") LocalDate checkIn,
+                                         @Param("checkOut") LocalDate checkOut,
+                                         @Param("excludeId") Long excludeId);
 
     // Find reservations created within a date range (for reporting)
-    @Query("SELECT r FROM Reservation r WHERE r.createdAt >= :startDate AND r.createdAt < :endDate ORDER BY r.createdAt DESC")
-    List<Reservation> findReservationsCreatedBetween(@Param("startDate") LocalDate startDate,
-                                                      @Param("endDate") LocalDate endDate);
-
-    // Get all reservations ordered by newest first
-    @Query("SELECT r FROM Reservation r ORDER BY r.createdAt DESC")
-    List<Reservation> findAllOrderByCreatedAtDesc();
+    @Query("SELECT r FROM Reservation r WHERE r.createdAt >= :startTime AND r.createdAt < :endTime ORDER BY r.createdAt DESC")
+    List<Reservation> findReservationsCreatedBetween(@Param("startTime") LocalDateTime startTime,
+                                                      @Param("endTime") LocalDateTime endTime);
+
+    // Get the newest reservations first (read from the (created_at, id) index, so keep the limit small)
+    @Query("SELECT r FROM Reservation r ORDER BY r.createdAt DESC, r.id DESC")
+    List<Reservation> findAllOrderByCreatedAtDesc(Limit limit);
+
+    // Summary projections of the list queries above - only the columns the list views show
+
+    @Query(SELECT_SUMMARY + "WHERE r.status = :status")
+    List<ReservationSummary> findSummariesByStatus(@Param("status") String status);
+
+    @Query(SELECT_SUMMARY + "WHERE r.checkIn <= :currentDate AND r.checkOut > :currentDate AND r.status IN ('CONFIRMED', 'CHECKED_IN')")
+    List<ReservationSummary> findActiveSummaries(@Param("currentDate") LocalDate currentDate);
+
+    @Query(SELECT_SUMMARY + "WHERE r.checkIn > :currentDate AND r.status IN ('PENDING', 'CONFIRMED') ORDER BY r.checkIn ASC")
+    List<ReservationSummary> findUpcomingSummaries(@Param("currentDate") LocalDate currentDate);
+
+    @Query(SELECT_SUMMARY + "ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReservationSummary> findRecentSummaries(Limit limit);
+
+    // Stream every reservation in id order for exports (rows are fetched from the cursor in batches)
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("SELECT r FROM Reservation r ORDER BY r.id")
+    Stream<Reservation> streamAll();
+
+    // Stream reservations checking in within a date range, in id order
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("SELECT r FROM Reservation r WHERE r.checkIn BETWEEN :startDate AND :endDate ORDER BY r.id")
+    Stream<Reservation> streamByCheckInBetween(@Param("startDate") LocalDate startDate,
+                                               @Param("endDate") LocalDate endDate);
+
+    // Stream reservations that are still in progress or upcoming (check-out after the given date)
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("SELECT r FROM Reservation r WHERE r.checkOut > :date")
+    Stream<Reservation> streamByCheckOutAfter(@Param("date") LocalDate date);
+
+    // Bookings in the given statuses that overlap [checkIn, checkOut), all room types (availability search)
+    @Query("SELECT r.roomType AS roomType, r.checkIn AS checkIn, r.checkOut AS checkOut FROM Reservation r " +
+           "WHERE r.status IN :statuses AND r.checkIn < :checkOut AND r.checkOut > :checkIn")
+    List<StayRange> findStaysOverlapping(@Param("statuses") Collection<String> statuses,
+                                         @Param("checkIn") LocalDate checkIn,
+                                         @Param("checkOut") LocalDate checkOut);
+
+    // Stream just the guest search fields of every reservation (used to warm the guest search index)
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("SELECT r.id AS id, r.guestFullName AS guestFullName, r.email AS email, " +
+           "r.contactNumber AS contactNumber, r.createdAt AS createdAt FROM Reservation r")
+    Stream<GuestKey> streamGuestKeys();
+
+    // Stream the filter fields of every reservation, oldest first (used to warm the reservation bitmap index)
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("SELECT r.id AS id, r.status AS status, r.roomType AS roomType, r.checkIn AS checkIn, " +
+           "r.createdAt AS createdAt FROM Reservation r ORDER BY r.id")
+    Stream<FilterKey> streamFilterKeys();
+
+    // Number of reservations per status, as [status, count] rows
+    @Query("SELECT r.status, COUNT(r) FROM Reservation r GROUP BY r.status")
+    List<Object[]> countGroupedByStatus();
+
+    // Report aggregates - grouped in the database so only a handful of rows come back, whatever the range.
+    // Revenue rows are keyed by stay length so each group can be priced exactly with BillingService.
+
+    // Non-cancelled stays checking in within the range, per room type, check-in day and number of nights
+    @QueryHints(@QueryHint(name = HINT_TIMEOUT, value = "30"))
+    @Query("SELECT r.roomType AS roomType, r.checkIn AS checkIn, (r.checkOut - r.checkIn) BY DAY AS nights, " +
+           "COUNT(r) AS reservations FROM Reservation r " +
+           "WHERE r.checkIn BETWEEN :startDate AND :endDate AND r.status <> 'CANCELLED' " +
+           "GROUP BY r.roomType, r.checkIn, (r.checkOut - r.checkIn) BY DAY")
+    List<DailyStayGroup> sumStaysByDay(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // Same as above but per check-in month, for long ranges
+    @QueryHints(@QueryHint(name = HINT_TIMEOUT, value = "30"))
+    @Query("SELECT r.roomType AS roomType, YEAR(r.checkIn) AS year, MONTH(r.checkIn) AS month, " +
+           "(r.checkOut - r.checkIn) BY DAY AS nights, COUNT(r) AS reservations FROM Reservation r " +
+           "WHERE r.checkIn BETWEEN :startDate AND :endDate AND r.status <> 'CANCELLED' " +
+           "GROUP BY r.roomType, YEAR(r.checkIn), MONTH(r.checkIn), (r.checkOut - r.checkIn) BY DAY")
+    List<MonthlyStayGroup> sumStaysByMonth(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // Reservations checking in within the range, per status (cancelled included)
+    @QueryHints(@QueryHint(name = HINT_TIMEOUT, value = "30"))
+    @Query("SELECT r.status AS key, COUNT(r) AS reservations FROM Reservation r " +
+           "WHERE r.checkIn BETWEEN :startDate AND :endDate GROUP BY r.status")
+    List<CountGroup> countByStatusForCheckInBetween(@Param("startDate") LocalDate startDate,
+                                                    @Param("endDate") LocalDate endDate);
+
+    // Non-cancelled stays covering the night of the given date, per room type
+    @QueryHints(@QueryHint(name = HINT_TIMEOUT, value = "30"))
+    @Query("SELECT r.roomType AS key, COUNT(r) AS reservations FROM Reservation r " +
+           "WHERE r.checkIn <= :date AND r.checkOut > :date AND r.status <> 'CANCELLED' GROUP BY r.roomType")
+    List<CountGroup> countOccupiedByRoomType(@Param("date") LocalDate date);
+
+    // Status transitions - one conditional UPDATE each, bumping the version like a JPA write would.
+    // Bulk updates skip @UpdateTimestamp, so callers pass updatedAt.
+
+    // Move one reservation to newStatus if it still has the status and version the caller read; 0 rows otherwise
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Reservation r SET r.status = :newStatus, r.version = r.version + 1, r.updatedAt = :updatedAt " +
+           "WHERE r.id = :id AND r.status = :status AND r.version = :version")
+    int transitionStatus(@Param("id") Long id, @Param("status") String status, @Param("version") Long version,
+                         @Param("newStatus") String newStatus, @Param("updatedAt") LocalDateTime updatedAt);
+
+    interface GuestKey {
+        Long getId();
+        String getGuestFullName();
+        String getEmail();
+        String getContactNumber();
+        LocalDateTime getCreatedAt();
+    }
+
+    interface FilterKey {
+        Long getId();
+        String getStatus();
+        String getRoomType();
+        LocalDate getCheckIn();
+        LocalDateTime getCreatedAt();
+    }
+
+    interface StayRange {
+        String getRoomType();
+        LocalDate getCheckIn();
+        LocalDate getCheckOut();
+    }
+
+    interface DailyStayGroup {
+        String getRoomType();
+        LocalDate getCheckIn();
+        Long getNights();
+        Long getReservations();
+    }
+
+    interface MonthlyStayGroup {
+        String getRoomType();
+        Integer getYear();
+        Integer getMonth();
+        Long getNights();
+        Long getReservations();
+    }
+
+    interface CountGroup {
+        String getKey();
+        Long getReservations();
+    }
 }
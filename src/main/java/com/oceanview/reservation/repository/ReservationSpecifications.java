@@ -0,0 +1,64 @@
+package com.oceanview.reservation.repository;
+
+import com.oceanview.reservation.model.Reservation;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+// Reusable query filters for ReservationRepository (combine with Specification.where(...).and(...))
+public final class ReservationSpecifications {
+
+    private ReservationSpecifications() {
+    }
+
+    public static Specification<Reservation> hasStatus(String status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Reservation> hasRoomType(String roomType) {
+        return (root, query, cb) -> cb.equal(root.get("roomType"), roomType);
+    }
+
+    public static Specification<Reservation> statusIn(Collection<String> statuses) {
+        return (root, query, cb) -> root.get("status").in(statuses);
+    }
+
+    public static Specification<Reservation> roomTypeIn(Collection<String> roomTypes) {
+        return (root, query, cb) -> root.get("roomType").in(roomTypes);
+    }
+
+    // Check-in on or after the given date
+    public static Specification<Reservation> checkInFrom(LocalDate from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("checkIn"), from);
+    }
+
+    // Check-in on or before the given date
+    public static Specification<Reservation> checkInTo(LocalDate to) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("checkIn"), to);
+    }
+
+    // Case-insensitive partial match on guest name, email or contact number
+    public static Specification<Reservation> guestMatches(String text) {
+        String pattern = "%" + text.toLowerCase() + "%";
+        return (root, query, cb) -> cb.or(
+            cb.like(cb.lower(root.get("guestFullName")), pattern),
+            cb.like(cb.lower(root.get("email")), pattern),
+            cb.like(root.get("contactNumber"), pattern)
+        );
+    }
+
+    public static Specification<Reservation> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    // Keyset condition for newest-first paging: rows strictly after (createdAt, id) in DESC order.
+    // The leading createdAt <= bound keeps it a range on the (created_at, id) index; a bare OR is a table scan.
+    public static Specification<Reservation> createdBefore(LocalDateTime createdAt, Long id) {
+        return (root, query, cb) -> cb.and(
+            cb.lessThanOrEqualTo(root.get("createdAt"), createdAt),
+            cb.or(cb.lessThan(root.get("createdAt"), createdAt), cb.lessThan(root.get("id"), id))
+        );
+    }
+}
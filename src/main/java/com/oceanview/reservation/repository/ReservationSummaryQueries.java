@@ -0,0 +1,16 @@
+package com.oceanview.reservation.repository;
+
+import com.oceanview.reservation.model.Reservation;
+import com.oceanview.reservation.model.ReservationSummary;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+// Specification queries that select summaries instead of entities (Spring Data's fluent findBy(...).as(...)
+// still loads whole rows and converts them afterwards)
+public interface ReservationSummaryQueries {
+
+    // Summaries of the reservations matching the specification, in the given order, at most limit of them
+    List<ReservationSummary> findSummaries(Specification<Reservation> specification, Sort sort, int limit);
+}
@@ -0,0 +1,39 @@
+package com.oceanview.reservation.repository;
+
+import com.oceanview.reservation.model.Reservation;
+import com.oceanview.reservation.model.ReservationSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+// Picked up by Spring Data as the implementation of the ReservationSummaryQueries fragment
+class ReservationSummaryQueriesImpl implements ReservationSummaryQueries {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ReservationSummary> findSummaries(Specification<Reservation> specification, Sort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ReservationSummary> query = cb.createQuery(ReservationSummary.class);
+        Root<Reservation> r = query.from(Reservation.class);
+        Predicate predicate = specification.toPredicate(r, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        // Same columns, same order as ReservationSummary.COLUMNS
+        query.select(cb.construct(ReservationSummary.class, r.get("id"), r.get("guestFullName"), r.get("roomType"),
+                r.get("checkIn"), r.get("checkOut"), r.get("numberOfGuests"), r.get("status"), r.get("createdAt"),
+                r.get("updatedAt")));
+        query.orderBy(QueryUtils.toOrders(sort, r, cb));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+}
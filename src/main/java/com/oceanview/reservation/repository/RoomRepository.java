@@ -0,0 +1,10 @@
+package com.oceanview.reservation.repository;
+
+import com.oceanview.reservation.model.Room;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+// Database access layer for the room inventory
+@Repository
+public interface RoomRepository extends JpaRepository<Room, String> {
+}
@@ -0,0 +1,140 @@
+package com.oceanview.reservation.service;
+
+import com.oceanview.reservation.model.Reservation;
+import com.oceanview.reservation.repository.ReservationRepository;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Answers "which room types are free for these nights, and what would the stay cost" for every room type at once.
+// Rooms booked per night come from the occupancy index, or while it warms up from one query over the overlapping
+// bookings folded into a per-night difference array per room type. Free means what POST /api/reservations
+// checks: fewer bookings than rooms of the type on the night.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AvailabilityService {
+
+    // Same limit as daily report periods
+    static final long MAX_NIGHTS = 366;
+
+    private final ReservationRepository reservationRepository;
+    private final RoomOccupancyIndex occupancyIndex;
+    private final RoomInventory roomInventory;
+    private final BillingService billingService;
+
+    // Night-by-night availability and a full quote per room type for a stay from checkIn to checkOut
+    public Availability search(LocalDate checkIn, LocalDate checkOut, int guests) {
+        if (checkIn == null || checkOut == null) {
+            throw new IllegalArgumentException("from and to are required");
+        }
+        long nights = ChronoUnit.DAYS.between(checkIn, checkOut);
+        if (nights <= 0) {
+            throw new IllegalArgumentException("to must be after from");
+        }
+        if (nights > MAX_NIGHTS) {
+            throw new IllegalArgumentException("Date range cannot exceed " + MAX_NIGHTS + " nights");
+        }
+        if (guests < 1 || guests > 10) {
+            throw new IllegalArgumentException("guests must be between 1 and 10");
+        }
+
+        // Room types cheapest first, with the rooms booked on each night
+        List<String> types = billingService.getAllRoomRates().entrySet().stream()
+                .sorted(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .toList();
+        Map<String, int[]> booked = new LinkedHashMap<>();
+        if (occupancyIndex.isReady()) {
+            types.forEach(roomType -> booked.put(roomType, occupancyIndex.bookedPerNight(roomType, checkIn, checkOut, null)));
+        } else {
+            types.forEach(roomType -> booked.put(roomType, new int[(int) nights + 1]));
+            long first = checkIn.toEpochDay();
+            for (ReservationRepository.StayRange stay : reservationRepository.findStaysOverlapping(
+                    RoomOccupancyIndex.ACTIVE_STATUSES, checkIn, checkOut)) {
+                int[] counts = booked.get(stay.getRoomType());
+                if (counts != null) {
+                    counts[(int) (Math.max(stay.getCheckIn().toEpochDay(), first) - first)]++;
+                    counts[(int) (Math.min(stay.getCheckOut().toEpochDay() - first, nights))]--;
+                }
+            }
+            booked.values().forEach(counts -> {
+                for (int night = 1; night < counts.length; night++) {
+                    counts[night] += counts[night - 1];
+                }
+            });
+        }
+
+        List<RoomTypeAvailability> roomTypes = new ArrayList<>(booked.size());
+        booked.forEach((roomType, counts) -> {
+            int rooms = roomInventory.roomCount(roomType);
+            List<NightAvailability> perNight = new ArrayList<>((int) nights);
+            int fewestLeft = rooms;
+            for (int night = 0; night < nights; night++) {
+                int left = Math.max(rooms - counts[night], 0);
+                fewestLeft = Math.min(fewestLeft, left);
+                perNight.add(new NightAvailability(checkIn.plusDays(night), left > 0, left));
+            }
+            roomTypes.add(new RoomTypeAvailability(roomType, rooms, fewestLeft > 0, fewestLeft, perNight,
+                    quote(roomType, checkIn, checkOut, guests)));
+        });
+
+        log.debug("Availability {} to {}: {} of {} room types free", checkIn, checkOut,
+                roomTypes.stream().filter(RoomTypeAvailability::isAvailable).count(), roomTypes.size());
+        return new Availability(checkIn, checkOut, guests, nights, roomTypes);
+    }
+
+    // The bill a booking of this room type and stay would get
+    private BillingService.BillDetails quote(String roomType, LocalDate checkIn, LocalDate checkOut, int guests) {
+        Reservation stay = new Reservation();
+        stay.setRoomType(roomType);
+        stay.setCheckIn(checkIn);
+        stay.setCheckOut(checkOut);
+        stay.setNumberOfGuests(guests);
+        return billingService.calculate(stay);
+    }
+
+    // Availability search result DTO
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Availability {
+        private LocalDate from;
+        private LocalDate to;
+        private int guests;
+        private long nights;
+        private List<RoomTypeAvailability> roomTypes;
+    }
+
+    // One room type: free for the whole stay only if free every night; roomsLeft is the fewest left on any night
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RoomTypeAvailability {
+        private String roomType;
+        private int rooms;
+        private boolean available;
+        private int roomsLeft;
+        private List<NightAvailability> nights;
+        private BillingService.BillDetails quote;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class NightAvailability {
+        private LocalDate date;
+        private boolean available;
+        private int roomsLeft;
+    }
+}
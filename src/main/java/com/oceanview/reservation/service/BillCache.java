@@ -0,0 +1,139 @@
+package com.oceanview.reservation.service;
+
+import com.oceanview.reservation.model.Reservation;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// Least-recently-used cache of calculated bills, so repeated bill views (billing page, printing) are answered
+// without reading the reservation again. Entries are versioned by the reservation's updatedAt: every change
+// replaces the entry with a marker holding the new version, and a bill calculated from an older copy of the
+// reservation (read before the change committed) is never stored over it.
+@Component
+public class BillCache {
+
+    // Version marker for deleted reservations - nothing can be stored over it
+    private static final LocalDateTime DELETED = LocalDateTime.MAX;
+
+    private final int maxEntries;
+    private final Map<Long, Entry> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public BillCache(@Value("${billing.cache.max-entries:10000}") int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("billing.cache.max-entries must be at least 1");
+        }
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                if (size() > BillCache.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    // The cached bill for a reservation, or null if it has to be calculated
+    public BillingService.BillDetails get(Long reservationId) {
+        Cached cached = lookup(reservationId);
+        return cached != null ? cached.bill() : null;
+    }
+
+    // Like get, along with the updatedAt of the reservation the bill was calculated from
+    public Cached lookup(Long reservationId) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(reservationId);
+        }
+        if (entry == null || entry.bill == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return new Cached(entry.bill, entry.version.equals(LocalDateTime.MIN) ? null : entry.version);
+    }
+
+    // Store a bill calculated from this copy of the reservation, unless a newer version is already known
+    public void put(Reservation reservation, BillingService.BillDetails bill) {
+        if (reservation.getId() == null) {
+            return;
+        }
+        LocalDateTime version = versionOf(reservation);
+        synchronized (entries) {
+            Entry existing = entries.get(reservation.getId());
+            if (existing == null || !version.isBefore(existing.version)) {
+                entries.put(reservation.getId(), new Entry(version, bill));
+            }
+        }
+    }
+
+    // Drop the bill once a change commits; the marker keeps bills of the old version from coming back
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        LocalDateTime version = event.isDeleted() ? DELETED : versionOf(event.current());
+        synchronized (entries) {
+            entries.put(event.reservationId(), new Entry(version, null));
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public Stats stats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long lookups = hitCount + missCount;
+        return new Stats(size, maxEntries, hitCount, missCount, evictions.sum(),
+                lookups == 0 ? 0.0 : Math.round(hitCount * 1000.0 / lookups) / 10.0);
+    }
+
+    // Compared at the database's microsecond precision, so a reloaded copy matches the version it was saved with
+    private static LocalDateTime versionOf(Reservation reservation) {
+        return reservation.getUpdatedAt() != null
+                ? reservation.getUpdatedAt().truncatedTo(ChronoUnit.MICROS)
+                : LocalDateTime.MIN;
+    }
+
+    // A bill and the reservation version it was calculated from; bill is null for change markers
+    private record Entry(LocalDateTime version, BillingService.BillDetails bill) {
+    }
+
+    // A cached bill and the reservation updatedAt it was calculated from (null if the reservation had none)
+    public record Cached(BillingService.BillDetails bill, LocalDateTime updatedAt) {
+    }
+
+    // Cache statistics DTO - hitRate is a percentage of lookups
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Stats {
+        private int size;
+        private int maxEntries;
+        private long hits;
+        private long misses;
+        private long evictions;
+        private double hitRate;
+    }
+}
@@ -0,0 +1,190 @@
+package com.oceanview.reservation.service;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oceanview.reservation.model.Reservation;
+import com.oceanview.reservation.repository.ReservationRepository;
+import jakarta.persistence.EntityManager;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+// Bills many reservations in one request: loads them with a single query, prices them in parallel and streams
+// the results as a JSON array with one entry per reservation - its bill, or why it could not be billed
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BillingBatchService {
+
+    // Most reservation IDs accepted in one request (they are loaded with one IN query)
+    public static final int MAX_IDS = 1000;
+
+    // Date ranges are read from a cursor and priced and written this many reservations at a time
+    private static final int CHUNK_SIZE = 256;
+
+    private final ReservationRepository reservationRepository;
+    private final BillingService billingService;
+    private final BillCache billCache;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    // Check a request before anything is streamed - afterwards the status code has already been sent
+    public void validate(BatchRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("Request body is required");
+        }
+        boolean hasIds = request.getIds() != null;
+        boolean hasRange = request.getFrom() != null || request.getTo() != null;
+        if (hasIds == hasRange) {
+            throw new IllegalArgumentException("Provide either a list of reservation IDs or a from/to date range");
+        }
+        if (hasIds) {
+            if (request.getIds().isEmpty()) {
+                throw new IllegalArgumentException("At least one reservation ID is required");
+            }
+            if (request.getIds().size() > MAX_IDS) {
+                throw new IllegalArgumentException("At most " + MAX_IDS + " reservation IDs can be billed per request");
+            }
+            if (request.getIds().contains(null)) {
+                throw new IllegalArgumentException("Reservation IDs cannot be null");
+            }
+        } else {
+            if (request.getFrom() == null || request.getTo() == null) {
+                throw new IllegalArgumentException("Both from and to dates are required for a date range");
+            }
+            if (request.getTo().isBefore(request.getFrom())) {
+                throw new IllegalArgumentException("Invalid date range. 'to' date must be on or after 'from' date");
+            }
+        }
+    }
+
+    // Write the JSON array of results and return how many entries it holds.
+    // IDs keep their request order (duplicates once); a date range is billed in id order by check-in date.
+    @Transactional(readOnly = true)
+    public long write(BatchRequest request, OutputStream out) throws IOException {
+        validate(request);
+
+        long entries = 0;
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+            // Closing the generator must not close the response stream underneath it
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            json.writeStartArray();
+            if (request.getIds() != null) {
+                entries = writeIds(json, new ArrayList<>(new LinkedHashSet<>(request.getIds())));
+            } else {
+                entries = writeRange(json, request.getFrom(), request.getTo());
+            }
+            json.writeEndArray();
+        }
+        log.info("Batch billing wrote {} entries", entries);
+        return entries;
+    }
+
+    private long writeIds(JsonGenerator json, List<Long> ids) throws IOException {
+        log.info("Batch billing {} reservation IDs", ids.size());
+        // Bills already in the cache are reused; only the rest are loaded (still a single IN query)
+        Map<Long, BillingService.BillDetails> cached = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            BillingService.BillDetails bill = billCache.get(id);
+            if (bill != null) {
+                cached.put(id, bill);
+            } else {
+                missing.add(id);
+            }
+        }
+        Map<Long, Reservation> found = new HashMap<>();
+        if (!missing.isEmpty()) {
+            for (Reservation reservation : reservationRepository.findAllById(missing)) {
+                found.put(reservation.getId(), reservation);
+            }
+        }
+        List<BatchItem> items = ids.parallelStream()
+                .map(id -> cached.containsKey(id)
+                        ? new BatchItem(id, cached.get(id), null)
+                        : found.containsKey(id)
+                        ? bill(found.get(id))
+                        : new BatchItem(id, null, "Reservation not found with ID: " + id))
+                .toList();
+        for (BatchItem item : items) {
+            if (item.getBill() != null && found.containsKey(item.getReservationId())) {
+                billCache.put(found.get(item.getReservationId()), item.getBill());
+            }
+        }
+        return writeItems(json, items);
+    }
+
+    private long writeRange(JsonGenerator json, LocalDate from, LocalDate to) throws IOException {
+        log.info("Batch billing reservations checking in {} to {}", from, to);
+        long entries = 0;
+        try (Stream<Reservation> reservations = reservationRepository.streamByCheckInBetween(from, to)) {
+            Iterator<Reservation> iterator = reservations.iterator();
+            List<Reservation> chunk = new ArrayList<>(CHUNK_SIZE);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == CHUNK_SIZE || !iterator.hasNext()) {
+                    entries += writeItems(json, chunk.parallelStream().map(this::bill).toList());
+                    chunk.clear();
+                    // Billed entities are no longer needed - let them be garbage collected
+                    entityManager.clear();
+                }
+            }
+        }
+        return entries;
+    }
+
+    private long writeItems(JsonGenerator json, List<BatchItem> items) throws IOException {
+        for (BatchItem item : items) {
+            json.writeObject(item);
+        }
+        json.flush();
+        return items.size();
+    }
+
+    // One reservation's result - bad data fails only its own entry, never the batch
+    private BatchItem bill(Reservation reservation) {
+        try {
+            return new BatchItem(reservation.getId(), billingService.calculate(reservation), null);
+        } catch (IllegalArgumentException e) {
+            return new BatchItem(reservation.getId(), null, e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Error calculating billing for reservation {}", reservation.getId(), e);
+            return new BatchItem(reservation.getId(), null, "Failed to calculate billing: " + e.getMessage());
+        }
+    }
+
+    // Batch request - either ids, or a from/to range of check-in dates (inclusive)
+    @Data
+    public static class BatchRequest {
+        private List<Long> ids;
+        private LocalDate from;
+        private LocalDate to;
+    }
+
+    // Batch response entry - bill is set on success, error otherwise
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class BatchItem {
+        private Long reservationId;
+        private BillingService.BillDetails bill;
+        private String error;
+    }
+}
@@ -0,0 +1,42 @@
+package com.oceanview.reservation.service;
+
+// BillingService's arithmetic in fixed point: amounts are long cents, rates are basis points (1/100 of a percent)
+// and HALF_UP rounding to the cent is done with integer division. Nothing is allocated per bill, so bulk
+// repricing produces no garbage; results are identical to the BigDecimal path (see BillingKernelTest).
+public final class BillingKernel {
+
+    // 100% in basis points
+    public static final long WHOLE = 10_000;
+
+    private BillingKernel() {
+    }
+
+    // Room subtotal for a stay: rate x nights (exact - cents times a whole number needs no rounding)
+    public static long roomSubtotalCents(long ratePerNightCents, long numberOfNights) {
+        return Math.multiplyExact(ratePerNightCents, numberOfNights);
+    }
+
+    // A percentage charge on an amount, rounded HALF_UP to the cent like BigDecimal.setScale(2, HALF_UP)
+    public static long chargeCents(long amountCents, long rateBasisPoints) {
+        return divideHalfUp(Math.multiplyExact(amountCents, rateBasisPoints), WHOLE);
+    }
+
+    // Subtotal plus service charge plus tax, each charge rounded separately as on the bill
+    public static long grandTotalCents(long ratePerNightCents, long numberOfNights,
+                                       long serviceChargeBasisPoints, long taxBasisPoints) {
+        long roomSubtotal = roomSubtotalCents(ratePerNightCents, numberOfNights);
+        return Math.addExact(Math.addExact(roomSubtotal, chargeCents(roomSubtotal, serviceChargeBasisPoints)),
+                chargeCents(roomSubtotal, taxBasisPoints));
+    }
+
+    // numerator / denominator rounded to the nearest whole number, halves away from zero (denominator > 0)
+    public static long divideHalfUp(long numerator, long denominator) {
+        long quotient = numerator / denominator;
+        long remainder = numerator % denominator;
+        // |remainder| >= denominator / 2, compared without overflowing
+        if (Math.abs(remainder) >= denominator - Math.abs(remainder)) {
+            quotient += numerator < 0 ? -1 : 1;
+        }
+        return quotient;
+    }
+}
@@ -28,12 +28,23 @@ public class BillingService {
     private static final RoundingMode ROUNDING_MODE = RoundingMode.HALF_UP;
     private static final int CURRENCY_SCALE = 2;
 
+    private static final int TAX_PERCENTAGE = TAX_RATE.movePointRight(2).intValueExact();
+    private static final int SERVICE_CHARGE_PERCENTAGE = SERVICE_CHARGE_RATE.movePointRight(2).intValueExact();
+
+    // The same rates in fixed point for BillingKernel: cents per night and basis points
+    private static final long RATE_SINGLE_CENTS = toCents(RATE_SINGLE);
+    private static final long RATE_DOUBLE_CENTS = toCents(RATE_DOUBLE);
+    private static final long RATE_SUITE_CENTS = toCents(RATE_SUITE);
+    private static final long RATE_DELUXE_CENTS = toCents(RATE_DELUXE);
+    private static final long TAX_BASIS_POINTS = TAX_RATE.movePointRight(4).longValueExact();
+    private static final long SERVICE_CHARGE_BASIS_POINTS = SERVICE_CHARGE_RATE.movePointRight(4).longValueExact();
+
     // Generate a full bill breakdown for a reservation
     public BillDetails calculate(Reservation reservation) {
         if (reservation == null) {
             throw new IllegalArgumentException("Reservation cannot be null");
         }
-        log.info("Calculating bill for reservation {}", reservation.getId());
+        log.debug("Calculating bill for reservation {}", reservation.getId());
         
         if (reservation.getCheckIn() == null || reservation.getCheckOut() == null) {
             throw new IllegalArgumentException("Check-in and check-out dates are required");
@@ -49,7 +60,50 @@ public class BillingService {
         }
 
         BigDecimal roomRatePerNight = getRoomRate(reservation.getRoomType());
+        Charges charges = priceStay(roomRatePerNight, numberOfNights);
+
+        // Build the bill details response
+        BillDetails billDetails = new BillDetails();
+        billDetails.setReservationId(reservation.getId());
+        billDetails.setGuestName(reservation.getGuestFullName());
+        billDetails.setRoomType(reservation.getRoomType());
+        billDetails.setCheckInDate(reservation.getCheckIn());
+        billDetails.setCheckOutDate(reservation.getCheckOut());
+        billDetails.setNumberOfNights(numberOfNights);
+        billDetails.setRoomRatePerNight(roomRatePerNight);
+        billDetails.setRoomSubtotal(charges.roomSubtotal());
+        billDetails.setServiceCharge(charges.serviceCharge());
+        billDetails.setServiceChargeRate(SERVICE_CHARGE_PERCENTAGE);
+        billDetails.setTax(charges.tax());
+        billDetails.setTaxRate(TAX_PERCENTAGE);
+        billDetails.setGrandTotal(charges.grandTotal());
 
+        log.debug("Bill total for reservation {}: LKR {}", reservation.getId(), charges.grandTotal());
+
+        return billDetails;
+    }
+
+    // Grand total for a stay of the given length - same rates and rounding as calculate(), without a reservation
+    public BigDecimal calculateTotal(String roomType, long numberOfNights) {
+        try {
+            return BigDecimal.valueOf(calculateTotalCents(roomType, numberOfNights), CURRENCY_SCALE);
+        } catch (ArithmeticException e) {
+            // Too large for long cents - price it with BigDecimal instead
+            return priceStay(getRoomRate(roomType), numberOfNights).grandTotal();
+        }
+    }
+
+    // Grand total in cents, computed without allocating (for bulk repricing).
+    // Throws ArithmeticException if the total does not fit in a long.
+    public long calculateTotalCents(String roomType, long numberOfNights) {
+        if (numberOfNights <= 0) {
+            throw new IllegalArgumentException("Number of nights must be positive");
+        }
+        return BillingKernel.grandTotalCents(getRoomRateCents(roomType), numberOfNights,
+                SERVICE_CHARGE_BASIS_POINTS, TAX_BASIS_POINTS);
+    }
+
+    private Charges priceStay(BigDecimal roomRatePerNight, long numberOfNights) {
         BigDecimal roomSubtotal = roomRatePerNight
                 .multiply(BigDecimal.valueOf(numberOfNights))
                 .setScale(CURRENCY_SCALE, ROUNDING_MODE);
@@ -67,25 +121,7 @@ public class BillingService {
                 .add(tax)
                 .setScale(CURRENCY_SCALE, ROUNDING_MODE);
 
-        // Build the bill details response
-        BillDetails billDetails = new BillDetails();
-        billDetails.setReservationId(reservation.getId());
-        billDetails.setGuestName(reservation.getGuestFullName());
-        billDetails.setRoomType(reservation.getRoomType());
-        billDetails.setCheckInDate(reservation.getCheckIn());
-        billDetails.setCheckOutDate(reservation.getCheckOut());
-        billDetails.setNumberOfNights(numberOfNights);
-        billDetails.setRoomRatePerNight(roomRatePerNight);
-        billDetails.setRoomSubtotal(roomSubtotal);
-        billDetails.setServiceCharge(serviceCharge);
-        billDetails.setServiceChargeRate(SERVICE_CHARGE_RATE.multiply(new BigDecimal("100")).intValue());
-        billDetails.setTax(tax);
-        billDetails.setTaxRate(TAX_RATE.multiply(new BigDecimal("100")).intValue());
-        billDetails.setGrandTotal(grandTotal);
-
-        log.info("Bill total for reservation {}: LKR {}", reservation.getId(), grandTotal);
-
-        return billDetails;
+        return new Charges(roomSubtotal, serviceCharge, tax, grandTotal);
     }
 
     // Calculate nights between two dates
@@ -115,6 +151,26 @@ public class BillingService {
         };
     }
 
+    // Nightly rate in cents; exact upper-case names are matched without allocating
+    public long getRoomRateCents(String roomType) {
+        if (roomType != null) {
+            switch (roomType) {
+                case "SINGLE":
+                    return RATE_SINGLE_CENTS;
+                case "DOUBLE":
+                    return RATE_DOUBLE_CENTS;
+                case "SUITE":
+                    return RATE_SUITE_CENTS;
+                case "DELUXE":
+                    return RATE_DELUXE_CENTS;
+                default:
+                    break;
+            }
+        }
+        // Other spellings and invalid names: same rules and errors as getRoomRate
+        return toCents(getRoomRate(roomType));
+    }
+
     // Get all room rates as a map
     public Map<String, BigDecimal> getAllRoomRates() {
         Map<String, BigDecimal> rates = new HashMap<>();
@@ -126,11 +182,27 @@ public class BillingService {
     }
 
     public int getTaxPercentage() {
-        return TAX_RATE.multiply(new BigDecimal("100")).intValue();
+        return TAX_PERCENTAGE;
     }
 
     public int getServiceChargePercentage() {
-        return SERVICE_CHARGE_RATE.multiply(new BigDecimal("100")).intValue();
+        return SERVICE_CHARGE_PERCENTAGE;
+    }
+
+    // Service charge and tax rates in basis points, for BillingKernel
+    public long getServiceChargeBasisPoints() {
+        return SERVICE_CHARGE_BASIS_POINTS;
+    }
+
+    public long getTaxBasisPoints() {
+        return TAX_BASIS_POINTS;
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.movePointRight(CURRENCY_SCALE).longValueExact();
+    }
+
+    private record Charges(BigDecimal roomSubtotal, BigDecimal serviceCharge, BigDecimal tax, BigDecimal grandTotal) {
     }
 
     // Bill details DTO - holds the complete breakdown for a reservation
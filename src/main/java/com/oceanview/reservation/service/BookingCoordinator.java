@@ -0,0 +1,118 @@
+package com.oceanview.reservation.service;
+
+import com.oceanview.reservation.model.Reservation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Serializes bookings that compete for the same room type and night, while unrelated bookings run in parallel.
+// Each (room type, night) pair hashes onto one of a fixed set of lock stripes.
+@Component
+@Slf4j
+public class BookingCoordinator {
+
+    private static final int STRIPE_COUNT = 1024;
+    private static final long LOCK_TIMEOUT_SECONDS = 10;
+
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPE_COUNT];
+
+    public BookingCoordinator() {
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    // Lock every night of [checkIn, checkOut) for this room type until the current transaction completes,
+    // so the overlap check, the insert and the commit all happen before a competing booking can look
+    public void lockNights(String roomType, LocalDate checkIn, LocalDate checkOut) {
+        lock(stripesFor(roomType, checkIn, checkOut), "room type " + roomType);
+    }
+
+    // Lock the nights of many stays at once (bulk import). Taking the union in one ascending pass keeps the
+    // deadlock-free ordering that separate lockNights calls in one transaction would break.
+    public void lockNights(Collection<Reservation> reservations) {
+        BitSet needed = new BitSet(STRIPE_COUNT);
+        for (Reservation reservation : reservations) {
+            needed.or(stripesFor(reservation.getRoomType(), reservation.getCheckIn(), reservation.getCheckOut()));
+        }
+        lock(needed, "bulk import");
+    }
+
+    private void lock(BitSet needed, String description) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Booking locks must be taken inside a transaction");
+        }
+
+        int[] acquired = new int[needed.cardinality()];
+        int count = 0;
+        try {
+            // Always lock in ascending stripe order so two bookings can never deadlock
+            for (int stripe = needed.nextSetBit(0); stripe >= 0; stripe = needed.nextSetBit(stripe + 1)) {
+                if (!stripes[stripe].tryLock(LOCK_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("Timed out waiting for booking lock on " + description);
+                }
+                acquired[count++] = stripe;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            unlock(acquired, count);
+            throw new IllegalStateException("Interrupted while waiting for booking lock", e);
+        } catch (RuntimeException e) {
+            unlock(acquired, count);
+            throw e;
+        }
+
+        // AFTER_COMMIT event listeners also run as completion callbacks; releasing last means
+        // the interval index already shows this booking when the next waiter checks it
+        int held = count;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public int getOrder() {
+                return Ordered.LOWEST_PRECEDENCE;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                unlock(acquired, held);
+            }
+        });
+    }
+
+    private BitSet stripesFor(String roomType, LocalDate checkIn, LocalDate checkOut) {
+        BitSet needed = new BitSet(STRIPE_COUNT);
+        long start = checkIn.toEpochDay();
+        long end = checkOut.toEpochDay();
+        if (end - start >= STRIPE_COUNT) {
+            // Very long stays would hit every stripe anyway
+            needed.set(0, STRIPE_COUNT);
+            return needed;
+        }
+        int typeHash = roomType.hashCode();
+        for (long night = start; night < end; night++) {
+            needed.set(stripeIndex(typeHash, night));
+        }
+        return needed;
+    }
+
+    private static int stripeIndex(int typeHash, long night) {
+        int h = typeHash * 31 + Long.hashCode(night);
+        h ^= (h >>> 16);
+        h *= 0x85ebca6b;
+        h ^= (h >>> 13);
+        return h & (STRIPE_COUNT - 1);
+    }
+
+    private void unlock(int[] acquired, int count) {
+        for (int i = count - 1; i >= 0; i--) {
+            stripes[acquired[i]].unlock();
+        }
+    }
+}
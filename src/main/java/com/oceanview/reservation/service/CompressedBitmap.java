@@ -0,0 +1,425 @@
+package com.oceanview.reservation.service;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+// Compressed set of non-negative ints, laid out like a Roaring bitmap. Values are split on their high 16 bits
+// into chunks of 65536; a chunk holding at most 4096 values is a sorted char array, a fuller one a plain
+// 65536-bit bitmap, so both sparse and dense sets stay small and AND/OR work one chunk pair at a time.
+// Not thread-safe - ReservationBitmapIndex guards its bitmaps with its own lock.
+final class CompressedBitmap {
+
+    // Past this many values an array chunk would take more room than a bitmap chunk (8 KB either way)
+    static final int ARRAY_MAX = 4096;
+
+    private char[] keys = new char[4];
+    private Container[] containers = new Container[4];
+    private int size;
+
+    void add(int value) {
+        char key = (char) (value >>> 16);
+        int i = indexOf(key);
+        if (i < 0) {
+            i = -i - 1;
+            insert(i, key, new ArrayContainer());
+        }
+        containers[i] = containers[i].add((char) value);
+    }
+
+    void remove(int value) {
+        int i = indexOf((char) (value >>> 16));
+        if (i < 0) {
+            return;
+        }
+        Container container = containers[i].remove((char) value);
+        if (container.cardinality() == 0) {
+            System.arraycopy(keys, i + 1, keys, i, size - i - 1);
+            System.arraycopy(containers, i + 1, containers, i, size - i - 1);
+            containers[--size] = null;
+        } else {
+            containers[i] = container;
+        }
+    }
+
+    boolean contains(int value) {
+        int i = indexOf((char) (value >>> 16));
+        return i >= 0 && containers[i].contains((char) value);
+    }
+
+    int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Chunks stored as bitmaps rather than arrays
+    int bitmapChunks() {
+        int chunks = 0;
+        for (int i = 0; i < size; i++) {
+            chunks += containers[i] instanceof BitmapContainer ? 1 : 0;
+        }
+        return chunks;
+    }
+
+    // Values in ascending order
+    void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            containers[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    int[] toArray() {
+        int[] values = new int[cardinality()];
+        int[] count = {0};
+        forEach(value -> values[count[0]++] = value);
+        return values;
+    }
+
+    // Values in both - only chunks present on both sides are looked at
+    static CompressedBitmap and(CompressedBitmap a, CompressedBitmap b) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < a.size && j < b.size) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                Container both = a.containers[i].and(b.containers[j]);
+                if (both.cardinality() > 0) {
+                    result.insert(result.size, a.keys[i], both);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    // Size of and(a, b) without building it
+    static int andCardinality(CompressedBitmap a, CompressedBitmap b) {
+        int cardinality = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.size && j < b.size) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                cardinality += a.containers[i].andCardinality(b.containers[j]);
+                i++;
+                j++;
+            }
+        }
+        return cardinality;
+    }
+
+    // Values in either; the result shares no chunks with its inputs
+    static CompressedBitmap or(CompressedBitmap a, CompressedBitmap b) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < a.size || j < b.size) {
+            if (j == b.size || (i < a.size && a.keys[i] < b.keys[j])) {
+                result.insert(result.size, a.keys[i], a.containers[i].copy());
+                i++;
+            } else if (i == a.size || b.keys[j] < a.keys[i]) {
+                result.insert(result.size, b.keys[j], b.containers[j].copy());
+                j++;
+            } else {
+                result.insert(result.size, a.keys[i], a.containers[i].or(b.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    private int indexOf(char key) {
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    private void insert(int i, char key, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, i, keys, i + 1, size - i);
+        System.arraycopy(containers, i, containers, i + 1, size - i);
+        keys[i] = key;
+        containers[i] = container;
+        size++;
+    }
+
+    // The low 16 bits of the values in one chunk. Operations that change the representation return the
+    // replacement container; and/or always return a new one.
+    private abstract static class Container {
+        abstract Container add(char value);
+        abstract Container remove(char value);
+        abstract boolean contains(char value);
+        abstract int cardinality();
+        abstract Container and(Container other);
+        abstract int andCardinality(Container other);
+        abstract Container or(Container other);
+        abstract Container copy();
+        abstract void forEach(int high, IntConsumer action);
+    }
+
+    // Sparse chunk: sorted values
+    private static final class ArrayContainer extends Container {
+        private char[] values;
+        private int cardinality;
+
+        ArrayContainer() {
+            this(new char[4], 0);
+        }
+
+        ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        Container add(char value) {
+            int i = Arrays.binarySearch(values, 0, cardinality, value);
+            if (i >= 0) {
+                return this;
+            }
+            if (cardinality == ARRAY_MAX) {
+                return toBitmap().add(value);
+            }
+            i = -i - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(cardinality * 2, ARRAY_MAX));
+            }
+            System.arraycopy(values, i, values, i + 1, cardinality - i);
+            values[i] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            int i = Arrays.binarySearch(values, 0, cardinality, value);
+            if (i >= 0) {
+                System.arraycopy(values, i + 1, values, i, cardinality - i - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        Container and(Container other) {
+            char[] result = new char[Math.min(cardinality, other.cardinality())];
+            int count = 0;
+            if (other instanceof ArrayContainer array) {
+                int i = 0;
+                int j = 0;
+                while (i < cardinality && j < array.cardinality) {
+                    if (values[i] < array.values[j]) {
+                        i++;
+                    } else if (values[i] > array.values[j]) {
+                        j++;
+                    } else {
+                        result[count++] = values[i];
+                        i++;
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < cardinality; i++) {
+                    if (other.contains(values[i])) {
+                        result[count++] = values[i];
+                    }
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        @Override
+        int andCardinality(Container other) {
+            int count = 0;
+            if (other instanceof ArrayContainer array) {
+                int i = 0;
+                int j = 0;
+                while (i < cardinality && j < array.cardinality) {
+                    if (values[i] < array.values[j]) {
+                        i++;
+                    } else if (values[i] > array.values[j]) {
+                        j++;
+                    } else {
+                        count++;
+                        i++;
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < cardinality; i++) {
+                    count += other.contains(values[i]) ? 1 : 0;
+                }
+            }
+            return count;
+        }
+
+        @Override
+        Container or(Container other) {
+            if (!(other instanceof ArrayContainer array)) {
+                return other.or(this);
+            }
+            char[] result = new char[cardinality + array.cardinality];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality || j < array.cardinality) {
+                if (j == array.cardinality || (i < cardinality && values[i] < array.values[j])) {
+                    result[count++] = values[i++];
+                } else if (i == cardinality || array.values[j] < values[i]) {
+                    result[count++] = array.values[j++];
+                } else {
+                    result[count++] = values[i++];
+                    j++;
+                }
+            }
+            ArrayContainer union = new ArrayContainer(result, count);
+            return count > ARRAY_MAX ? union.toBitmap() : union;
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, Math.max(cardinality, 4)), cardinality);
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < cardinality; i++) {
+                action.accept(high | values[i]);
+            }
+        }
+
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    // Dense chunk: one bit per value
+    private static final class BitmapContainer extends Container {
+        private final long[] words = new long[1024];
+        private int cardinality;
+
+        @Override
+        Container add(char value) {
+            long before = words[value >>> 6];
+            words[value >>> 6] = before | (1L << value);
+            cardinality += words[value >>> 6] == before ? 0 : 1;
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            long before = words[value >>> 6];
+            words[value >>> 6] = before & ~(1L << value);
+            if (words[value >>> 6] != before && --cardinality <= ARRAY_MAX) {
+                return toArray();
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        Container and(Container other) {
+            if (!(other instanceof BitmapContainer bitmap)) {
+                return other.and(this);
+            }
+            BitmapContainer result = new BitmapContainer();
+            for (int i = 0; i < words.length; i++) {
+                result.words[i] = words[i] & bitmap.words[i];
+                result.cardinality += Long.bitCount(result.words[i]);
+            }
+            return result.cardinality <= ARRAY_MAX ? result.toArray() : result;
+        }
+
+        @Override
+        int andCardinality(Container other) {
+            if (!(other instanceof BitmapContainer bitmap)) {
+                return other.andCardinality(this);
+            }
+            int count = 0;
+            for (int i = 0; i < words.length; i++) {
+                count += Long.bitCount(words[i] & bitmap.words[i]);
+            }
+            return count;
+        }
+
+        @Override
+        Container or(Container other) {
+            BitmapContainer result = (BitmapContainer) copy();
+            if (other instanceof BitmapContainer bitmap) {
+                result.cardinality = 0;
+                for (int i = 0; i < words.length; i++) {
+                    result.words[i] |= bitmap.words[i];
+                    result.cardinality += Long.bitCount(result.words[i]);
+                }
+            } else {
+                other.forEach(0, value -> result.add((char) value));
+            }
+            return result;
+        }
+
+        @Override
+        Container copy() {
+            BitmapContainer copy = new BitmapContainer();
+            System.arraycopy(words, 0, copy.words, 0, words.length);
+            copy.cardinality = cardinality;
+            return copy;
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < words.length; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    action.accept(high | (i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        private ArrayContainer toArray() {
+            char[] values = new char[Math.max(cardinality, 4)];
+            int[] count = {0};
+            forEach(0, value -> values[count[0]++] = (char) value);
+            return new ArrayContainer(values, cardinality);
+        }
+    }
+}
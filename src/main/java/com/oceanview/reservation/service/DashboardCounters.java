@@ -0,0 +1,153 @@
+package com.oceanview.reservation.service;
+
+import com.oceanview.reservation.model.Reservation;
+import com.oceanview.reservation.repository.ReservationRepository;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+// Running totals behind the dashboard, adjusted on every reservation change instead of recounted per request.
+// Nights and check-ins are only tracked from the day the counters were built onwards.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardCounters {
+
+    private static final List<String> ROOM_TYPES = List.of("SINGLE", "DOUBLE", "SUITE", "DELUXE");
+    private static final String CANCELLED = "CANCELLED";
+
+    private final ReservationRepository reservationRepository;
+
+    private final LongAdder total = new LongAdder();
+    private final Map<String, LongAdder> byStatus = new ConcurrentHashMap<>();
+    private final Map<LocalDate, LongAdder> checkInsByDate = new ConcurrentHashMap<>();
+    private final Map<Night, LongAdder> occupiedNights = new ConcurrentHashMap<>();
+
+    // Changes share the read lock, a rebuild takes the write lock
+    private final ReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+    private volatile LocalDate trackedFrom = LocalDate.now();
+
+    // Recount from the database once the application (and DataLoader) has started.
+    // Read-write so that, with a read replica configured, the base that later changes adjust comes from the primary
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuild() {
+        rebuildLock.writeLock().lock();
+        try {
+            LocalDate today = LocalDate.now();
+            total.reset();
+            byStatus.clear();
+            checkInsByDate.clear();
+            occupiedNights.clear();
+            trackedFrom = today;
+
+            for (Object[] row : reservationRepository.countGroupedByStatus()) {
+                long count = (Long) row[1];
+                total.add(count);
+                if (row[0] != null) {
+                    counter(byStatus, (String) row[0]).add(count);
+                }
+            }
+            try (Stream<Reservation> current = reservationRepository.streamByCheckOutAfter(today)) {
+                current.forEach(reservation -> applyDates(reservation, 1));
+            }
+            log.info("Dashboard counters rebuilt: {} reservation(s)", total.sum());
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+    }
+
+    // Move the reservation's contribution from its previous state to its current one
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        rebuildLock.readLock().lock();
+        try {
+            if (event.previous() != null) {
+                apply(event.previous(), -1);
+            }
+            if (event.current() != null) {
+                apply(event.current(), 1);
+            }
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    // Snapshot of the counters for the given day
+    public Summary summary(LocalDate date) {
+        Map<String, Long> statusCounts = new LinkedHashMap<>();
+        byStatus.forEach((status, count) -> statusCounts.put(status, count.sum()));
+
+        Map<String, Long> occupied = new LinkedHashMap<>();
+        for (String roomType : ROOM_TYPES) {
+            LongAdder count = occupiedNights.get(new Night(roomType, date));
+            occupied.put(roomType, count == null ? 0 : count.sum());
+        }
+
+        LongAdder checkIns = checkInsByDate.get(date);
+        return new Summary(date, total.sum(), statusCounts, checkIns == null ? 0 : checkIns.sum(), occupied);
+    }
+
+    private void apply(Reservation reservation, int delta) {
+        total.add(delta);
+        if (reservation.getStatus() != null) {
+            counter(byStatus, reservation.getStatus()).add(delta);
+        }
+        applyDates(reservation, delta);
+    }
+
+    // Check-in day and every occupied night from trackedFrom onwards (cancelled stays occupy nothing)
+    private void applyDates(Reservation reservation, int delta) {
+        LocalDate checkIn = reservation.getCheckIn();
+        LocalDate checkOut = reservation.getCheckOut();
+        if (checkIn == null || checkOut == null) {
+            return;
+        }
+        LocalDate from = trackedFrom;
+        if (!checkIn.isBefore(from)) {
+            counter(checkInsByDate, checkIn).add(delta);
+        }
+        if (CANCELLED.equals(reservation.getStatus()) || reservation.getRoomType() == null) {
+            return;
+        }
+        for (LocalDate night = checkIn.isBefore(from) ? from : checkIn; night.isBefore(checkOut); night = night.plusDays(1)) {
+            counter(occupiedNights, new Night(reservation.getRoomType(), night)).add(delta);
+        }
+    }
+
+    private static <K> LongAdder counter(Map<K, LongAdder> counters, K key) {
+        return counters.computeIfAbsent(key, k -> new LongAdder());
+    }
+
+    private record Night(String roomType, LocalDate date) {
+    }
+
+    // Dashboard summary DTO - counts by status, the day's check-ins and occupied rooms per room type
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Summary {
+        private LocalDate date;
+        private long totalReservations;
+        private Map<String, Long> statusCounts;
+        private long checkIns;
+        private Map<String, Long> occupiedByRoomType;
+    }
+}
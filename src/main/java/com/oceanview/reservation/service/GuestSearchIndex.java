@@ -0,0 +1,504 @@
+package com.oceanview.reservation.service;
+
+import com.oceanview.reservation.model.Reservation;
+import com.oceanview.reservation.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+// In-memory trigram index over guest name, email and contact number.
+// Answers substring searches (3+ characters) and word-prefix searches (1-2 characters) without a LIKE scan.
+// Each reservation is one document of its normalized fields; documents get an ordinal in insertion order,
+// so posting lists stay sorted by appending. A changed reservation gets a new ordinal and its old one is
+// left dead in the postings until the next compaction.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GuestSearchIndex {
+
+    // Separates the fields of a document; never part of a normalized query
+    private static final char FIELD_SEPARATOR = '\u0001';
+    // Pads word starts so one- and two-character prefixes have a key of their own
+    private static final char WORD_START = '\u0002';
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    // Field weights used to break ties between equally good matches
+    private static final int[] FIELD_WEIGHT = {3, 2, 1};
+
+    // Rebuild the postings once dead documents outnumber live ones (and there are enough to matter)
+    private static final int COMPACT_MIN_DEAD = 10_000;
+
+    private final ReservationRepository reservationRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final Map<Long, IntList> postings = new HashMap<>();
+    private long[] ids = new long[1024];
+    private long[] createdMicros = new long[1024];
+    private String[] documents = new String[1024];
+    private int size;
+    private int dead;
+    private volatile boolean ready;
+
+    // Load every reservation once the application (and DataLoader) has started.
+    // Read-write so that, with a read replica configured, rows not yet replicated are not left out
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void warm() {
+        lock.writeLock().lock();
+        try {
+            clear();
+            try (Stream<ReservationRepository.GuestKey> keys = reservationRepository.streamGuestKeys()) {
+                keys.forEach(key -> append(key.getId(), micros(key.getCreatedAt()),
+                    document(key.getGuestFullName(), key.getEmail(), key.getContactNumber())));
+            }
+            ready = true;
+            log.info("Guest search index warmed with {} reservation(s), {} distinct keys", ordinals.size(), postings.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Until warm() has run, callers should fall back to the database
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Keep the index in sync with committed reservation changes
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        if (event.isDeleted()) {
+            remove(event.reservationId());
+        } else {
+            put(event.current());
+        }
+    }
+
+    public void put(Reservation reservation) {
+        if (reservation.getId() == null) {
+            return;
+        }
+        String document = document(reservation.getGuestFullName(), reservation.getEmail(), reservation.getContactNumber());
+        lock.writeLock().lock();
+        try {
+            Integer existing = ordinals.get(reservation.getId());
+            if (existing != null) {
+                if (document.equals(documents[existing])) {
+                    return;
+                }
+                kill(existing);
+            }
+            append(reservation.getId(), micros(reservation.getCreatedAt()), document);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long reservationId) {
+        lock.writeLock().lock();
+        try {
+            Integer existing = ordinals.remove(reservationId);
+            if (existing != null) {
+                kill(existing);
+                compactIfNeeded();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Best matches first: exact field, then field prefix, whole word, word prefix and finally substring;
+    // name beats email beats contact number, and newer reservations win ties
+    public List<Long> search(String query, int limit) {
+        Query q = Query.parse(query);
+        if (q == null || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Comparator<long[]> worstFirst = Comparator.<long[]>comparingLong(hit -> hit[1])
+                .thenComparingLong(hit -> createdMicros[(int) hit[0]])
+                .thenComparingLong(hit -> ids[(int) hit[0]]);
+            PriorityQueue<long[]> best = new PriorityQueue<>(limit + 1, worstFirst);
+            for (int ordinal : candidates(q)) {
+                int score = score(documents[ordinal], q);
+                if (score > 0) {
+                    best.add(new long[]{ordinal, score});
+                    if (best.size() > limit) {
+                        best.poll();
+                    }
+                }
+            }
+            Long[] result = new Long[best.size()];
+            for (int i = result.length - 1; i >= 0; i--) {
+                result[i] = ids[(int) best.poll()[0]];
+            }
+            return Arrays.asList(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // The first limit matches in listing order (newest first, then highest id), strictly after the given keyset
+    // position when one is passed. Returns null when the query has nothing to search for.
+    public IndexMatches matchesNewestFirst(String query, LocalDateTime afterCreatedAt, Long afterId, int limit) {
+        Query q = Query.parse(query);
+        if (q == null) {
+            return null;
+        }
+        long afterMicros = afterCreatedAt == null ? Long.MAX_VALUE : micros(afterCreatedAt);
+        long afterIdValue = afterId == null ? Long.MAX_VALUE : afterId;
+        lock.readLock().lock();
+        try {
+            // Keep the newest limit matches, oldest on top so it is the one pushed out
+            PriorityQueue<Integer> newest = new PriorityQueue<>(limit + 1,
+                Comparator.<Integer>comparingLong(ordinal -> createdMicros[ordinal])
+                    .thenComparingLong(ordinal -> ids[ordinal]));
+            for (int ordinal : candidates(q)) {
+                long created = createdMicros[ordinal];
+                if (created > afterMicros || (created == afterMicros && ids[ordinal] >= afterIdValue)) {
+                    continue;
+                }
+                // Only score documents that would make the cut
+                if (newest.size() == limit && created < createdMicros[newest.peek()]) {
+                    continue;
+                }
+                if (score(documents[ordinal], q) > 0) {
+                    newest.add(ordinal);
+                    if (newest.size() > limit) {
+                        newest.poll();
+                    }
+                }
+            }
+            LocalDateTime lastCreatedAt = newest.isEmpty() ? null : dateTime(createdMicros[newest.peek()]);
+            Long[] result = new Long[newest.size()];
+            for (int i = result.length - 1; i >= 0; i--) {
+                result[i] = ids[newest.poll()];
+            }
+            return new IndexMatches(Arrays.asList(result), lastCreatedAt);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Live ordinals containing every key of at least one form of the query (a superset of the real matches)
+    private int[] candidates(Query q) {
+        int[] text = intersect(q.keys(q.text()));
+        if (q.digits() == null) {
+            return text;
+        }
+        int[] digits = intersect(q.keys(q.digits()));
+        return union(text, digits);
+    }
+
+    private int[] intersect(long[] keys) {
+        IntList[] lists = new IntList[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            lists[i] = postings.get(keys[i]);
+            if (lists[i] == null) {
+                return new int[0];
+            }
+        }
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+
+        // Walk the shortest list and gallop forward through the others - every list is ascending,
+        // so each search starts where the previous one stopped
+        int[] positions = new int[lists.length];
+        int[] result = new int[lists[0].size];
+        int count = 0;
+        outer:
+        for (int i = 0; i < lists[0].size; i++) {
+            int ordinal = lists[0].values[i];
+            if (documents[ordinal] == null) {
+                continue;
+            }
+            for (int l = 1; l < lists.length; l++) {
+                positions[l] = lists[l].seek(positions[l], ordinal);
+                if (positions[l] == lists[l].size) {
+                    break outer;
+                }
+                if (lists[l].values[positions[l]] != ordinal) {
+                    continue outer;
+                }
+            }
+            result[count++] = ordinal;
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private static int[] union(int[] a, int[] b) {
+        int[] result = new int[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < a.length || j < b.length) {
+            if (j == b.length || (i < a.length && a[i] < b[j])) {
+                result[count++] = a[i++];
+            } else if (i == a.length || b[j] < a[i]) {
+                result[count++] = b[j++];
+            } else {
+                result[count++] = a[i++];
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    // 0 when the document does not really match (trigram false positive), higher is better
+    private static int score(String document, Query q) {
+        int best = 0;
+        int start = 0;
+        for (int field = 0; field < FIELD_WEIGHT.length; field++) {
+            int end = document.indexOf(FIELD_SEPARATOR, start);
+            if (end < 0) {
+                end = document.length();
+            }
+            int level = Math.max(matchLevel(document, start, end, q.text()),
+                q.digits() == null ? 0 : matchLevel(document, start, end, q.digits()));
+            if (level > 0) {
+                best = Math.max(best, level * 10 + FIELD_WEIGHT[field]);
+            }
+            start = end + 1;
+        }
+        return best;
+    }
+
+    // 5 = whole field, 4 = field prefix, 3 = whole word, 2 = word prefix, 1 = substring (3+ characters only)
+    private static int matchLevel(String document, int start, int end, String term) {
+        int length = end - start;
+        if (term.length() > length) {
+            return 0;
+        }
+        if (document.startsWith(term, start)) {
+            return term.length() == length ? 5 : 4;
+        }
+        int level = 0;
+        int from = start + 1;
+        while (level < 3) {
+            int at = document.indexOf(term, from);
+            int after = at + term.length();
+            if (at < 0 || after > end) {
+                break;
+            }
+            if (!Character.isLetterOrDigit(document.charAt(at - 1))) {
+                boolean wholeWord = after == end || !Character.isLetterOrDigit(document.charAt(after));
+                level = Math.max(level, wholeWord ? 3 : 2);
+            } else if (term.length() >= 3) {
+                level = Math.max(level, 1);
+            }
+            from = at + 1;
+        }
+        return level;
+    }
+
+    private void append(long id, long created, String document) {
+        if (size == ids.length) {
+            int capacity = size + (size >> 1);
+            ids = Arrays.copyOf(ids, capacity);
+            createdMicros = Arrays.copyOf(createdMicros, capacity);
+            documents = Arrays.copyOf(documents, capacity);
+        }
+        int ordinal = size++;
+        ids[ordinal] = id;
+        createdMicros[ordinal] = created;
+        documents[ordinal] = document;
+        ordinals.put(id, ordinal);
+        for (long key : documentKeys(document)) {
+            postings.computeIfAbsent(key, k -> new IntList()).add(ordinal);
+        }
+    }
+
+    private void kill(int ordinal) {
+        documents[ordinal] = null;
+        dead++;
+    }
+
+    private void compactIfNeeded() {
+        if (dead < COMPACT_MIN_DEAD || dead < ordinals.size()) {
+            return;
+        }
+        long[] oldIds = ids;
+        long[] oldCreated = createdMicros;
+        String[] oldDocuments = documents;
+        int oldSize = size;
+        clear();
+        for (int ordinal = 0; ordinal < oldSize; ordinal++) {
+            if (oldDocuments[ordinal] != null) {
+                append(oldIds[ordinal], oldCreated[ordinal], oldDocuments[ordinal]);
+            }
+        }
+        log.info("Guest search index compacted to {} reservation(s)", size);
+    }
+
+    private void clear() {
+        ordinals.clear();
+        postings.clear();
+        ids = new long[1024];
+        createdMicros = new long[1024];
+        documents = new String[1024];
+        size = 0;
+        dead = 0;
+    }
+
+    // Distinct trigrams of every field plus the one- and two-character keys of every word start
+    private static long[] documentKeys(String document) {
+        long[] keys = new long[document.length() * 3];
+        int count = 0;
+        for (int i = 0; i < document.length(); i++) {
+            char c = document.charAt(i);
+            if (c == FIELD_SEPARATOR) {
+                continue;
+            }
+            if (i + 2 < document.length() && document.charAt(i + 1) != FIELD_SEPARATOR
+                    && document.charAt(i + 2) != FIELD_SEPARATOR) {
+                keys[count++] = key(c, document.charAt(i + 1), document.charAt(i + 2));
+            }
+            if (Character.isLetterOrDigit(c) && (i == 0 || !Character.isLetterOrDigit(document.charAt(i - 1)))) {
+                keys[count++] = key(WORD_START, WORD_START, c);
+                if (i + 1 < document.length() && document.charAt(i + 1) != FIELD_SEPARATOR) {
+                    keys[count++] = key(WORD_START, c, document.charAt(i + 1));
+                }
+            }
+        }
+        long[] distinct = Arrays.copyOf(keys, count);
+        Arrays.sort(distinct);
+        int unique = 0;
+        for (int i = 0; i < distinct.length; i++) {
+            if (i == 0 || distinct[i] != distinct[i - 1]) {
+                distinct[unique++] = distinct[i];
+            }
+        }
+        return Arrays.copyOf(distinct, unique);
+    }
+
+    private static long key(char a, char b, char c) {
+        return ((long) a << 32) | ((long) b << 16) | c;
+    }
+
+    // Creation time at the database's microsecond precision, so index order matches the listing's keyset order
+    private static long micros(LocalDateTime time) {
+        if (time == null) {
+            return 0;
+        }
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    private static LocalDateTime dateTime(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+            (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    private static String document(String name, String email, String contactNumber) {
+        return normalizeText(name) + FIELD_SEPARATOR + normalizeText(email) + FIELD_SEPARATOR + digits(contactNumber);
+    }
+
+    // Lower case, accents stripped, whitespace collapsed - "  José  Pérez" and "jose perez" index the same
+    static String normalizeText(String value) {
+        if (value == null) {
+            return "";
+        }
+        String decomposed = MARKS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("");
+        return SPACES.matcher(decomposed.toLowerCase(Locale.ROOT)).replaceAll(" ").trim()
+            .replace(FIELD_SEPARATOR, ' ').replace(WORD_START, ' ');
+    }
+
+    // Contact numbers are compared on their digits only, so "+94 77-123" finds "+9477123..."
+    static String digits(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder digits = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            if (Character.isDigit(value.charAt(i))) {
+                digits.append(value.charAt(i));
+            }
+        }
+        return digits.toString();
+    }
+
+    // A normalized query; digits is set when the query has no letters and differs from its text form
+    private record Query(String text, String digits) {
+
+        static Query parse(String raw) {
+            String text = normalizeText(raw);
+            if (text.isEmpty()) {
+                return null;
+            }
+            String digitsOnly = text.chars().anyMatch(Character::isLetter) ? "" : GuestSearchIndex.digits(text);
+            return new Query(text, digitsOnly.isEmpty() || digitsOnly.equals(text) ? null : digitsOnly);
+        }
+
+        long[] keys(String term) {
+            if (term.length() == 1) {
+                return new long[]{key(WORD_START, WORD_START, term.charAt(0))};
+            }
+            if (term.length() == 2) {
+                return new long[]{key(WORD_START, term.charAt(0), term.charAt(1))};
+            }
+            long[] keys = new long[term.length() - 2];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = key(term.charAt(i), term.charAt(i + 1), term.charAt(i + 2));
+            }
+            return keys;
+        }
+    }
+
+    // Growable posting list of ordinals, always ascending because ordinals are only ever appended
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            values[size++] = value;
+        }
+
+        // Index of the first value >= target at or after from (size if there is none), by exponential search
+        int seek(int from, int target) {
+            int step = 1;
+            int low = from;
+            while (from + step < size && values[from + step] < target) {
+                low = from + step;
+                step <<= 1;
+            }
+            if (from < size && values[from] >= target) {
+                return from;
+            }
+            int found = Arrays.binarySearch(values, low, Math.min(from + step + 1, size), target);
+            return found >= 0 ? found : -found - 1;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.oceanview.reservation.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// One batch of index matches in listing order. lastCreatedAt and lastId() are the keyset position of the final
+// match, to ask the index for the next batch after it.
+public record IndexMatches(List<Long> ids, LocalDateTime lastCreatedAt) {
+
+    public Long lastId() {
+        return ids.isEmpty() ? null : ids.get(ids.size() - 1);
+    }
+}
@@ -0,0 +1,224 @@
+package com.oceanview.reservation.service;
+
+import com.oceanview.reservation.repository.ReservationRepository;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Builds the occupancy and revenue reports from grouped database aggregates, priced with BillingService
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReportService {
+
+    // Ranges longer than this default to monthly periods; daily periods are refused beyond the maximum
+    private static final long DAILY_DEFAULT_MAX_DAYS = 92;
+    private static final long DAILY_MAX_DAYS = 366;
+
+    private final ReservationRepository reservationRepository;
+    private final BillingService billingService;
+    private final RoomInventory roomInventory;
+
+    public enum Granularity {
+        DAY, MONTH;
+
+        public static Granularity from(String value) {
+            for (Granularity granularity : values()) {
+                if (granularity.name().equalsIgnoreCase(value)) {
+                    return granularity;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported granularity: " + value + " (use day or month)");
+        }
+    }
+
+    // Rooms occupied on the night of the given date, per room type
+    @Transactional(readOnly = true)
+    public OccupancyReport occupancy(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date is required");
+        }
+
+        Map<String, Long> occupiedByType = new HashMap<>();
+        for (ReservationRepository.CountGroup group : reservationRepository.countOccupiedByRoomType(date)) {
+            occupiedByType.put(group.getKey(), group.getReservations());
+        }
+
+        OccupancyReport report = new OccupancyReport();
+        report.setDate(date);
+        List<RoomOccupancy> breakdown = new ArrayList<>();
+        int totalRooms = 0;
+        long occupiedRooms = 0;
+        for (Map.Entry<String, Integer> room : roomInventory.roomCounts().entrySet()) {
+            long occupied = occupiedByType.getOrDefault(room.getKey(), 0L);
+            breakdown.add(new RoomOccupancy(room.getKey(), room.getValue(), occupied, room.getValue() - occupied));
+            totalRooms += room.getValue();
+            occupiedRooms += occupied;
+        }
+        report.setTotalRooms(totalRooms);
+        report.setOccupiedRooms(occupiedRooms);
+        report.setAvailableRooms(totalRooms - occupiedRooms);
+        report.setOccupancyRate(percentage(occupiedRooms, totalRooms));
+        report.setRoomBreakdown(breakdown);
+        return report;
+    }
+
+    // Revenue of non-cancelled stays checking in between from and to, by room type and by day or month
+    @Transactional(readOnly = true)
+    public RevenueReport revenue(LocalDate from, LocalDate to, Granularity granularity) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Both from and to dates are required");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Invalid date range. 'to' date must be on or after 'from' date");
+        }
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        if (granularity == null) {
+            granularity = days > DAILY_DEFAULT_MAX_DAYS ? Granularity.MONTH : Granularity.DAY;
+        } else if (granularity == Granularity.DAY && days > DAILY_MAX_DAYS) {
+            throw new IllegalArgumentException("Daily breakdown is limited to " + DAILY_MAX_DAYS + " days; use granularity=month");
+        }
+        log.info("Building revenue report {} to {} by {}", from, to, granularity);
+
+        RevenueReport report = new RevenueReport();
+        report.setFromDate(from);
+        report.setToDate(to);
+        report.setGranularity(granularity);
+
+        Map<String, Totals> byRoomType = new LinkedHashMap<>();
+        roomInventory.roomCounts().keySet().forEach(roomType -> byRoomType.put(roomType, new Totals()));
+        Map<String, Totals> byPeriod = new TreeMap<>();
+        Map<String, BigDecimal> priceCache = new HashMap<>();
+
+        if (granularity == Granularity.DAY) {
+            for (ReservationRepository.DailyStayGroup group : reservationRepository.sumStaysByDay(from, to)) {
+                BigDecimal revenue = price(priceCache, group.getRoomType(), group.getNights(), group.getReservations());
+                byRoomType.computeIfAbsent(group.getRoomType(), k -> new Totals()).add(revenue, group.getReservations());
+                byPeriod.computeIfAbsent(group.getCheckIn().toString(), k -> new Totals()).add(revenue, group.getReservations());
+            }
+        } else {
+            for (ReservationRepository.MonthlyStayGroup group : reservationRepository.sumStaysByMonth(from, to)) {
+                BigDecimal revenue = price(priceCache, group.getRoomType(), group.getNights(), group.getReservations());
+                String period = YearMonth.of(group.getYear(), group.getMonth()).toString();
+                byRoomType.computeIfAbsent(group.getRoomType(), k -> new Totals()).add(revenue, group.getReservations());
+                byPeriod.computeIfAbsent(period, k -> new Totals()).add(revenue, group.getReservations());
+            }
+        }
+
+        Totals overall = new Totals();
+        List<RoomTypeRevenue> roomTypeRevenue = new ArrayList<>();
+        byRoomType.forEach((roomType, totals) -> {
+            roomTypeRevenue.add(new RoomTypeRevenue(roomType, totals.revenue, totals.reservations));
+            overall.add(totals.revenue, totals.reservations);
+        });
+        List<PeriodRevenue> periodRevenue = new ArrayList<>();
+        byPeriod.forEach((period, totals) -> periodRevenue.add(new PeriodRevenue(period, totals.revenue, totals.reservations)));
+
+        Map<String, Long> byStatus = new TreeMap<>();
+        for (ReservationRepository.CountGroup group : reservationRepository.countByStatusForCheckInBetween(from, to)) {
+            byStatus.put(group.getKey() != null ? group.getKey() : "UNKNOWN", group.getReservations());
+        }
+
+        report.setTotalRevenue(overall.revenue);
+        report.setTotalReservations(overall.reservations);
+        report.setAverageReservationValue(overall.reservations == 0
+                ? BigDecimal.ZERO.setScale(2)
+                : overall.revenue.divide(BigDecimal.valueOf(overall.reservations), 2, RoundingMode.HALF_UP));
+        report.setReservationsByStatus(byStatus);
+        report.setRevenueByRoomType(roomTypeRevenue);
+        report.setRevenueByPeriod(periodRevenue);
+        return report;
+    }
+
+    // Revenue of a group of identical stays; rows BillingService cannot price (bad legacy data) count as zero
+    private BigDecimal price(Map<String, BigDecimal> cache, String roomType, Long nights, Long reservations) {
+        String key = roomType + ":" + nights;
+        BigDecimal stayTotal = cache.computeIfAbsent(key, k -> {
+            try {
+                return billingService.calculateTotal(roomType, nights == null ? 0 : nights);
+            } catch (IllegalArgumentException e) {
+                log.warn("Excluding unpriceable stays from revenue ({} x {} nights): {}", roomType, nights, e.getMessage());
+                return BigDecimal.ZERO.setScale(2);
+            }
+        });
+        return stayTotal.multiply(BigDecimal.valueOf(reservations));
+    }
+
+    private static BigDecimal percentage(long part, long whole) {
+        if (whole == 0) {
+            return BigDecimal.ZERO.setScale(1);
+        }
+        return BigDecimal.valueOf(part * 100).divide(BigDecimal.valueOf(whole), 1, RoundingMode.HALF_UP);
+    }
+
+    private static class Totals {
+        private BigDecimal revenue = BigDecimal.ZERO.setScale(2);
+        private long reservations;
+
+        void add(BigDecimal amount, long count) {
+            revenue = revenue.add(amount);
+            reservations += count;
+        }
+    }
+
+    // Occupancy report DTO - rooms occupied on one night, overall and per room type
+    @Data
+    public static class OccupancyReport {
+        private LocalDate date;
+        private int totalRooms;
+        private long occupiedRooms;
+        private long availableRooms;
+        private BigDecimal occupancyRate;
+        private List<RoomOccupancy> roomBreakdown;
+    }
+
+    @Data
+    public static class RoomOccupancy {
+        private final String roomType;
+        private final int total;
+        private final long occupied;
+        private final long available;
+    }
+
+    // Revenue report DTO - totals plus breakdowns by room type, status and period (day or month)
+    @Data
+    public static class RevenueReport {
+        private LocalDate fromDate;
+        private LocalDate toDate;
+        private Granularity granularity;
+        private BigDecimal totalRevenue;
+        private long totalReservations;
+        private BigDecimal averageReservationValue;
+        private Map<String, Long> reservationsByStatus;
+        private List<RoomTypeRevenue> revenueByRoomType;
+        private List<PeriodRevenue> revenueByPeriod;
+    }
+
+    @Data
+    public static class RoomTypeRevenue {
+        private final String roomType;
+        private final BigDecimal revenue;
+        private final long reservationCount;
+    }
+
+    @Data
+    public static class PeriodRevenue {
+        private final String period;
+        private final BigDecimal revenue;
+        private final long reservationCount;
+    }
+}
@@ -0,0 +1,387 @@
+package com.oceanview.reservation.service;
+
+import com.oceanview.reservation.model.Reservation;
+import com.oceanview.reservation.repository.ReservationRepository;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+// In-memory bitmap index of every reservation by status, room type and check-in month.
+// Each reservation holds a small int ordinal and each status, room type and month keeps a CompressedBitmap of
+// its ordinals, so "pending or confirmed suites checking in this quarter" is an OR within each field and an
+// AND across them, and a count is the size of the result - answered without SQL. Months cut by the date window
+// are narrowed with the stored check-in day. Ordinals of deleted reservations are reused to keep bitmaps dense.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReservationBitmapIndex {
+
+    // Check-in day of a reservation without one
+    private static final int NO_DATE = Integer.MIN_VALUE;
+
+    private final ReservationRepository reservationRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final Map<String, CompressedBitmap> byStatus = new TreeMap<>();
+    private final Map<String, CompressedBitmap> byRoomType = new TreeMap<>();
+    private final NavigableMap<Integer, CompressedBitmap> byMonth = new TreeMap<>();
+    private CompressedBitmap live = new CompressedBitmap();
+    private int[] free = new int[16];
+    private int freeCount;
+    private long[] ids = new long[1024];
+    private long[] createdMicros = new long[1024];
+    private String[] statuses = new String[1024];
+    private String[] roomTypes = new String[1024];
+    private int[] checkInDays = new int[1024];
+    private int size;
+    private volatile boolean ready;
+
+    // Load every reservation once the application (and DataLoader) has started.
+    // Read-write so that, with a read replica configured, rows not yet replicated are not left out
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void warm() {
+        lock.writeLock().lock();
+        try {
+            clear();
+            try (Stream<ReservationRepository.FilterKey> keys = reservationRepository.streamFilterKeys()) {
+                keys.forEach(key -> set(ordinalFor(key.getId()), key.getStatus(), key.getRoomType(),
+                    key.getCheckIn(), key.getCreatedAt()));
+            }
+            ready = true;
+            log.info("Reservation bitmap index warmed with {} reservation(s) over {} month(s)",
+                ordinals.size(), byMonth.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Until warm() has run, callers should fall back to the database
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Keep the index in sync with committed reservation changes
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        if (event.isDeleted()) {
+            remove(event.reservationId());
+        } else {
+            put(event.current());
+        }
+    }
+
+    public void put(Reservation reservation) {
+        if (reservation.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Integer existing = ordinals.get(reservation.getId());
+            if (existing != null) {
+                unset(existing);
+            }
+            set(existing != null ? existing : ordinalFor(reservation.getId()), reservation.getStatus(),
+                reservation.getRoomType(), reservation.getCheckIn(), reservation.getCreatedAt());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long reservationId) {
+        lock.writeLock().lock();
+        try {
+            Integer existing = ordinals.remove(reservationId);
+            if (existing != null) {
+                unset(existing);
+                live.remove(existing);
+                if (freeCount == free.length) {
+                    free = Arrays.copyOf(free, freeCount * 2);
+                }
+                free[freeCount++] = existing;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Number of reservations matching the criteria
+    public int count(Criteria criteria) {
+        lock.readLock().lock();
+        try {
+            return matching(criteria).cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Matching reservations in total, per status and per room type
+    public Counts counts(Criteria criteria) {
+        lock.readLock().lock();
+        try {
+            CompressedBitmap matches = matching(criteria);
+            return new Counts(matches.cardinality(), tally(matches, byStatus), tally(matches, byRoomType));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // The first limit matches in listing order (newest first, then highest id), strictly after the given
+    // keyset position when one is passed
+    public IndexMatches newestFirst(Criteria criteria, LocalDateTime afterCreatedAt, Long afterId, int limit) {
+        long afterMicros = afterCreatedAt == null ? Long.MAX_VALUE : micros(afterCreatedAt);
+        long afterIdValue = afterId == null ? Long.MAX_VALUE : afterId;
+        lock.readLock().lock();
+        try {
+            // Keep the newest limit matches, oldest on top so it is the one pushed out
+            PriorityQueue<Integer> newest = new PriorityQueue<>(limit + 1,
+                Comparator.<Integer>comparingLong(ordinal -> createdMicros[ordinal])
+                    .thenComparingLong(ordinal -> ids[ordinal]));
+            matching(criteria).forEach(ordinal -> {
+                long created = createdMicros[ordinal];
+                if (created > afterMicros || (created == afterMicros && ids[ordinal] >= afterIdValue)) {
+                    return;
+                }
+                newest.add(ordinal);
+                if (newest.size() > limit) {
+                    newest.poll();
+                }
+            });
+            LocalDateTime lastCreatedAt = newest.isEmpty() ? null : dateTime(createdMicros[newest.peek()]);
+            Long[] result = new Long[newest.size()];
+            for (int i = result.length - 1; i >= 0; i--) {
+                result[i] = ids[newest.poll()];
+            }
+            return new IndexMatches(Arrays.asList(result), lastCreatedAt);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // AND of the fields the criteria restrict, smallest first; every live reservation when none are restricted
+    private CompressedBitmap matching(Criteria criteria) {
+        List<CompressedBitmap> fields = new ArrayList<>(3);
+        if (criteria.getStatuses() != null && !criteria.getStatuses().isEmpty()) {
+            fields.add(union(byStatus, criteria.getStatuses()));
+        }
+        if (criteria.getRoomTypes() != null && !criteria.getRoomTypes().isEmpty()) {
+            fields.add(union(byRoomType, criteria.getRoomTypes()));
+        }
+        if (criteria.getCheckInFrom() != null || criteria.getCheckInTo() != null) {
+            fields.add(checkInBetween(criteria.getCheckInFrom(), criteria.getCheckInTo()));
+        }
+        if (fields.isEmpty()) {
+            return live;
+        }
+        fields.sort(Comparator.comparingInt(CompressedBitmap::cardinality));
+        CompressedBitmap result = fields.get(0);
+        for (int i = 1; i < fields.size() && !result.isEmpty(); i++) {
+            result = CompressedBitmap.and(result, fields.get(i));
+        }
+        return result;
+    }
+
+    private static <K> CompressedBitmap union(Map<K, CompressedBitmap> bitmaps, Collection<K> keys) {
+        CompressedBitmap result = new CompressedBitmap();
+        for (K key : keys) {
+            CompressedBitmap bitmap = bitmaps.get(key);
+            if (bitmap != null) {
+                result = CompressedBitmap.or(result, bitmap);
+            }
+        }
+        return result;
+    }
+
+    // Check-in on or after from and on or before to (either may be open); whole months are OR'd straight in,
+    // the two months the window cuts through are filtered on their check-in day
+    private CompressedBitmap checkInBetween(LocalDate from, LocalDate to) {
+        int fromDay = from == null ? Integer.MIN_VALUE + 1 : (int) from.toEpochDay();
+        int toDay = to == null ? Integer.MAX_VALUE : (int) to.toEpochDay();
+        if (fromDay > toDay) {
+            return new CompressedBitmap();
+        }
+        NavigableMap<Integer, CompressedBitmap> months = byMonth;
+        if (from != null) {
+            months = months.tailMap(monthKey(from), true);
+        }
+        if (to != null) {
+            months = months.headMap(monthKey(to), true);
+        }
+        CompressedBitmap result = new CompressedBitmap();
+        for (Map.Entry<Integer, CompressedBitmap> month : months.entrySet()) {
+            LocalDate first = LocalDate.of(month.getKey() / 12, month.getKey() % 12 + 1, 1);
+            if (first.toEpochDay() >= fromDay && first.plusMonths(1).toEpochDay() - 1 <= toDay) {
+                result = CompressedBitmap.or(result, month.getValue());
+            } else {
+                CompressedBitmap part = new CompressedBitmap();
+                month.getValue().forEach(ordinal -> {
+                    if (checkInDays[ordinal] >= fromDay && checkInDays[ordinal] <= toDay) {
+                        part.add(ordinal);
+                    }
+                });
+                result = CompressedBitmap.or(result, part);
+            }
+        }
+        return result;
+    }
+
+    private static Map<String, Integer> tally(CompressedBitmap matches, Map<String, CompressedBitmap> bitmaps) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        bitmaps.forEach((key, bitmap) -> {
+            int count = CompressedBitmap.andCardinality(matches, bitmap);
+            if (count > 0) {
+                counts.put(key, count);
+            }
+        });
+        return counts;
+    }
+
+    // A reused ordinal if one is free, otherwise the next new one
+    private int ordinalFor(long id) {
+        int ordinal;
+        if (freeCount > 0) {
+            ordinal = free[--freeCount];
+        } else {
+            if (size == ids.length) {
+                int capacity = size + (size >> 1);
+                ids = Arrays.copyOf(ids, capacity);
+                createdMicros = Arrays.copyOf(createdMicros, capacity);
+                statuses = Arrays.copyOf(statuses, capacity);
+                roomTypes = Arrays.copyOf(roomTypes, capacity);
+                checkInDays = Arrays.copyOf(checkInDays, capacity);
+            }
+            ordinal = size++;
+        }
+        ids[ordinal] = id;
+        ordinals.put(id, ordinal);
+        return ordinal;
+    }
+
+    private void set(int ordinal, String status, String roomType, LocalDate checkIn, LocalDateTime createdAt) {
+        statuses[ordinal] = status;
+        roomTypes[ordinal] = roomType;
+        checkInDays[ordinal] = checkIn == null ? NO_DATE : (int) checkIn.toEpochDay();
+        createdMicros[ordinal] = micros(createdAt);
+        live.add(ordinal);
+        if (status != null) {
+            byStatus.computeIfAbsent(status, key -> new CompressedBitmap()).add(ordinal);
+        }
+        if (roomType != null) {
+            byRoomType.computeIfAbsent(roomType, key -> new CompressedBitmap()).add(ordinal);
+        }
+        if (checkIn != null) {
+            byMonth.computeIfAbsent(monthKey(checkIn), key -> new CompressedBitmap()).add(ordinal);
+        }
+    }
+
+    // Clears the ordinal from every field bitmap, dropping bitmaps left empty
+    private void unset(int ordinal) {
+        unset(byStatus, statuses[ordinal], ordinal);
+        unset(byRoomType, roomTypes[ordinal], ordinal);
+        if (checkInDays[ordinal] != NO_DATE) {
+            unset(byMonth, monthKey(LocalDate.ofEpochDay(checkInDays[ordinal])), ordinal);
+        }
+    }
+
+    private static <K> void unset(Map<K, CompressedBitmap> bitmaps, K key, int ordinal) {
+        CompressedBitmap bitmap = key == null ? null : bitmaps.get(key);
+        if (bitmap != null) {
+            bitmap.remove(ordinal);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+
+    private void clear() {
+        ordinals.clear();
+        byStatus.clear();
+        byRoomType.clear();
+        byMonth.clear();
+        live = new CompressedBitmap();
+        free = new int[16];
+        freeCount = 0;
+        ids = new long[1024];
+        createdMicros = new long[1024];
+        statuses = new String[1024];
+        roomTypes = new String[1024];
+        checkInDays = new int[1024];
+        size = 0;
+    }
+
+    // Months counted from year 0, so consecutive months have consecutive keys
+    private static int monthKey(LocalDate date) {
+        return date.getYear() * 12 + date.getMonthValue() - 1;
+    }
+
+    // Creation time at the database's microsecond precision, so index order matches the listing's keyset order
+    private static long micros(LocalDateTime time) {
+        if (time == null) {
+            return 0;
+        }
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    private static LocalDateTime dateTime(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+            (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    // Which reservations to match: any of the statuses, any of the room types, check-in within the dates
+    // (inclusive, either may be open). A null or empty set places no restriction on its field.
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Criteria {
+        private Set<String> statuses;
+        private Set<String> roomTypes;
+        private LocalDate checkInFrom;
+        private LocalDate checkInTo;
+    }
+
+    // Reservation counts for a filter - statuses and room types with no matches are left out
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Counts {
+        private int total;
+        private Map<String, Integer> byStatus;
+        private Map<String, Integer> byRoomType;
+    }
+}
@@ -0,0 +1,210 @@
+package com.oceanview.reservation.service;
+
+import com.oceanview.reservation.config.ReadWriteRoutingDataSource;
+import com.oceanview.reservation.model.Reservation;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+// Read-through cache of detached reservation copies in front of ReservationRepository.findById, so repeated
+// detail, billing and status reads are answered without taking a pooled connection. Committed changes are
+// written through from ReservationChangedEvent; entries also expire after a TTL (covering writes made outside
+// ReservationService) and the least recently used are evicted beyond the size limit.
+// Entries are spread over lock stripes; callers always receive their own copy. Misses are loaded from the primary
+// database even when reads are routed to a replica, so a copy that lagged behind is never kept for the whole TTL.
+@Component
+@Slf4j
+public class ReservationCache {
+
+    private static final int STRIPE_COUNT = 16;
+
+    // Version of a deleted reservation - nothing older can be stored over it
+    private static final LocalDateTime DELETED = LocalDateTime.MAX;
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final Stripe[] stripes = new Stripe[STRIPE_COUNT];
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    @Autowired
+    public ReservationCache(@Value("${reservation.cache.enabled:true}") boolean enabled,
+                            @Value("${reservation.cache.max-entries:5000}") int maxEntries,
+                            @Value("${reservation.cache.ttl-seconds:300}") long ttlSeconds) {
+        this(enabled, maxEntries, ttlSeconds, System::nanoTime);
+    }
+
+    ReservationCache(boolean enabled, int maxEntries, long ttlSeconds, LongSupplier clock) {
+        if (maxEntries < STRIPE_COUNT) {
+            throw new IllegalArgumentException("reservation.cache.max-entries must be at least " + STRIPE_COUNT);
+        }
+        if (ttlSeconds < 1) {
+            throw new IllegalArgumentException("reservation.cache.ttl-seconds must be at least 1");
+        }
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.clock = clock;
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Stripe(maxEntries / STRIPE_COUNT);
+        }
+        log.info("Reservation cache {} (max {} entries, TTL {} s)", enabled ? "enabled" : "disabled", maxEntries, ttlSeconds);
+    }
+
+    // The reservation from the cache, or from the loader (which is then cached) on a miss or expiry
+    public Optional<Reservation> get(Long id, Supplier<Optional<Reservation>> loader) {
+        if (!enabled || id == null) {
+            return loader.get();
+        }
+        Stripe stripe = stripeFor(id);
+        Entry entry;
+        synchronized (stripe) {
+            entry = stripe.get(id);
+            if (entry != null && entry.expiresAt - clock.getAsLong() <= 0) {
+                stripe.remove(id);
+                entry = null;
+            }
+        }
+        if (entry != null) {
+            hits.increment();
+            return Optional.ofNullable(entry.reservation).map(ReservationCache::copy);
+        }
+
+        misses.increment();
+        Optional<Reservation> loaded = ReadWriteRoutingDataSource.readFromPrimary(loader);
+        loaded.ifPresent(this::put);
+        return loaded;
+    }
+
+    // Store a copy of the reservation, unless a newer version of it is already cached
+    public void put(Reservation reservation) {
+        if (enabled && reservation.getId() != null) {
+            store(reservation.getId(), copy(reservation), versionOf(reservation));
+        }
+    }
+
+    // Write committed changes through (deletes leave a marker so a concurrent read cannot bring the row back)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (event.isDeleted()) {
+            store(event.reservationId(), null, DELETED);
+        } else {
+            store(event.reservationId(), copy(event.current()), versionOf(event.current()));
+        }
+    }
+
+    // Drop a copy known to be out of date, e.g. after a conditional update found a newer version in the database
+    public void evict(Long id) {
+        if (!enabled || id == null) {
+            return;
+        }
+        Stripe stripe = stripeFor(id);
+        synchronized (stripe) {
+            stripe.remove(id);
+        }
+    }
+
+    public void clear() {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Stats stats() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return new Stats(enabled, size, maxEntries, hits.sum(), misses.sum());
+    }
+
+    private void store(Long id, Reservation reservation, LocalDateTime version) {
+        Stripe stripe = stripeFor(id);
+        long now = clock.getAsLong();
+        synchronized (stripe) {
+            Entry existing = stripe.get(id);
+            boolean current = existing != null && existing.expiresAt - now > 0;
+            if (!current || !version.isBefore(existing.version)) {
+                stripe.put(id, new Entry(reservation, version, now + ttlNanos));
+            }
+        }
+    }
+
+    private Stripe stripeFor(Long id) {
+        return stripes[Long.hashCode(id * 0x9E3779B97F4A7C15L) & (STRIPE_COUNT - 1)];
+    }
+
+    // Compared at the database's microsecond precision, so a reloaded copy matches the version it was saved with
+    private static LocalDateTime versionOf(Reservation reservation) {
+        return reservation.getUpdatedAt() != null
+                ? reservation.getUpdatedAt().truncatedTo(ChronoUnit.MICROS)
+                : LocalDateTime.MIN;
+    }
+
+    private static Reservation copy(Reservation reservation) {
+        Reservation copy = new Reservation();
+        BeanUtils.copyProperties(reservation, copy);
+        return copy;
+    }
+
+    // A cached copy (null for a deleted reservation), the version it was read at and when it expires
+    private record Entry(Reservation reservation, LocalDateTime version, long expiresAt) {
+    }
+
+    // One lock stripe: a least-recently-used map holding its share of the entries
+    private static class Stripe extends LinkedHashMap<Long, Entry> {
+        private final int capacity;
+
+        Stripe(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            return size() > capacity;
+        }
+    }
+
+    // Cache statistics DTO
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Stats {
+        private boolean enabled;
+        private int size;
+        private int maxEntries;
+        private long hits;
+        private long misses;
+    }
+}
@@ -0,0 +1,17 @@
+package com.oceanview.reservation.service;
+
+import com.oceanview.reservation.model.Reservation;
+
+// Published by ReservationService whenever a reservation is created, updated or deleted.
+// Listeners receive it after the surrounding transaction commits. previous is a detached copy of the
+// stored state before the change (null for creates); current is null for deletes.
+public record ReservationChangedEvent(Long reservationId, Reservation previous, Reservation current) {
+
+    public boolean isCreated() {
+        return previous == null;
+    }
+
+    public boolean isDeleted() {
+        return current == null;
+    }
+}
@@ -0,0 +1,158 @@
+package com.oceanview.reservation.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.oceanview.reservation.model.Reservation;
+import com.oceanview.reservation.repository.ReservationRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+// Streams reservations straight to an output stream so exports use constant memory however many rows there are
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReservationExportService {
+
+    // Clear the persistence context this often so exported entities can be garbage collected
+    private static final int DETACH_EVERY = 500;
+
+    private static final String CSV_HEADER = "id,guestFullName,email,contactNumber,address,roomType,checkIn,checkOut," +
+            "numberOfGuests,status,totalAmount,specialRequests,createdAt,updatedAt";
+
+    private final ReservationRepository reservationRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format from(String value) {
+            for (Format format : values()) {
+                if (format.extension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported export format: " + value + " (use ndjson or csv)");
+        }
+    }
+
+    // Write every reservation (or those checking in between from and to) and return the row count
+    @Transactional(readOnly = true)
+    public long export(Format format, LocalDate from, LocalDate to, OutputStream out) throws IOException {
+        if ((from == null) != (to == null)) {
+            throw new IllegalArgumentException("Both from and to dates are required for a date range export");
+        }
+        log.info("Exporting reservations as {} (check-in {} to {})", format, from, to);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long rows;
+        try (Stream<Reservation> reservations = from == null
+                ? reservationRepository.streamAll()
+                : reservationRepository.streamByCheckInBetween(from, to)) {
+            rows = format == Format.CSV
+                    ? writeCsv(reservations.iterator(), writer)
+                    : writeNdjson(reservations.iterator(), writer);
+        }
+        writer.flush();
+
+        log.info("Exported {} reservations as {}", rows, format);
+        return rows;
+    }
+
+    private long writeNdjson(Iterator<Reservation> reservations, Writer writer) throws IOException {
+        long rows = 0;
+        // Closing the sequence must not close the response stream underneath it
+        try (SequenceWriter sequence = objectMapper.writer()
+                .withRootValueSeparator("\n")
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .writeValues(writer)) {
+            while (reservations.hasNext()) {
+                sequence.write(reservations.next());
+                detachPeriodically(++rows);
+            }
+        }
+        if (rows > 0) {
+            writer.write('\n');
+        }
+        return rows;
+    }
+
+    private long writeCsv(Iterator<Reservation> reservations, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        long rows = 0;
+        while (reservations.hasNext()) {
+            Reservation r = reservations.next();
+            writer.write(String.valueOf(r.getId()));
+            writeCsvField(writer, r.getGuestFullName());
+            writeCsvField(writer, r.getEmail());
+            writeCsvField(writer, r.getContactNumber());
+            writeCsvField(writer, r.getAddress());
+            writeCsvField(writer, r.getRoomType());
+            writeCsvField(writer, r.getCheckIn());
+            writeCsvField(writer, r.getCheckOut());
+            writeCsvField(writer, r.getNumberOfGuests());
+            writeCsvField(writer, r.getStatus());
+            writeCsvField(writer, r.getTotalAmount());
+            writeCsvField(writer, r.getSpecialRequests());
+            writeCsvField(writer, r.getCreatedAt());
+            writeCsvField(writer, r.getUpdatedAt());
+            writer.write('\n');
+            detachPeriodically(++rows);
+        }
+        return rows;
+    }
+
+    // Quote fields that contain separators, quotes or line breaks (RFC 4180)
+    private static void writeCsvField(Writer writer, Object value) throws IOException {
+        writer.write(',');
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private void detachPeriodically(long rows) {
+        if (rows % DETACH_EVERY == 0) {
+            entityManager.clear();
+        }
+    }
+}
@@ -0,0 +1,403 @@
+package com.oceanview.reservation.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oceanview.reservation.model.Reservation;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Bulk-loads reservations from a CSV or NDJSON stream (the formats GET /export writes).
+// Rows are parsed and validated as they are read; every CHUNK_SIZE rows the valid ones are conflict-checked,
+// locked and inserted with JDBC batches in one transaction, so memory stays flat and a bad chunk only loses
+// itself. Rows that fail are reported by line number instead of stopping the import.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReservationImportService {
+
+    static final int CHUNK_SIZE = 1000;
+
+    // Error details kept in the report; the counts always cover every row
+    private static final int MAX_REPORTED_ERRORS = 10_000;
+
+    // Columns the CSV header may name (id and updatedAt from an export are ignored - ids are assigned here)
+    private static final Set<String> CSV_COLUMNS = Set.of("id", "guestFullName", "email", "contactNumber", "address",
+            "roomType", "checkIn", "checkOut", "numberOfGuests", "status", "totalAmount", "specialRequests",
+            "createdAt", "updatedAt");
+
+    private static final String INSERT_SQL = "INSERT INTO reservation (id, guest_full_name, address, contact_number, " +
+            "email, room_type, check_in, check_out, number_of_guests, special_requests, status, total_amount, " +
+            "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final ReservationService reservationService;
+    private final RoomInventory roomInventory;
+    private final BookingCoordinator bookingCoordinator;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    // Import every row of the stream and report how many were stored and why the others were not
+    public ImportReport importReservations(ReservationExportService.Format format, InputStream in) throws IOException {
+        log.info("Importing reservations from {}", format);
+        ImportReport report = new ImportReport(0, 0, 0, new ArrayList<>(), false);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        RowSource rows = format == ReservationExportService.Format.CSV ? new CsvRows(reader) : new NdjsonRows(reader);
+
+        List<Row> chunk = new ArrayList<>(CHUNK_SIZE);
+        Row row;
+        while ((row = rows.next()) != null) {
+            report.rows++;
+            String error = row.reservation == null ? row.error : validate(row.reservation);
+            if (error != null) {
+                report.fail(row.line, error);
+                continue;
+            }
+            chunk.add(row);
+            if (chunk.size() == CHUNK_SIZE) {
+                store(chunk, report);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            store(chunk, report);
+        }
+        // Conflicts are only known once a chunk is stored, after later rows' parse errors
+        report.errors.sort(Comparator.comparingLong(RowError::getLine));
+
+        log.info("Imported {} of {} reservations ({} failed)", report.imported, report.rows, report.failed);
+        return report;
+    }
+
+    // Same rules as POST /api/reservations (bean validation), plus the defaults create applies
+    private String validate(Reservation reservation) {
+        reservation.setId(null);
+        if (reservation.getStatus() == null || reservation.getStatus().isBlank()) {
+            reservation.setStatus("PENDING");
+        }
+        Set<ConstraintViolation<Reservation>> violations = validator.validate(reservation);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .collect(Collectors.joining("; "));
+    }
+
+    // One transaction per chunk: lock the chunk's nights, drop rows that would need a room on a night when stored
+    // bookings and earlier rows of the chunk already take every room of the type, then batch insert the rest
+    private void store(List<Row> chunk, ImportReport report) {
+        List<Row> conflicts = new ArrayList<>();
+        try {
+            List<Reservation> stored = transactionTemplate.execute(status -> {
+                conflicts.clear();
+                bookingCoordinator.lockNights(chunk.stream().map(row -> row.reservation).toList());
+
+                // Rooms taken by rows accepted so far, per room type and night (epoch day)
+                Map<String, Map<Long, Integer>> accepted = new HashMap<>();
+                List<Reservation> toInsert = new ArrayList<>(chunk.size());
+                for (Row row : chunk) {
+                    Reservation reservation = row.reservation;
+                    if (RoomOccupancyIndex.ACTIVE_STATUSES.contains(reservation.getStatus())) {
+                        Map<Long, Integer> chunkNights = accepted.computeIfAbsent(reservation.getRoomType(), type -> new HashMap<>());
+                        if (isFullyBooked(reservation, chunkNights)) {
+                            conflicts.add(row);
+                            continue;
+                        }
+                        for (long night = reservation.getCheckIn().toEpochDay(); night < reservation.getCheckOut().toEpochDay(); night++) {
+                            chunkNights.merge(night, 1, Integer::sum);
+                        }
+                    }
+                    toInsert.add(reservation);
+                }
+
+                insert(toInsert);
+                toInsert.forEach(reservation -> eventPublisher.publishEvent(
+                        new ReservationChangedEvent(reservation.getId(), null, reservation)));
+                return toInsert;
+            });
+            report.imported += stored.size();
+            for (Row row : conflicts) {
+                report.fail(row.line, "Room type " + row.reservation.getRoomType() + " is not available for the selected dates");
+            }
+        } catch (RuntimeException e) {
+            log.error("Import chunk of {} rows failed", chunk.size(), e);
+            for (Row row : chunk) {
+                report.fail(row.line, "Not imported, the batch failed: " + e.getMessage());
+            }
+        }
+    }
+
+    private boolean isFullyBooked(Reservation reservation, Map<Long, Integer> chunkNights) {
+        int rooms = roomInventory.roomCount(reservation.getRoomType());
+        int[] booked = reservationService.bookedPerNight(reservation);
+        long first = reservation.getCheckIn().toEpochDay();
+        for (int night = 0; night < booked.length; night++) {
+            if (booked[night] + chunkNights.getOrDefault(first + night, 0) >= rooms) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Assign ids from the entity's pooled generator (shared with JPA inserts) and write the rows in JDBC batches
+    private void insert(List<Reservation> reservations) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        BeforeExecutionGenerator generator = (BeforeExecutionGenerator) session.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(Reservation.class).getGenerator();
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        for (Reservation reservation : reservations) {
+            reservation.setId((Long) generator.generate(session, reservation, null, EventType.INSERT));
+            if (reservation.getCreatedAt() == null) {
+                reservation.setCreatedAt(now);
+            }
+            reservation.setUpdatedAt(now);
+            // The column's default, so cached copies carry the version a conditional update will compare with
+            reservation.setVersion(0L);
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, reservations, reservations.size(), (statement, r) -> {
+            statement.setLong(1, r.getId());
+            statement.setString(2, r.getGuestFullName());
+            statement.setString(3, r.getAddress());
+            statement.setString(4, r.getContactNumber());
+            statement.setString(5, r.getEmail());
+            statement.setString(6, r.getRoomType());
+            statement.setDate(7, Date.valueOf(r.getCheckIn()));
+            statement.setDate(8, Date.valueOf(r.getCheckOut()));
+            statement.setInt(9, r.getNumberOfGuests());
+            statement.setString(10, r.getSpecialRequests());
+            statement.setString(11, r.getStatus());
+            if (r.getTotalAmount() == null) {
+                statement.setNull(12, Types.DECIMAL);
+            } else {
+                statement.setBigDecimal(12, r.getTotalAmount());
+            }
+            statement.setTimestamp(13, Timestamp.valueOf(r.getCreatedAt()));
+            statement.setTimestamp(14, Timestamp.valueOf(r.getUpdatedAt()));
+        });
+    }
+
+    // A parsed input row: the reservation, or the reason it could not be read
+    private record Row(long line, Reservation reservation, String error) {
+    }
+
+    private interface RowSource {
+        // The next row, or null at the end of the input
+        Row next() throws IOException;
+    }
+
+    // One JSON object per line; blank lines are skipped
+    private class NdjsonRows implements RowSource {
+        private final BufferedReader reader;
+        private long line;
+
+        NdjsonRows(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public Row next() throws IOException {
+            String text;
+            while ((text = reader.readLine()) != null) {
+                line++;
+                if (text.isBlank()) {
+                    continue;
+                }
+                try {
+                    return new Row(line, objectMapper.readValue(text, Reservation.class), null);
+                } catch (JsonProcessingException e) {
+                    return new Row(line, null, "Invalid JSON: " + e.getOriginalMessage());
+                }
+            }
+            return null;
+        }
+    }
+
+    // RFC 4180 CSV with a header row naming the columns; quoted fields may contain commas, quotes and line breaks
+    private static class CsvRows implements RowSource {
+        private final BufferedReader reader;
+        private String[] header;
+        private long line;
+        private long recordLine;
+
+        CsvRows(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public Row next() throws IOException {
+            if (header == null) {
+                List<String> names = readRecord();
+                if (names == null) {
+                    return null;
+                }
+                for (String name : names) {
+                    if (!CSV_COLUMNS.contains(name)) {
+                        throw new IllegalArgumentException("Unknown CSV column: " + name);
+                    }
+                }
+                header = names.toArray(new String[0]);
+            }
+
+            List<String> values;
+            do {
+                values = readRecord();
+                if (values == null) {
+                    return null;
+                }
+            } while (values.size() == 1 && values.get(0).isEmpty());
+            long start = recordLine;
+
+            if (values.size() != header.length) {
+                return new Row(start, null, "Expected " + header.length + " columns but found " + values.size());
+            }
+            Reservation reservation = new Reservation();
+            for (int i = 0; i < header.length; i++) {
+                String value = values.get(i).isEmpty() ? null : values.get(i);
+                try {
+                    set(reservation, header[i], value);
+                } catch (RuntimeException e) {
+                    return new Row(start, null, header[i] + ": invalid value '" + value + "'");
+                }
+            }
+            return new Row(start, reservation, null);
+        }
+
+        private static void set(Reservation reservation, String column, String value) {
+            switch (column) {
+                case "guestFullName" -> reservation.setGuestFullName(value);
+                case "email" -> reservation.setEmail(value);
+                case "contactNumber" -> reservation.setContactNumber(value);
+                case "address" -> reservation.setAddress(value);
+                case "roomType" -> reservation.setRoomType(value);
+                case "checkIn" -> reservation.setCheckIn(value == null ? null : LocalDate.parse(value));
+                case "checkOut" -> reservation.setCheckOut(value == null ? null : LocalDate.parse(value));
+                case "numberOfGuests" -> reservation.setNumberOfGuests(value == null ? null : Integer.valueOf(value));
+                case "status" -> reservation.setStatus(value);
+                case "totalAmount" -> reservation.setTotalAmount(value == null ? null : new BigDecimal(value));
+                case "specialRequests" -> reservation.setSpecialRequests(value);
+                case "createdAt" -> reservation.setCreatedAt(value == null ? null : LocalDateTime.parse(value));
+                default -> {
+                    // id and updatedAt are assigned on insert
+                }
+            }
+        }
+
+        // The fields of the next record, or null at the end of the input
+        private List<String> readRecord() throws IOException {
+            String text = reader.readLine();
+            if (text == null) {
+                return null;
+            }
+            recordLine = ++line;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            int pos = 0;
+            while (true) {
+                if (pos == text.length()) {
+                    if (!quoted) {
+                        break;
+                    }
+                    // Line break inside a quoted field
+                    String more = reader.readLine();
+                    if (more == null) {
+                        break;
+                    }
+                    line++;
+                    field.append('\n');
+                    text = more;
+                    pos = 0;
+                    continue;
+                }
+                char c = text.charAt(pos++);
+                if (quoted) {
+                    if (c == '"' && pos < text.length() && text.charAt(pos) == '"') {
+                        field.append('"');
+                        pos++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+
+    // Import result DTO - errors lists the failed rows by line number (capped at MAX_REPORTED_ERRORS)
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ImportReport {
+        private long rows;
+        private long imported;
+        private long failed;
+        private List<RowError> errors;
+        private boolean errorsTruncated;
+
+        void fail(long line, String error) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new RowError(line, error));
+            } else {
+                errorsTruncated = true;
+            }
+        }
+    }
+
+    // A row that was not imported and why
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private long line;
+        private String error;
+    }
+}
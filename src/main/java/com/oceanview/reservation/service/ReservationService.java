@@ -1,15 +1,46 @@
 package com.oceanview.reservation.service;
 
 import com.oceanview.reservation.model.Reservation;
+import com.oceanview.reservation.model.ReservationStatus;
+import com.oceanview.reservation.model.ReservationSummary;
 import com.oceanview.reservation.repository.ReservationRepository;
+import com.oceanview.reservation.repository.ReservationSpecifications;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 // Business logic for managing reservations
 @Service
@@ -18,7 +49,37 @@ import java.util.Optional;
 @Transactional
 public class ReservationService {
 
+    // Listing page size limits
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // Guest search result limits, and how many index matches to check against the other filters per query
+    private static final int DEFAULT_SEARCH_LIMIT = 10;
+    private static final int MAX_SEARCH_LIMIT = 50;
+    private static final int MATCH_CHUNK = 500;
+
+    // How many reservations GET /recent returns
+    private static final int RECENT_LIMIT = 50;
+
+    // Most reservations one bulk status change may name
+    private static final int MAX_BULK_TRANSITION = 500;
+
+    private static final String TRANSITION_SQL = "UPDATE reservation SET status = ?, version = version + 1, " +
+            "updated_at = ? WHERE id = ? AND version = ?";
+
+    // Keyset order for listings: newest first, id breaks ties between rows created in the same instant
+    private static final Sort KEYSET_ORDER = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
     private final ReservationRepository reservationRepository;
+    private final RoomOccupancyIndex roomOccupancyIndex;
+    private final RoomInventory roomInventory;
+    private final GuestSearchIndex guestSearchIndex;
+    private final ReservationBitmapIndex bitmapIndex;
+    private final ReservationCache reservationCache;
+    private final BookingCoordinator bookingCoordinator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final JdbcTemplate jdbcTemplate;
 
     // Create a new reservation (validates dates and checks for double-booking)
     public Reservation create(Reservation reservation) {
@@ -31,12 +92,15 @@ public class ReservationService {
             throw new IllegalArgumentException("Check-out date must be after check-in date");
         }
 
-        // Make sure the room isn't already booked for those dates
-        if (hasOverlap(reservation)) {
+        // Make sure a room of this type is still free on every night
+        // (competing bookings for the same nights wait here until this one commits)
+        lockNights(reservation);
+        if (isFullyBooked(reservation)) {
             log.error("Room type {} not available for dates {} to {}", 
                      reservation.getRoomType(), 
                      reservation.getCheckIn(), 
                      reservation.getCheckOut());
+            recordConflict("create");
             throw new IllegalArgumentException("Room type " + reservation.getRoomType() + 
                                              " is not available for the selected dates");
         }
@@ -44,17 +108,25 @@ public class ReservationService {
         if (reservation.getStatus() == null || reservation.getStatus().isEmpty()) {
             reservation.setStatus("PENDING");
         }
+        if (statusOf(reservation) == ReservationStatus.CHECKED_IN) {
+            throw new IllegalArgumentException("Create the reservation first, then check it in to assign a room");
+        }
+        // Rooms are assigned at check-in
+        reservation.setRoomNumber(null);
+        reservation.setVersion(null);
         
         Reservation savedReservation = reservationRepository.save(reservation);
+        eventPublisher.publishEvent(new ReservationChangedEvent(savedReservation.getId(), null, savedReservation));
         log.info("Reservation created with ID: {}", savedReservation.getId());
 
         return savedReservation;
     }
 
-    // Get a reservation by its ID
-    @Transactional(readOnly = true)
+    // Get a reservation by its ID - a detached copy, served from ReservationCache when possible.
+    // No transaction of its own, so a cache hit never borrows a connection from the pool.
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Optional<Reservation> getById(Long id) {
-        return reservationRepository.findById(id);
+        return reservationCache.get(id, () -> reservationRepository.findById(id));
     }
 
     // Get all reservations
@@ -63,13 +135,184 @@ public class ReservationService {
         return reservationRepository.findAll();
     }
 
-    // Search reservations by guest name
+    // Get one page of reservations (newest first) matching the filter, continuing after the given cursor
+    @Transactional(readOnly = true)
+    public ReservationPage<Reservation> listPage(ReservationFilter filter, String cursor, Integer pageSize) {
+        return listPage(filter, cursor, pageSize,
+            (specification, limit) -> reservationRepository.findBy(specification,
+                query -> query.sortBy(KEYSET_ORDER).limit(limit).all()),
+            reservation -> new PageCursor(reservation.getCreatedAt(), reservation.getId()));
+    }
+
+    // Same page as listPage, with only the summary columns selected
+    @Transactional(readOnly = true)
+    public ReservationPage<ReservationSummary> listSummaryPage(ReservationFilter filter, String cursor,
+                                                               Integer pageSize) {
+        return listPage(filter, cursor, pageSize,
+            (specification, limit) -> reservationRepository.findSummaries(specification, KEYSET_ORDER, limit),
+            summary -> new PageCursor(summary.createdAt(), summary.id()));
+    }
+
+    // fetch loads at most limit rows matching a specification in KEYSET_ORDER; key gives a row's cursor position
+    private <T> ReservationPage<T> listPage(ReservationFilter filter, String cursor, Integer pageSize,
+                                            BiFunction<Specification<Reservation>, Integer, List<T>> fetch,
+                                            Function<T, PageCursor> key) {
+        int size = pageSize == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(pageSize, 1), MAX_PAGE_SIZE);
+
+        List<Specification<Reservation>> conditions = new ArrayList<>();
+        if (filter.getStatus() != null) {
+            conditions.add(ReservationSpecifications.hasStatus(filter.getStatus()));
+        }
+        if (filter.getRoomType() != null) {
+            conditions.add(ReservationSpecifications.hasRoomType(filter.getRoomType()));
+        }
+        if (filter.getCheckInFrom() != null) {
+            conditions.add(ReservationSpecifications.checkInFrom(filter.getCheckInFrom()));
+        }
+        if (filter.getCheckInTo() != null) {
+            conditions.add(ReservationSpecifications.checkInTo(filter.getCheckInTo()));
+        }
+        PageCursor after = cursor == null || cursor.isBlank() ? null : decodeCursor(cursor);
+        if (after != null) {
+            conditions.add(ReservationSpecifications.createdBefore(after.createdAt(), after.id()));
+        }
+
+        String guest = filter.getGuest() == null ? null : filter.getGuest().trim();
+        if (guest != null && !guest.isEmpty()) {
+            // The guest search index hands back the newest matches in listing order; the database applies the rest
+            int batch = hasFieldFilter(filter) ? MATCH_CHUNK : size + 1;
+            IndexMatches matches = guestSearchIndex.isReady()
+                ? guestSearchIndex.matchesNewestFirst(guest, after == null ? null : after.createdAt(),
+                                                      after == null ? null : after.id(), batch)
+                : null;
+            if (matches != null) {
+                return pageOfMatches(matches, batch,
+                    (createdAt, id) -> guestSearchIndex.matchesNewestFirst(guest, createdAt, id, batch),
+                    conditions, size, fetch, key);
+            }
+            conditions.add(ReservationSpecifications.guestMatches(guest));
+        } else if (!conditions.isEmpty() && bitmapIndex.isReady() && hasFieldFilter(filter)) {
+            // The bitmap index picks the page's rows; the database only loads them (and rechecks the filters)
+            ReservationBitmapIndex.Criteria criteria = criteria(filter);
+            IndexMatches matches = bitmapIndex.newestFirst(criteria,
+                after == null ? null : after.createdAt(), after == null ? null : after.id(), size + 1);
+            return pageOfMatches(matches, size + 1,
+                (createdAt, id) -> bitmapIndex.newestFirst(criteria, createdAt, id, size + 1),
+                conditions, size, fetch, key);
+        }
+
+        // Fetch one extra row to find out whether another page follows
+        return toPage(fetch.apply(Specification.allOf(conditions), size + 1), size, key);
+    }
+
+    // Load index matches (already in keyset order) a batch at a time, filtering each batch in the database. When
+    // the database drops some of them (other filters, or an index or replica that is behind), next gives the batch
+    // after the last index match - not after the last row kept - until the page is full or the index runs out.
+    private <T> ReservationPage<T> pageOfMatches(IndexMatches matches, int batch,
+                                                 BiFunction<LocalDateTime, Long, IndexMatches> next,
+                                                 List<Specification<Reservation>> conditions, int size,
+                                                 BiFunction<Specification<Reservation>, Integer, List<T>> fetch,
+                                                 Function<T, PageCursor> key) {
+        List<T> rows = new ArrayList<>();
+        while (!matches.ids().isEmpty()) {
+            List<Specification<Reservation>> batchConditions = new ArrayList<>(conditions);
+            batchConditions.add(ReservationSpecifications.idIn(matches.ids()));
+            rows.addAll(fetch.apply(Specification.allOf(batchConditions), size + 1 - rows.size()));
+            if (rows.size() > size || matches.ids().size() < batch) {
+                break;
+            }
+            matches = next.apply(matches.lastCreatedAt(), matches.lastId());
+        }
+        return toPage(rows, size, key);
+    }
+
+    private static boolean hasFieldFilter(ReservationFilter filter) {
+        return filter.getStatus() != null || filter.getRoomType() != null
+            || filter.getCheckInFrom() != null || filter.getCheckInTo() != null;
+    }
+
+    private static ReservationBitmapIndex.Criteria criteria(ReservationFilter filter) {
+        return new ReservationBitmapIndex.Criteria(
+            filter.getStatus() == null ? null : Set.of(filter.getStatus()),
+            filter.getRoomType() == null ? null : Set.of(filter.getRoomType()),
+            filter.getCheckInFrom(), filter.getCheckInTo());
+    }
+
+    // Count reservations matching the criteria, in total and per status and room type.
+    // Bitmap operations once the index has warmed up, one pass over the matching rows before that.
+    @Transactional(readOnly = true)
+    public ReservationBitmapIndex.Counts count(ReservationBitmapIndex.Criteria criteria) {
+        if (criteria.getCheckInFrom() != null && criteria.getCheckInTo() != null
+                && criteria.getCheckInTo().isBefore(criteria.getCheckInFrom())) {
+            throw new IllegalArgumentException("to must not be before from");
+        }
+        if (bitmapIndex.isReady()) {
+            return bitmapIndex.counts(criteria);
+        }
+
+        List<Specification<Reservation>> conditions = new ArrayList<>();
+        if (criteria.getStatuses() != null && !criteria.getStatuses().isEmpty()) {
+            conditions.add(ReservationSpecifications.statusIn(criteria.getStatuses()));
+        }
+        if (criteria.getRoomTypes() != null && !criteria.getRoomTypes().isEmpty()) {
+            conditions.add(ReservationSpecifications.roomTypeIn(criteria.getRoomTypes()));
+        }
+        if (criteria.getCheckInFrom() != null) {
+            conditions.add(ReservationSpecifications.checkInFrom(criteria.getCheckInFrom()));
+        }
+        if (criteria.getCheckInTo() != null) {
+            conditions.add(ReservationSpecifications.checkInTo(criteria.getCheckInTo()));
+        }
+        Map<String, Integer> byStatus = new TreeMap<>();
+        Map<String, Integer> byRoomType = new TreeMap<>();
+        int[] total = {0};
+        try (Stream<Reservation> rows = reservationRepository.findBy(Specification.allOf(conditions),
+                query -> query.stream())) {
+            rows.forEach(reservation -> {
+                total[0]++;
+                if (reservation.getStatus() != null) {
+                    byStatus.merge(reservation.getStatus(), 1, Integer::sum);
+                }
+                if (reservation.getRoomType() != null) {
+                    byRoomType.merge(reservation.getRoomType(), 1, Integer::sum);
+                }
+            });
+        }
+        return new ReservationBitmapIndex.Counts(total[0], byStatus, byRoomType);
+    }
+
+    private static <T> ReservationPage<T> toPage(List<T> rows, int size, Function<T, PageCursor> key) {
+        boolean hasMore = rows.size() > size;
+        List<T> items = hasMore ? rows.subList(0, size) : rows;
+        String nextCursor = hasMore ? encodeCursor(key.apply(items.get(items.size() - 1))) : null;
+        return new ReservationPage<>(items, nextCursor, size);
+    }
+
+    // Search reservations by guest name, email or contact number - best matches first
     @Transactional(readOnly = true)
-    public List<Reservation> searchByGuest(String guestName) {
-        if (guestName == null || guestName.trim().isEmpty()) {
-            return listAll();
+    public List<Reservation> searchByGuest(String query, Integer limit) {
+        if (query == null || query.trim().isEmpty()) {
+            return List.of();
         }
-        return reservationRepository.findByGuestFullNameContainingIgnoreCase(guestName.trim());
+        int max = limit == null ? DEFAULT_SEARCH_LIMIT : Math.min(Math.max(limit, 1), MAX_SEARCH_LIMIT);
+
+        if (!guestSearchIndex.isReady()) {
+            // Index not warmed yet (startup) - ask the database instead
+            return reservationRepository.findBy(ReservationSpecifications.guestMatches(query.trim()),
+                q -> q.sortBy(KEYSET_ORDER).limit(max).all());
+        }
+
+        List<Long> ids = guestSearchIndex.search(query, max);
+        Map<Long, Reservation> byId = new HashMap<>();
+        reservationRepository.findAllById(ids).forEach(reservation -> byId.put(reservation.getId(), reservation));
+        List<Reservation> ranked = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Reservation reservation = byId.get(id);
+            if (reservation != null) {
+                ranked.add(reservation);
+            }
+        }
+        return ranked;
     }
 
     // Update an existing reservation
@@ -78,6 +321,12 @@ public class ReservationService {
         
         Reservation existingReservation = reservationRepository.findById(id)
             .orElseThrow(() -> new IllegalArgumentException("Reservation not found with ID: " + id));
+        Reservation previous = snapshot(existingReservation);
+
+        // A client that sends the version it read only overwrites that version
+        if (updatedReservation.getVersion() != null && !updatedReservation.getVersion().equals(existingReservation.getVersion())) {
+            throw changedConcurrently(id);
+        }
 
         // Validate dates if they're being changed
         if (updatedReservation.getCheckIn() != null && updatedReservation.getCheckOut() != null) {
@@ -87,6 +336,12 @@ public class ReservationService {
             }
         }
 
+        // Work out whether the booked room or nights move before overwriting anything
+        boolean roomTypeChanged = updatedReservation.getRoomType() != null &&
+                                  !updatedReservation.getRoomType().equals(existingReservation.getRoomType());
+        boolean datesChanged = (updatedReservation.getCheckIn() != null || 
+                               updatedReservation.getCheckOut() != null);
+
         // Update each field if provided
         if (updatedReservation.getGuestFullName() != null) {
             existingReservation.setGuestFullName(updatedReservation.getGuestFullName());
@@ -103,6 +358,10 @@ public class ReservationService {
         if (updatedReservation.getRoomType() != null) {
             existingReservation.setRoomType(updatedReservation.getRoomType());
         }
+        if (roomTypeChanged) {
+            // The assigned room belongs to the old type
+            existingReservation.setRoomNumber(null);
+        }
         if (updatedReservation.getCheckIn() != null) {
             existingReservation.setCheckIn(updatedReservation.getCheckIn());
         }
@@ -116,74 +375,258 @@ public class ReservationService {
             existingReservation.setSpecialRequests(updatedReservation.getSpecialRequests());
         }
         if (updatedReservation.getStatus() != null) {
-            existingReservation.setStatus(updatedReservation.getStatus());
+            ReservationStatus target = ReservationStatus.from(updatedReservation.getStatus());
+            if (target != statusOf(existingReservation)) {
+                checkTransition(existingReservation, target);
+                if (target == ReservationStatus.CHECKED_IN) {
+                    throw new IllegalStateException("Use check-in to move reservation " + id + " to CHECKED_IN");
+                }
+            }
+            existingReservation.setStatus(target.name());
         }
         if (updatedReservation.getTotalAmount() != null) {
             existingReservation.setTotalAmount(updatedReservation.getTotalAmount());
         }
         
-        // Check for conflicts if room type or dates changed
-        boolean roomTypeChanged = updatedReservation.getRoomType() != null &&
-                                  !updatedReservation.getRoomType().equals(existingReservation.getRoomType());
-        boolean datesChanged = (updatedReservation.getCheckIn() != null || 
-                               updatedReservation.getCheckOut() != null);
-        
+        // Check for conflicts if room type or dates changed (isFullyBooked skips this reservation's own booking)
         if (roomTypeChanged || datesChanged) {
-            Long tempId = existingReservation.getId();
-            existingReservation.setId(null);
-
-            if (hasOverlap(existingReservation)) {
-                existingReservation.setId(tempId);
+            lockNights(existingReservation);
+            if (isFullyBooked(existingReservation)) {
+                recordConflict("update");
                 throw new IllegalArgumentException("Updated dates would conflict with existing reservations");
             }
-
-            existingReservation.setId(tempId);
         }
 
         Reservation savedReservation = reservationRepository.save(existingReservation);
+        eventPublisher.publishEvent(new ReservationChangedEvent(savedReservation.getId(), previous, savedReservation));
         log.info("Reservation {} updated", savedReservation.getId());
 
         return savedReservation;
     }
 
-    // Save a reservation directly (used for status-only updates)
-    public Reservation save(Reservation reservation) {
-        return reservationRepository.save(reservation);
+    // Move a reservation to another status with one conditional UPDATE on (id, status, version).
+    // expectedVersion is the version the caller last read (null: whatever is current). CHECKED_IN goes through
+    // checkIn so a room gets assigned; moving to the current status changes nothing.
+    // Throws IllegalStateException for a move the lifecycle does not allow and OptimisticLockingFailureException
+    // when the reservation changed in the meantime.
+    public Reservation transition(Long id, String status, Long expectedVersion) {
+        ReservationStatus target = ReservationStatus.from(status);
+        Reservation current = getById(id)
+            .orElseThrow(() -> new IllegalArgumentException("Reservation not found with ID: " + id));
+        if (expectedVersion != null && !expectedVersion.equals(current.getVersion())) {
+            throw changedConcurrently(id);
+        }
+        if (target == statusOf(current)) {
+            return current;
+        }
+        checkTransition(current, target);
+        if (target == ReservationStatus.CHECKED_IN) {
+            return checkIn(id);
+        }
+
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        if (reservationRepository.transitionStatus(id, current.getStatus(), current.getVersion(), target.name(), now) == 0) {
+            // The copy read was out of date - the next read should go to the database
+            reservationCache.evict(id);
+            throw changedConcurrently(id);
+        }
+        Reservation updated = snapshot(current);
+        updated.setStatus(target.name());
+        updated.setVersion(current.getVersion() + 1);
+        updated.setUpdatedAt(now);
+        eventPublisher.publishEvent(new ReservationChangedEvent(id, current, updated));
+        log.info("Reservation {} moved from {} to {}", id, current.getStatus(), target);
+        return updated;
+    }
+
+    // Move many reservations to one status in a single UPDATE. Reservations whose status cannot move there are
+    // skipped; if any of the others changed between the read and the update, nothing is applied.
+    // Check-in assigns a room per reservation, so it has no bulk form.
+    public BulkTransition transitionAll(List<Long> ids, String status) {
+        ReservationStatus target = ReservationStatus.from(status);
+        if (target == ReservationStatus.CHECKED_IN) {
+            throw new IllegalArgumentException("Reservations are checked in one at a time");
+        }
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("ids are required");
+        }
+        if (ids.size() > MAX_BULK_TRANSITION) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_TRANSITION + " reservations per request");
+        }
+
+        Map<Long, Reservation> found = new HashMap<>();
+        reservationRepository.findAllById(ids).forEach(reservation -> found.put(reservation.getId(), snapshot(reservation)));
+        BulkTransition result = new BulkTransition(target.name(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+        for (Long id : new LinkedHashSet<>(ids)) {
+            Reservation reservation = found.get(id);
+            if (reservation == null) {
+                result.getNotFound().add(id);
+            } else if (statusOf(reservation).canMoveTo(target)) {
+                result.getUpdated().add(id);
+            } else {
+                result.getSkipped().add(id);
+            }
+        }
+        if (result.getUpdated().isEmpty()) {
+            return result;
+        }
+
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        // One conditional UPDATE per reservation, sent as a single JDBC batch. Each only applies to the version
+        // read above, so a concurrent change is never overwritten: its row is left alone and the transition rolls back
+        List<Long> moving = result.getUpdated();
+        int[][] counts = jdbcTemplate.batchUpdate(TRANSITION_SQL, moving, moving.size(), (statement, id) -> {
+            statement.setString(1, target.name());
+            statement.setTimestamp(2, Timestamp.valueOf(now));
+            statement.setLong(3, id);
+            statement.setLong(4, found.get(id).getVersion());
+        });
+        for (int i = 0; i < moving.size(); i++) {
+            if (counts[0][i] != 1) {
+                throw changedConcurrently(moving.get(i));
+            }
+        }
+
+        for (Long id : result.getUpdated()) {
+            Reservation previous = found.get(id);
+            Reservation updated = snapshot(previous);
+            updated.setStatus(target.name());
+            updated.setVersion(previous.getVersion() + 1);
+            updated.setUpdatedAt(now);
+            eventPublisher.publishEvent(new ReservationChangedEvent(id, previous, updated));
+        }
+        log.info("Moved {} reservation(s) to {} ({} skipped, {} not found)", result.getUpdated().size(), target,
+            result.getSkipped().size(), result.getNotFound().size());
+        return result;
+    }
+
+    // Stored status; rows from before statuses were checked count as PENDING
+    private static ReservationStatus statusOf(Reservation reservation) {
+        return reservation.getStatus() == null ? ReservationStatus.PENDING : ReservationStatus.from(reservation.getStatus());
+    }
+
+    private static void checkTransition(Reservation reservation, ReservationStatus target) {
+        ReservationStatus from = statusOf(reservation);
+        if (!from.canMoveTo(target)) {
+            throw new IllegalStateException("Reservation " + reservation.getId() + " cannot move from " + from
+                + " to " + target + (from.next().isEmpty() ? "" : " (allowed: " + from.next() + ")"));
+        }
+    }
+
+    private static OptimisticLockingFailureException changedConcurrently(Long id) {
+        return new OptimisticLockingFailureException("Reservation " + id + " was changed by another request - reload and try again");
     }
 
     // Delete a reservation by ID
     public void delete(Long id) {
         log.info("Deleting reservation {}", id);
         
-        if (!reservationRepository.existsById(id)) {
-            throw new IllegalArgumentException("Reservation not found with ID: " + id);
-        }
+        Reservation existingReservation = reservationRepository.findById(id)
+            .orElseThrow(() -> new IllegalArgumentException("Reservation not found with ID: " + id));
+        Reservation previous = snapshot(existingReservation);
 
-        reservationRepository.deleteById(id);
+        reservationRepository.delete(existingReservation);
+        eventPublisher.publishEvent(new ReservationChangedEvent(id, previous, null));
         log.info("Reservation {} deleted", id);
     }
 
-    // Check if the room type is already booked for the given dates
+    // Detached copy of a reservation's current field values (for change events)
+    private static Reservation snapshot(Reservation reservation) {
+        Reservation copy = new Reservation();
+        BeanUtils.copyProperties(reservation, copy);
+        return copy;
+    }
+
+    // Count a booking rejected because every room of the type is taken on one of those nights
+    private void recordConflict(String operation) {
+        meterRegistry.counter("reservation.booking.conflicts", "operation", operation).increment();
+    }
+
+    // Hold the booking locks for this room type and nights until the transaction completes
+    private void lockNights(Reservation reservation) {
+        if (reservation.getRoomType() != null && reservation.getCheckIn() != null && reservation.getCheckOut() != null) {
+            bookingCoordinator.lockNights(reservation.getRoomType(), reservation.getCheckIn(), reservation.getCheckOut());
+        }
+    }
+
+    // Check a guest in: the stay gets the lowest-numbered room of its type that no other stay holds on any of
+    // its nights, and becomes CHECKED_IN
+    public Reservation checkIn(Long id) {
+        log.info("Checking in reservation {}", id);
+
+        Reservation existingReservation = reservationRepository.findById(id)
+            .orElseThrow(() -> new IllegalArgumentException("Reservation not found with ID: " + id));
+        checkTransition(existingReservation, ReservationStatus.CHECKED_IN);
+        Reservation previous = snapshot(existingReservation);
+
+        // Check-ins for the same room type and nights take turns, so two guests never get the same room
+        lockNights(existingReservation);
+        List<String> taken = reservationRepository.findAssignedRoomNumbers(existingReservation.getRoomType(),
+            RoomOccupancyIndex.ACTIVE_STATUSES, existingReservation.getCheckIn(), existingReservation.getCheckOut(), id);
+        String roomNumber = roomInventory.roomNumbers(existingReservation.getRoomType()).stream()
+            .filter(number -> !taken.contains(number))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("No " + existingReservation.getRoomType()
+                + " room is free for the whole stay"));
+
+        existingReservation.setRoomNumber(roomNumber);
+        existingReservation.setStatus("CHECKED_IN");
+        Reservation savedReservation = reservationRepository.save(existingReservation);
+        eventPublisher.publishEvent(new ReservationChangedEvent(savedReservation.getId(), previous, savedReservation));
+        log.info("Reservation {} checked in to room {}", id, roomNumber);
+
+        return savedReservation;
+    }
+
+    // Check if every room of the type is already booked on at least one of the given nights
     @Transactional(readOnly = true)
-    public boolean hasOverlap(Reservation reservation) {
+    public boolean isFullyBooked(Reservation reservation) {
         if (reservation.getRoomType() == null || 
             reservation.getCheckIn() == null || 
             reservation.getCheckOut() == null) {
             return false;
         }
+        int rooms = roomInventory.roomCount(reservation.getRoomType());
 
-        long conflictCount = reservationRepository.countConflictingReservations(
-            reservation.getRoomType(),
-            reservation.getCheckIn(),
-            reservation.getCheckOut()
-        );
+        // If updating, the reservation's own booking must not count against the rooms
+        Long excludeId = reservation.getId();
 
-        // If updating, exclude the current reservation from the conflict count
-        if (reservation.getId() != null) {
-            return conflictCount > 1;
+        if (roomOccupancyIndex.isReady()) {
+            return roomOccupancyIndex.peakBooked(
+                reservation.getRoomType(),
+                reservation.getCheckIn(),
+                reservation.getCheckOut(),
+                excludeId
+            ) >= rooms;
+        }
+
+        // Index not warmed yet (startup) - ask the database instead
+        return Arrays.stream(bookedPerNight(reservation)).max().orElse(0) >= rooms;
+    }
+
+    // Rooms of the reservation's type booked on each of its nights, not counting its own booking
+    @Transactional(readOnly = true)
+    public int[] bookedPerNight(Reservation reservation) {
+        String roomType = reservation.getRoomType();
+        LocalDate checkIn = reservation.getCheckIn();
+        LocalDate checkOut = reservation.getCheckOut();
+        if (roomOccupancyIndex.isReady()) {
+            return roomOccupancyIndex.bookedPerNight(roomType, checkIn, checkOut, reservation.getId());
         }
 
-        return conflictCount > 0;
+        // One pass over the overlapping stays into a difference array, then a running sum
+        int nights = (int) ChronoUnit.DAYS.between(checkIn, checkOut);
+        int[] booked = new int[nights + 1];
+        long first = checkIn.toEpochDay();
+        for (ReservationRepository.StayRange stay : reservationRepository.findStaysOfRoomTypeOverlapping(
+                roomType, RoomOccupancyIndex.ACTIVE_STATUSES, checkIn, checkOut, reservation.getId())) {
+            booked[(int) Math.max(stay.getCheckIn().toEpochDay() - first, 0)]++;
+            booked[(int) Math.min(stay.getCheckOut().toEpochDay() - first, nights)]--;
+        }
+        for (int night = 1; night < nights; night++) {
+            booked[night] += booked[night - 1];
+        }
+        return Arrays.copyOf(booked, nights);
     }
 
     // Get reservations filtered by status
@@ -192,21 +635,94 @@ public class ReservationService {
         return reservationRepository.findByStatus(status);
     }
 
+    @Transactional(readOnly = true)
+    public List<ReservationSummary> getSummariesByStatus(String status) {
+        return reservationRepository.findSummariesByStatus(status);
+    }
+
     // Get currently active reservations (guests checked in today)
     @Transactional(readOnly = true)
     public List<Reservation> getActiveReservations() {
         return reservationRepository.findActiveReservations(LocalDate.now());
     }
 
+    @Transactional(readOnly = true)
+    public List<ReservationSummary> getActiveSummaries() {
+        return reservationRepository.findActiveSummaries(LocalDate.now());
+    }
+
     // Get reservations with future check-in dates
     @Transactional(readOnly = true)
     public List<Reservation> getUpcomingReservations() {
         return reservationRepository.findUpcomingReservations(LocalDate.now());
     }
 
-    // Get reservations sorted by newest first
+    @Transactional(readOnly = true)
+    public List<ReservationSummary> getUpcomingSummaries() {
+        return reservationRepository.findUpcomingSummaries(LocalDate.now());
+    }
+
+    // Cursor is an opaque token holding the (createdAt, id) of the last row on the previous page
+    private static String encodeCursor(PageCursor last) {
+        String raw = last.createdAt() + "|" + last.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static PageCursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new PageCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                                  Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid page cursor");
+        }
+    }
+
+    private record PageCursor(LocalDateTime createdAt, Long id) {
+    }
+
+    // Get the latest reservations, newest first
     @Transactional(readOnly = true)
     public List<Reservation> getRecentReservations() {
-        return reservationRepository.findAllOrderByCreatedAtDesc();
+        return reservationRepository.findAllOrderByCreatedAtDesc(Limit.of(RECENT_LIMIT));
+    }
+
+    @Transactional(readOnly = true)
+    public List<ReservationSummary> getRecentSummaries() {
+        return reservationRepository.findRecentSummaries(Limit.of(RECENT_LIMIT));
+    }
+
+    // Optional filters for the reservation listing (null fields are ignored)
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ReservationFilter {
+        private String status;
+        private String roomType;
+        private LocalDate checkInFrom;
+        private LocalDate checkInTo;
+        private String guest;
+    }
+
+    // Outcome of a bulk status change: moved, skipped (status cannot move there) and unknown ids
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BulkTransition {
+        private String status;
+        private List<Long> updated;
+        private List<Long> skipped;
+        private List<Long> notFound;
+    }
+
+    // One page of the reservation listing (full reservations or summaries) - nextCursor is null on the last page
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ReservationPage<T> {
+        private List<T> items;
+        private String nextCursor;
+        private int pageSize;
     }
 }
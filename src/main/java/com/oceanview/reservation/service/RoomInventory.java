@@ -0,0 +1,67 @@
+package com.oceanview.reservation.service;
+
+import com.oceanview.reservation.model.Room;
+import com.oceanview.reservation.repository.RoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// The hotel's rooms by type, read from the room table on first use (rooms only change with a migration).
+// Room types come in room number order, so SINGLE (1xx) first.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoomInventory {
+
+    private final RoomRepository roomRepository;
+
+    private volatile Map<String, List<String>> roomsByType;
+
+    // Number of rooms of each type
+    public Map<String, Integer> roomCounts() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        rooms().forEach((roomType, numbers) -> counts.put(roomType, numbers.size()));
+        return counts;
+    }
+
+    // Number of rooms of one type (0 for an unknown type)
+    public int roomCount(String roomType) {
+        return roomNumbers(roomType).size();
+    }
+
+    // Room numbers of one type, lowest first
+    public List<String> roomNumbers(String roomType) {
+        return rooms().getOrDefault(roomType, List.of());
+    }
+
+    private Map<String, List<String>> rooms() {
+        Map<String, List<String>> rooms = roomsByType;
+        if (rooms == null) {
+            synchronized (this) {
+                if (roomsByType == null) {
+                    roomsByType = load();
+                }
+                rooms = roomsByType;
+            }
+        }
+        return rooms;
+    }
+
+    private Map<String, List<String>> load() {
+        Map<String, List<String>> rooms = new LinkedHashMap<>();
+        for (Room room : roomRepository.findAll(Sort.by("roomNumber"))) {
+            rooms.computeIfAbsent(room.getRoomType(), type -> new ArrayList<>()).add(room.getRoomNumber());
+        }
+        rooms.replaceAll((roomType, numbers) -> List.copyOf(numbers));
+        log.info("Room inventory loaded: {}", rooms.entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue().size()).toList());
+        return Collections.unmodifiableMap(rooms);
+    }
+}
@@ -0,0 +1,293 @@
+package com.oceanview.reservation.service;
+
+import com.oceanview.reservation.model.Reservation;
+import com.oceanview.reservation.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-memory count of booked rooms per room type and night, built from the active bookings.
+// Each room type keeps a segment tree over nights, so "is a room of this type free on every night of the stay"
+// is one range-max query in O(log n) without a DB round trip once it has been warmed.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoomOccupancyIndex {
+
+    // Only these statuses hold a room
+    static final Set<String> ACTIVE_STATUSES = Set.of("PENDING", "CONFIRMED", "CHECKED_IN");
+
+    private final ReservationRepository reservationRepository;
+
+    private final Map<String, OccupancyTree> trees = new ConcurrentHashMap<>();
+    private final Map<Long, Booking> bookings = new ConcurrentHashMap<>();
+
+    // Writers share the read lock (each tree is synchronized on its own), warm-up takes the write lock
+    private final ReadWriteLock warmLock = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+
+    // Load every active booking once the application (and DataLoader) has started.
+    // Read-write so that, with a read replica configured, bookings are counted from the primary and none is missed
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void warm() {
+        warmLock.writeLock().lock();
+        try {
+            trees.clear();
+            bookings.clear();
+            List<Reservation> active = reservationRepository.findByStatusIn(ACTIVE_STATUSES);
+            active.forEach(this::index);
+            ready = true;
+            log.info("Occupancy index warmed with {} active reservation(s)", bookings.size());
+        } finally {
+            warmLock.writeLock().unlock();
+        }
+    }
+
+    // Until warm() has run, callers should fall back to the database
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Keep the index in sync with committed reservation changes.
+    // Runs first among completion callbacks so it lands before BookingCoordinator releases its locks.
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        if (event.isDeleted()) {
+            remove(event.reservationId());
+        } else {
+            put(event.current());
+        }
+    }
+
+    // Most rooms of this type booked on any one night of [checkIn, checkOut), not counting excludeId's booking
+    public int peakBooked(String roomType, LocalDate checkIn, LocalDate checkOut, Long excludeId) {
+        OccupancyTree tree = trees.get(roomType);
+        if (tree == null) {
+            return 0;
+        }
+        long start = checkIn.toEpochDay();
+        long end = checkOut.toEpochDay();
+        Booking own = excludeId == null ? null : bookings.get(excludeId);
+        synchronized (tree) {
+            if (own == null || !own.roomType().equals(roomType) || own.end() <= start || own.start() >= end) {
+                return tree.max(start, end);
+            }
+            // The excluded booking holds one of the rooms on the nights it shares with the range
+            long sharedStart = Math.max(start, own.start());
+            long sharedEnd = Math.min(end, own.end());
+            return Math.max(tree.max(sharedStart, sharedEnd) - 1,
+                    Math.max(tree.max(start, sharedStart), tree.max(sharedEnd, end)));
+        }
+    }
+
+    // Rooms of this type booked on each night of [from, to), not counting excludeId's booking
+    public int[] bookedPerNight(String roomType, LocalDate from, LocalDate to, Long excludeId) {
+        long start = from.toEpochDay();
+        int[] booked = new int[(int) (to.toEpochDay() - start)];
+        OccupancyTree tree = trees.get(roomType);
+        if (tree == null) {
+            return booked;
+        }
+        Booking own = excludeId == null ? null : bookings.get(excludeId);
+        synchronized (tree) {
+            tree.fill(start, booked);
+        }
+        if (own != null && own.roomType().equals(roomType)) {
+            for (long night = Math.max(start, own.start()); night < Math.min(start + booked.length, own.end()); night++) {
+                booked[(int) (night - start)]--;
+            }
+        }
+        return booked;
+    }
+
+    // Add, move or drop a reservation depending on its current room type, dates and status
+    public void put(Reservation reservation) {
+        if (reservation.getId() == null) {
+            return;
+        }
+        warmLock.readLock().lock();
+        try {
+            unindex(reservation.getId());
+            index(reservation);
+        } finally {
+            warmLock.readLock().unlock();
+        }
+    }
+
+    public void remove(Long reservationId) {
+        warmLock.readLock().lock();
+        try {
+            unindex(reservationId);
+        } finally {
+            warmLock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        return bookings.size();
+    }
+
+    private void index(Reservation reservation) {
+        if (reservation.getRoomType() == null || reservation.getCheckIn() == null
+                || reservation.getCheckOut() == null || !ACTIVE_STATUSES.contains(reservation.getStatus())) {
+            return;
+        }
+        Booking booking = new Booking(reservation.getRoomType(),
+                reservation.getCheckIn().toEpochDay(), reservation.getCheckOut().toEpochDay());
+        OccupancyTree tree = trees.computeIfAbsent(booking.roomType(), type -> new OccupancyTree());
+        synchronized (tree) {
+            tree.add(booking.start(), booking.end(), 1);
+        }
+        bookings.put(reservation.getId(), booking);
+    }
+
+    private void unindex(Long reservationId) {
+        Booking booking = bookings.remove(reservationId);
+        if (booking == null) {
+            return;
+        }
+        OccupancyTree tree = trees.get(booking.roomType());
+        synchronized (tree) {
+            tree.add(booking.start(), booking.end(), -1);
+        }
+    }
+
+    // Where a reservation currently sits in the index (dates as epoch days)
+    private record Booking(String roomType, long start, long end) {
+    }
+
+    // Segment tree over epoch days [0, 2^20) - 1970 to the 48th century - holding the rooms booked per night.
+    // A node adds its count to every night of its segment and knows the largest total below it, so range
+    // updates and range-max queries touch O(log n) nodes and nothing is pushed down. Nodes are created as
+    // nights get bookings and live in parallel arrays; child index 0 means no child (the root is never one).
+    static final class OccupancyTree {
+
+        private static final long SPAN = 1L << 20;
+
+        private int[] added = new int[64];
+        private int[] max = new int[64];
+        private int[] left = new int[64];
+        private int[] right = new int[64];
+        private int nodes = 1;
+
+        // Add delta to every night of [start, end)
+        void add(long start, long end, int delta) {
+            start = clamp(start);
+            end = clamp(end);
+            if (start < end) {
+                add(0, 0, SPAN, start, end, delta);
+            }
+        }
+
+        // Largest count on any night of [start, end), 0 for an empty range
+        int max(long start, long end) {
+            start = clamp(start);
+            end = clamp(end);
+            return start < end ? max(0, 0, SPAN, start, end) : 0;
+        }
+
+        // Count of each night from first onwards into booked[0..]
+        void fill(long first, int[] booked) {
+            long start = clamp(first);
+            long end = clamp(first + booked.length);
+            if (start < end) {
+                fill(0, 0, SPAN, start, end, 0, first, booked);
+            }
+        }
+
+        private void add(int node, long lo, long hi, long start, long end, int delta) {
+            if (start <= lo && hi <= end) {
+                added[node] += delta;
+                max[node] += delta;
+                return;
+            }
+            long mid = (lo + hi) >>> 1;
+            if (start < mid) {
+                if (left[node] == 0) {
+                    int child = newNode();
+                    left[node] = child;
+                }
+                add(left[node], lo, mid, start, end, delta);
+            }
+            if (end > mid) {
+                if (right[node] == 0) {
+                    int child = newNode();
+                    right[node] = child;
+                }
+                add(right[node], mid, hi, start, end, delta);
+            }
+            max[node] = added[node] + Math.max(maxOf(left[node]), maxOf(right[node]));
+        }
+
+        private int max(int node, long lo, long hi, long start, long end) {
+            if (start <= lo && hi <= end) {
+                return max[node];
+            }
+            long mid = (lo + hi) >>> 1;
+            int best = 0;
+            if (start < mid && left[node] != 0) {
+                best = max(left[node], lo, mid, start, end);
+            }
+            if (end > mid && right[node] != 0) {
+                best = Math.max(best, max(right[node], mid, hi, start, end));
+            }
+            return added[node] + best;
+        }
+
+        private void fill(int node, long lo, long hi, long start, long end, int above, long first, int[] booked) {
+            int total = above + added[node];
+            long mid = (lo + hi) >>> 1;
+            if (start < mid) {
+                if (left[node] == 0) {
+                    Arrays.fill(booked, (int) (Math.max(lo, start) - first), (int) (Math.min(mid, end) - first), total);
+                } else {
+                    fill(left[node], lo, mid, start, end, total, first, booked);
+                }
+            }
+            if (end > mid) {
+                if (right[node] == 0) {
+                    Arrays.fill(booked, (int) (Math.max(mid, start) - first), (int) (Math.min(hi, end) - first), total);
+                } else {
+                    fill(right[node], mid, hi, start, end, total, first, booked);
+                }
+            }
+        }
+
+        // A missing child stands for nights with nothing booked below this node
+        private int maxOf(int child) {
+            return child == 0 ? 0 : max[child];
+        }
+
+        private int newNode() {
+            if (nodes == added.length) {
+                int capacity = nodes * 2;
+                added = Arrays.copyOf(added, capacity);
+                max = Arrays.copyOf(max, capacity);
+                left = Arrays.copyOf(left, capacity);
+                right = Arrays.copyOf(right, capacity);
+            }
+            return nodes++;
+        }
+
+        private static long clamp(long day) {
+            return Math.max(0, Math.min(SPAN, day));
+        }
+    }
+}
@@ -0,0 +1,19 @@
+-- Reservation table, as previously generated by Hibernate (ddl-auto=update).
+-- Databases created that way are baselined at version 1 and continue from V2.
+CREATE TABLE reservation (
+    id               BIGINT         NOT NULL AUTO_INCREMENT,
+    guest_full_name  VARCHAR(100)   NOT NULL,
+    address          VARCHAR(255)   NOT NULL,
+    contact_number   VARCHAR(20)    NOT NULL,
+    email            VARCHAR(100)   NOT NULL,
+    room_type        VARCHAR(20)    NOT NULL,
+    check_in         DATE           NOT NULL,
+    check_out        DATE           NOT NULL,
+    number_of_guests INT            NOT NULL,
+    special_requests VARCHAR(500),
+    status           VARCHAR(20),
+    total_amount     DECIMAL(10, 2),
+    created_at       DATETIME(6)    NOT NULL,
+    updated_at       DATETIME(6),
+    PRIMARY KEY (id)
+);
@@ -0,0 +1,20 @@
+-- One index per access path used by ReservationRepository (see RepositoryQueryPlanTest)
+
+-- Double-booking checks: room_type = ? AND status IN (...) AND date overlap; also findByRoomType
+CREATE INDEX idx_reservation_room_status_dates ON reservation (room_type, status, check_in, check_out);
+
+-- findByStatus / findByStatusIn, active (status IN ('CONFIRMED', 'CHECKED_IN') AND check_in <= ?) and upcoming reservations
+CREATE INDEX idx_reservation_status_check_in ON reservation (status, check_in);
+
+-- Check-in lookups and ranges: findByCheckIn, findByCheckInBetween, exports and report aggregates
+CREATE INDEX idx_reservation_check_in ON reservation (check_in, status);
+
+-- Check-out ranges: findByCheckOutBetween, stays still in progress (dashboard counters)
+CREATE INDEX idx_reservation_check_out ON reservation (check_out);
+
+-- Newest-first listing and its keyset cursor; descending so ORDER BY created_at DESC, id DESC needs no sort
+CREATE INDEX idx_reservation_created ON reservation (created_at DESC, id DESC);
+
+-- Guest lookups by exact email or contact number
+CREATE INDEX idx_reservation_email ON reservation (email);
+CREATE INDEX idx_reservation_contact_number ON reservation (contact_number);
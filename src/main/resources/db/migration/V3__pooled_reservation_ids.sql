@@ -0,0 +1,12 @@
+-- Reservation ids move from AUTO_INCREMENT to a pooled table generator so Hibernate and the bulk import can
+-- batch inserts. next_val holds the last id handed out (Hibernate stores the last used value), so a block
+-- reserved by raising it from n to n + size is ids n + 1 .. n + size. The column keeps AUTO_INCREMENT, which is
+-- unused once every insert supplies its id.
+CREATE TABLE id_generator (
+    sequence_name VARCHAR(64) NOT NULL,
+    next_val      BIGINT      NOT NULL,
+    PRIMARY KEY (sequence_name)
+);
+
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT 'reservation', COALESCE(MAX(id), 0) FROM reservation;
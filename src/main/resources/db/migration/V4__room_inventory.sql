@@ -0,0 +1,43 @@
+-- Room inventory: every bookable room and its type. A booking holds one room of its type per night (bookings of
+-- a type may overlap as long as rooms remain); the concrete room is assigned at check-in.
+-- Same 100 rooms the occupancy report has always assumed.
+CREATE TABLE room (
+    room_number VARCHAR(10) NOT NULL,
+    room_type   VARCHAR(20) NOT NULL,
+    PRIMARY KEY (room_number)
+);
+
+-- SINGLE: 101-125
+INSERT INTO room (room_number, room_type) VALUES
+    ('101', 'SINGLE'), ('102', 'SINGLE'), ('103', 'SINGLE'), ('104', 'SINGLE'), ('105', 'SINGLE'),
+    ('106', 'SINGLE'), ('107', 'SINGLE'), ('108', 'SINGLE'), ('109', 'SINGLE'), ('110', 'SINGLE'),
+    ('111', 'SINGLE'), ('112', 'SINGLE'), ('113', 'SINGLE'), ('114', 'SINGLE'), ('115', 'SINGLE'),
+    ('116', 'SINGLE'), ('117', 'SINGLE'), ('118', 'SINGLE'), ('119', 'SINGLE'), ('120', 'SINGLE'),
+    ('121', 'SINGLE'), ('122', 'SINGLE'), ('123', 'SINGLE'), ('124', 'SINGLE'), ('125', 'SINGLE');
+
+-- DOUBLE: 201-240
+INSERT INTO room (room_number, room_type) VALUES
+    ('201', 'DOUBLE'), ('202', 'DOUBLE'), ('203', 'DOUBLE'), ('204', 'DOUBLE'), ('205', 'DOUBLE'),
+    ('206', 'DOUBLE'), ('207', 'DOUBLE'), ('208', 'DOUBLE'), ('209', 'DOUBLE'), ('210', 'DOUBLE'),
+    ('211', 'DOUBLE'), ('212', 'DOUBLE'), ('213', 'DOUBLE'), ('214', 'DOUBLE'), ('215', 'DOUBLE'),
+    ('216', 'DOUBLE'), ('217', 'DOUBLE'), ('218', 'DOUBLE'), ('219', 'DOUBLE'), ('220', 'DOUBLE'),
+    ('221', 'DOUBLE'), ('222', 'DOUBLE'), ('223', 'DOUBLE'), ('224', 'DOUBLE'), ('225', 'DOUBLE'),
+    ('226', 'DOUBLE'), ('227', 'DOUBLE'), ('228', 'DOUBLE'), ('229', 'DOUBLE'), ('230', 'DOUBLE'),
+    ('231', 'DOUBLE'), ('232', 'DOUBLE'), ('233', 'DOUBLE'), ('234', 'DOUBLE'), ('235', 'DOUBLE'),
+    ('236', 'DOUBLE'), ('237', 'DOUBLE'), ('238', 'DOUBLE'), ('239', 'DOUBLE'), ('240', 'DOUBLE');
+
+-- SUITE: 301-325
+INSERT INTO room (room_number, room_type) VALUES
+    ('301', 'SUITE'), ('302', 'SUITE'), ('303', 'SUITE'), ('304', 'SUITE'), ('305', 'SUITE'),
+    ('306', 'SUITE'), ('307', 'SUITE'), ('308', 'SUITE'), ('309', 'SUITE'), ('310', 'SUITE'),
+    ('311', 'SUITE'), ('312', 'SUITE'), ('313', 'SUITE'), ('314', 'SUITE'), ('315', 'SUITE'),
+    ('316', 'SUITE'), ('317', 'SUITE'), ('318', 'SUITE'), ('319', 'SUITE'), ('320', 'SUITE'),
+    ('321', 'SUITE'), ('322', 'SUITE'), ('323', 'SUITE'), ('324', 'SUITE'), ('325', 'SUITE');
+
+-- DELUXE: 401-410
+INSERT INTO room (room_number, room_type) VALUES
+    ('401', 'DELUXE'), ('402', 'DELUXE'), ('403', 'DELUXE'), ('404', 'DELUXE'), ('405', 'DELUXE'),
+    ('406', 'DELUXE'), ('407', 'DELUXE'), ('408', 'DELUXE'), ('409', 'DELUXE'), ('410', 'DELUXE');
+
+-- Room assigned at check-in (NULL until then)
+ALTER TABLE reservation ADD COLUMN room_number VARCHAR(10);
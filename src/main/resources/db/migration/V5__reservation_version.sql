@@ -0,0 +1,4 @@
+-- Optimistic locking: every write to a reservation bumps its version, and a write made from an older version is
+-- rejected instead of silently overwriting the newer one. Status transitions are one conditional UPDATE on
+-- (id, status, version). Existing rows start at version 0.
+ALTER TABLE reservation ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
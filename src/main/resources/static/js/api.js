@@ -4,6 +4,10 @@ const API = {
     // Base URL for API requests
     baseURL: window.location.origin + '/api',
 
+    // Last ETag and body per GET URL - sent back as If-None-Match so unchanged data comes back as an empty 304
+    etagCache: new Map(),
+    etagCacheLimit: 200,
+
     // Get auth token from session
     getToken() {
         return sessionStorage.getItem('authToken');
@@ -47,14 +51,36 @@ const API = {
         return data;
     },
 
-    // GET request
+    // GET request - reuses the cached body when the server answers 304 Not Modified
     async get(path) {
         const url = this.baseURL + path;
+        const headers = this.buildHeaders();
+        const cached = this.etagCache.get(url);
+        if (cached) {
+            headers['If-None-Match'] = cached.etag;
+        }
+
         const response = await fetch(url, {
             method: 'GET',
-            headers: this.buildHeaders()
+            headers: headers
         });
-        return this.handleResponse(response);
+        if (response.status === 304 && cached) {
+            // Move to the end so the least recently used entry is dropped first
+            this.etagCache.delete(url);
+            this.etagCache.set(url, cached);
+            return structuredClone(cached.data);
+        }
+
+        const data = await this.handleResponse(response);
+        const etag = response.headers.get('ETag');
+        this.etagCache.delete(url);
+        if (etag) {
+            this.etagCache.set(url, { etag: etag, data: structuredClone(data) });
+            if (this.etagCache.size > this.etagCacheLimit) {
+                this.etagCache.delete(this.etagCache.keys().next().value);
+            }
+        }
+        return data;
     },
 
     // POST request
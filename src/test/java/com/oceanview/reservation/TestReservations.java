@@ -0,0 +1,40 @@
+package com.oceanview.reservation;
+
+import com.oceanview.reservation.model.Reservation;
+
+import java.time.LocalDate;
+
+// Shared test data: a valid reservation for a stay, with the same guest details everywhere. Status is left
+// unset (PENDING once created) unless one is passed.
+public final class TestReservations {
+
+    public static final String GUEST_NAME = "Test Guest";
+    public static final String ADDRESS = "1 Beach Road, Galle";
+    public static final String CONTACT_NUMBER = "+94771234567";
+    public static final String EMAIL = "test.guest@example.com";
+
+    private TestReservations() {
+    }
+
+    public static Reservation newReservation(String roomType, LocalDate checkIn, int nights) {
+        return newReservation(roomType, checkIn, checkIn.plusDays(nights), null);
+    }
+
+    public static Reservation newReservation(String roomType, LocalDate checkIn, int nights, String status) {
+        return newReservation(roomType, checkIn, checkIn.plusDays(nights), status);
+    }
+
+    public static Reservation newReservation(String roomType, LocalDate checkIn, LocalDate checkOut, String status) {
+        Reservation reservation = new Reservation();
+        reservation.setGuestFullName(GUEST_NAME);
+        reservation.setAddress(ADDRESS);
+        reservation.setContactNumber(CONTACT_NUMBER);
+        reservation.setEmail(EMAIL);
+        reservation.setRoomType(roomType);
+        reservation.setCheckIn(checkIn);
+        reservation.setCheckOut(checkOut);
+        reservation.setNumberOfGuests(2);
+        reservation.setStatus(status);
+        return reservation;
+    }
+}
@@ -0,0 +1,62 @@
+package com.oceanview.reservation.benchmark;
+
+import com.oceanview.reservation.model.Reservation;
+import com.oceanview.reservation.service.BillingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Random;
+
+// BillingService hot paths: a full bill, the room rate lookup and the fixed-point total
+@State(Scope.Thread)
+public class BillingBenchmark {
+
+    private static final int STAYS = 1024;
+    private static final String[] ROOM_TYPES = {"SINGLE", "DOUBLE", "SUITE", "DELUXE"};
+
+    private final BillingService billingService = new BillingService();
+    private final Reservation[] reservations = new Reservation[STAYS];
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(2026);
+        LocalDate base = LocalDate.of(2026, 1, 1);
+        for (int i = 0; i < STAYS; i++) {
+            Reservation reservation = new Reservation();
+            reservation.setId((long) i);
+            reservation.setGuestFullName("Guest " + i);
+            reservation.setRoomType(ROOM_TYPES[random.nextInt(ROOM_TYPES.length)]);
+            reservation.setCheckIn(base.plusDays(random.nextInt(365)));
+            reservation.setCheckOut(reservation.getCheckIn().plusDays(1 + random.nextInt(21)));
+            reservations[i] = reservation;
+        }
+    }
+
+    @Benchmark
+    public BillingService.BillDetails calculate() {
+        return billingService.calculate(nextReservation());
+    }
+
+    @Benchmark
+    public BigDecimal getRoomRate() {
+        return billingService.getRoomRate(nextReservation().getRoomType());
+    }
+
+    @Benchmark
+    public long calculateTotalCents() {
+        Reservation reservation = nextReservation();
+        return billingService.calculateTotalCents(reservation.getRoomType(),
+            reservation.getCheckOut().toEpochDay() - reservation.getCheckIn().toEpochDay());
+    }
+
+    // Cycle through the stays so the branch predictor cannot learn a single room type
+    private Reservation nextReservation() {
+        next = (next + 1) & (STAYS - 1);
+        return reservations[next];
+    }
+}
@@ -0,0 +1,49 @@
+package com.oceanview.reservation.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs the JMH benchmarks in this package and writes the results as JSON for diffing between runs
+// (run with -Pbenchmark; -Djmh.include=<regex> picks benchmarks, -Djmh.result=<file> moves the output)
+@Tag("benchmark")
+@DisplayName("JMH Benchmarks")
+public class JmhBenchmarkTest {
+
+    // BM-003: Billing, overlap checks and JSON (de)serialization, average time per operation
+    @Test
+    @DisplayName("BM-003: JMH benchmarks with JSON results")
+    void runBenchmarks() throws Exception {
+        File result = new File(System.getProperty("jmh.result", "target/jmh-result.json"));
+        Options options = new OptionsBuilder()
+            .include(System.getProperty("jmh.include", JmhBenchmarkTest.class.getPackageName() + "\\..*Benchmark"))
+            .mode(org.openjdk.jmh.annotations.Mode.AverageTime)
+            .timeUnit(TimeUnit.NANOSECONDS)
+            .forks(Integer.getInteger("jmh.forks", 1))
+            .warmupIterations(Integer.getInteger("jmh.warmupIterations", 3))
+            .warmupTime(TimeValue.seconds(1))
+            .measurementIterations(Integer.getInteger("jmh.iterations", 5))
+            .measurementTime(TimeValue.seconds(1))
+            .shouldFailOnError(true)
+            .resultFormat(ResultFormatType.JSON)
+            .result(result.getPath())
+            .build();
+
+        Collection<RunResult> results = new Runner(options).run();
+
+        assertFalse(results.isEmpty(), "no benchmarks matched");
+        assertTrue(result.length() > 0, "missing " + result);
+    }
+}
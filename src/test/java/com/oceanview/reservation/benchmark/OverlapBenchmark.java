@@ -0,0 +1,135 @@
+package com.oceanview.reservation.benchmark;
+
+import com.oceanview.reservation.OceanviewReservationApplication;
+import com.oceanview.reservation.TestReservations;
+import com.oceanview.reservation.model.Reservation;
+import com.oceanview.reservation.repository.ReservationRepository;
+import com.oceanview.reservation.service.ReservationService;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+
+// Availability checks against an in-memory H2 database holding `rows` reservations: ReservationService.isFullyBooked
+// (a range-max query on the occupancy index) and the overlapping-stays query it falls back to before the index is warm
+@State(Scope.Benchmark)
+public class OverlapBenchmark {
+
+    private static final String[] ROOM_TYPES = {"SINGLE", "DOUBLE", "SUITE", "DELUXE"};
+    private static final String[] STATUSES = {"PENDING", "CONFIRMED", "CANCELLED"};
+    private static final LocalDate BASE = LocalDate.of(2030, 1, 1);
+    private static final int PROBES = 1024;
+
+    @Param({"1000", "10000", "100000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private ReservationService reservationService;
+    private ReservationRepository reservationRepository;
+    private final Reservation[] probes = new Reservation[PROBES];
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        String url = "jdbc:h2:mem:overlap" + rows + ";DB_CLOSE_DELAY=-1";
+        Flyway.configure().dataSource(url, "sa", "").load().migrate();
+        seed(url);
+
+        // Started after seeding so the occupancy index warms with every row
+        context = new SpringApplicationBuilder(OceanviewReservationApplication.class)
+            .web(WebApplicationType.NONE)
+            .run("--spring.datasource.url=" + url,
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--logging.level.root=WARN");
+        reservationService = context.getBean(ReservationService.class);
+        reservationRepository = context.getBean(ReservationRepository.class);
+
+        Random random = new Random(11);
+        for (int i = 0; i < PROBES; i++) {
+            Reservation probe = new Reservation();
+            probe.setRoomType(ROOM_TYPES[random.nextInt(ROOM_TYPES.length)]);
+            probe.setCheckIn(BASE.plusDays(random.nextInt(3 * 365)));
+            probe.setCheckOut(probe.getCheckIn().plusDays(1 + random.nextInt(7)));
+            probes[i] = probe;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public boolean isFullyBooked() {
+        return reservationService.isFullyBooked(nextProbe());
+    }
+
+    @Benchmark
+    public int findStaysOfRoomTypeOverlapping() {
+        Reservation probe = nextProbe();
+        return reservationRepository.findStaysOfRoomTypeOverlapping(probe.getRoomType(),
+            List.of("PENDING", "CONFIRMED", "CHECKED_IN"), probe.getCheckIn(), probe.getCheckOut(), null).size();
+    }
+
+    private Reservation nextProbe() {
+        next = (next + 1) & (PROBES - 1);
+        return probes[next];
+    }
+
+    // Bulk insert stays spread over three years, bypassing JPA so large tables load quickly
+    private void seed(String url) throws Exception {
+        Random random = new Random(7);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.of(2026, 1, 1, 0, 0));
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             PreparedStatement insert = connection.prepareStatement(
+                 "INSERT INTO reservation (guest_full_name, address, contact_number, email, room_type, check_in, "
+                     + "check_out, number_of_guests, status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            connection.setAutoCommit(false);
+            for (int i = 0; i < rows; i++) {
+                LocalDate checkIn = BASE.plusDays(random.nextInt(3 * 365));
+                insert.setString(1, "Bench Guest " + i);
+                insert.setString(2, TestReservations.ADDRESS);
+                insert.setString(3, TestReservations.CONTACT_NUMBER);
+                insert.setString(4, "guest" + i + "@example.com");
+                insert.setString(5, ROOM_TYPES[random.nextInt(ROOM_TYPES.length)]);
+                insert.setDate(6, Date.valueOf(checkIn));
+                insert.setDate(7, Date.valueOf(checkIn.plusDays(1 + random.nextInt(14))));
+                insert.setInt(8, 2);
+                insert.setString(9, STATUSES[random.nextInt(STATUSES.length)]);
+                insert.setTimestamp(10, now);
+                insert.setTimestamp(11, now);
+                insert.addBatch();
+                if (i % 1000 == 999) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            // Move the pooled id generator past the identity values the seed used
+            connection.createStatement().execute("UPDATE id_generator SET next_val = "
+                + "(SELECT MAX(id) FROM reservation) WHERE sequence_name = 'reservation'");
+            connection.createStatement().execute("ANALYZE");
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.oceanview.reservation.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.oceanview.reservation.model.Reservation;
+import com.oceanview.reservation.service.BillingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// A list of 1,000 reservations and their bills written and read as JSON, Smile and CBOR, with and without
+// Blackbird - the payload a channel manager or accounting sync pulls in one call. Payload sizes are printed
+// once per trial (look for "payload:" in the benchmark output).
+@State(Scope.Benchmark)
+public class PayloadFormatBenchmark {
+
+    private static final int ROWS = 1000;
+    private static final String[] ROOM_TYPES = {"SINGLE", "DOUBLE", "SUITE", "DELUXE"};
+    private static final String[] STATUSES = {"PENDING", "CONFIRMED", "CHECKED_OUT"};
+
+    @Param({"json", "smile", "cbor"})
+    public String format;
+
+    @Param({"false", "true"})
+    public boolean blackbird;
+
+    private ObjectWriter reservationsWriter;
+    private ObjectReader reservationsReader;
+    private ObjectWriter billsWriter;
+    private ObjectReader billsReader;
+
+    private List<Reservation> reservations;
+    private List<BillingService.BillDetails> bills;
+    private byte[] reservationsPayload;
+    private byte[] billsPayload;
+
+    @Setup
+    public void setUp() throws Exception {
+        Jackson2ObjectMapperBuilder builder = switch (format) {
+            case "json" -> Jackson2ObjectMapperBuilder.json();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile();
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor();
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+        if (blackbird) {
+            builder.modulesToInstall(new BlackbirdModule());
+        }
+        ObjectMapper objectMapper = builder.build();
+        reservationsWriter = objectMapper.writerFor(
+            objectMapper.getTypeFactory().constructCollectionType(List.class, Reservation.class));
+        reservationsReader = objectMapper.readerForListOf(Reservation.class);
+        billsWriter = objectMapper.writerFor(
+            objectMapper.getTypeFactory().constructCollectionType(List.class, BillingService.BillDetails.class));
+        billsReader = objectMapper.readerForListOf(BillingService.BillDetails.class);
+
+        Random random = new Random(24);
+        BillingService billingService = new BillingService();
+        reservations = new ArrayList<>();
+        bills = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            Reservation reservation = new Reservation();
+            LocalDate checkIn = LocalDate.of(2026, 6, 1).plusDays(random.nextInt(365));
+            reservation.setId(10_000L + i);
+            reservation.setGuestFullName("Guest " + i + " Perera");
+            reservation.setAddress(i + " Lighthouse Street, Galle Fort, Galle");
+            reservation.setContactNumber("+9477" + (1_000_000 + random.nextInt(9_000_000)));
+            reservation.setEmail("guest" + i + "@example.com");
+            reservation.setRoomType(ROOM_TYPES[random.nextInt(ROOM_TYPES.length)]);
+            reservation.setCheckIn(checkIn);
+            reservation.setCheckOut(checkIn.plusDays(1 + random.nextInt(7)));
+            reservation.setNumberOfGuests(1 + random.nextInt(3));
+            reservation.setSpecialRequests(i % 3 == 0 ? "Late check-in, sea view if possible" : null);
+            reservation.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+            reservation.setCreatedAt(LocalDateTime.of(2026, 5, 1, 9, 30).plusMinutes(i));
+            reservation.setUpdatedAt(LocalDateTime.of(2026, 5, 2, 14, 5).plusMinutes(i));
+            reservations.add(reservation);
+            bills.add(billingService.calculate(reservation));
+        }
+
+        reservationsPayload = reservationsWriter.writeValueAsBytes(reservations);
+        billsPayload = billsWriter.writeValueAsBytes(bills);
+        System.out.printf("payload: %s, %d reservations = %d bytes, %d bills = %d bytes%n",
+            format, ROWS, reservationsPayload.length, ROWS, billsPayload.length);
+    }
+
+    @Benchmark
+    public byte[] writeReservations() throws Exception {
+        return reservationsWriter.writeValueAsBytes(reservations);
+    }
+
+    @Benchmark
+    public List<Reservation> readReservations() throws Exception {
+        return reservationsReader.readValue(reservationsPayload);
+    }
+
+    @Benchmark
+    public byte[] writeBills() throws Exception {
+        return billsWriter.writeValueAsBytes(bills);
+    }
+
+    @Benchmark
+    public List<BillingService.BillDetails> readBills() throws Exception {
+        return billsReader.readValue(billsPayload);
+    }
+}
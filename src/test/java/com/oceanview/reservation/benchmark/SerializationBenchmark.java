@@ -0,0 +1,78 @@
+package com.oceanview.reservation.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.oceanview.reservation.model.Reservation;
+import com.oceanview.reservation.service.BillingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Jackson (de)serialization of the API payloads, with the ObjectMapper settings Spring Boot applies
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    private ObjectWriter reservationWriter;
+    private ObjectReader reservationReader;
+    private ObjectWriter billWriter;
+    private ObjectReader billReader;
+
+    private Reservation reservation;
+    private BillingService.BillDetails bill;
+    private byte[] reservationJson;
+    private byte[] billJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        reservationWriter = objectMapper.writerFor(Reservation.class);
+        reservationReader = objectMapper.readerFor(Reservation.class);
+        billWriter = objectMapper.writerFor(BillingService.BillDetails.class);
+        billReader = objectMapper.readerFor(BillingService.BillDetails.class);
+
+        reservation = new Reservation();
+        reservation.setId(4821L);
+        reservation.setGuestFullName("Amaya Perera");
+        reservation.setAddress("12 Lighthouse Street, Galle Fort, Galle");
+        reservation.setContactNumber("+94771234567");
+        reservation.setEmail("amaya.perera@example.com");
+        reservation.setRoomType("SUITE");
+        reservation.setCheckIn(LocalDate.of(2026, 8, 15));
+        reservation.setCheckOut(LocalDate.of(2026, 8, 19));
+        reservation.setNumberOfGuests(2);
+        reservation.setSpecialRequests("Late check-in, sea view if possible");
+        reservation.setStatus("CONFIRMED");
+        reservation.setCreatedAt(LocalDateTime.of(2026, 5, 1, 9, 30, 12));
+        reservation.setUpdatedAt(LocalDateTime.of(2026, 5, 2, 14, 5, 41));
+        bill = new BillingService().calculate(reservation);
+
+        reservationJson = reservationWriter.writeValueAsBytes(reservation);
+        billJson = billWriter.writeValueAsBytes(bill);
+    }
+
+    @Benchmark
+    public byte[] writeReservation() throws Exception {
+        return reservationWriter.writeValueAsBytes(reservation);
+    }
+
+    @Benchmark
+    public Reservation readReservation() throws Exception {
+        return reservationReader.readValue(reservationJson);
+    }
+
+    @Benchmark
+    public byte[] writeBill() throws Exception {
+        return billWriter.writeValueAsBytes(bill);
+    }
+
+    @Benchmark
+    public BillingService.BillDetails readBill() throws Exception {
+        return billReader.readValue(billJson);
+    }
+}
@@ -0,0 +1,103 @@
+package com.oceanview.reservation.config;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Unit tests for the connection admission control used with virtual threads
+@DisplayName("BoundedDataSource Unit Tests")
+public class BoundedDataSourceTest {
+
+    private JdbcDataSource target;
+
+    @BeforeEach
+    void setUp() {
+        target = new JdbcDataSource();
+        target.setURL("jdbc:h2:mem:bounded;DB_CLOSE_DELAY=-1");
+        target.setUser("sa");
+    }
+
+    // UT-037: A queued caller gets the connection as soon as one is closed; closing twice frees one permit
+    @Test
+    @DisplayName("UT-037: Waiting caller is served when a connection is closed")
+    void testWaiterServedOnClose() throws Exception {
+        BoundedDataSource dataSource = new BoundedDataSource(target, 1, 10, 2000);
+        Connection first = dataSource.getConnection();
+
+        CompletableFuture<Connection> second = CompletableFuture.supplyAsync(() -> {
+            try {
+                return dataSource.getConnection();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        waitForQueue(dataSource, 1);
+        assertFalse(second.isDone());
+
+        first.close();
+        first.close();
+        Connection served = second.get(5, TimeUnit.SECONDS);
+        assertTrue(served.isValid(1));
+        // The second close of the first connection must not have freed another permit
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        served.close();
+        assertEquals(0, dataSource.getWaiting());
+        assertEquals(1, dataSource.getRejected());
+    }
+
+    // UT-038: With the queue full, further callers are rejected at once instead of waiting for the timeout
+    @Test
+    @DisplayName("UT-038: Full queue rejects immediately")
+    void testFullQueueRejects() throws Exception {
+        BoundedDataSource dataSource = new BoundedDataSource(target, 1, 1, 60_000);
+        Connection held = dataSource.getConnection();
+        CompletableFuture<Void> queued = CompletableFuture.runAsync(() -> {
+            try (Connection connection = dataSource.getConnection()) {
+                assertTrue(connection.isValid(1));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        waitForQueue(dataSource, 1);
+
+        long start = System.nanoTime();
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+        assertEquals(1, dataSource.getRejected());
+
+        held.close();
+        queued.get(5, TimeUnit.SECONDS);
+    }
+
+    // UT-039: A caller that waits longer than the timeout is rejected and leaves the queue
+    @Test
+    @DisplayName("UT-039: Wait times out")
+    void testWaitTimesOut() throws Exception {
+        BoundedDataSource dataSource = new BoundedDataSource(target, 1, 10, 100);
+        try (Connection held = dataSource.getConnection()) {
+            assertTrue(held.isValid(1));
+            assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+            assertEquals(0, dataSource.getWaiting());
+            assertEquals(1, dataSource.getRejected());
+        }
+        try (Connection again = dataSource.getConnection()) {
+            assertTrue(again.isValid(1));
+        }
+    }
+
+    private static void waitForQueue(BoundedDataSource dataSource, int waiting) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (dataSource.getWaiting() < waiting) {
+            assertTrue(System.nanoTime() < deadline, "Caller never queued");
+            Thread.sleep(10);
+        }
+    }
+}
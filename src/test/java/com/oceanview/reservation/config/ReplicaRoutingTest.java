@@ -0,0 +1,145 @@
+package com.oceanview.reservation.config;
+
+import com.oceanview.reservation.model.Reservation;
+import com.oceanview.reservation.service.ReservationCache;
+import com.oceanview.reservation.service.ReservationService;
+import jakarta.servlet.http.Cookie;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.oceanview.reservation.TestReservations.newReservation;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// Runs the application against two H2 databases standing in for a primary and its replica. Nothing replicates
+// between them, so a row's presence shows which one answered.
+@SpringBootTest(properties = {
+    "reservation.datasource.replica.url=" + ReplicaRoutingTest.REPLICA_URL,
+    "reservation.datasource.replica.sticky-seconds=30"
+})
+@AutoConfigureMockMvc
+@DisplayName("Replica Routing Integration Tests")
+public class ReplicaRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1";
+    private static final long REPLICA_ONLY_ID = 990_000_001L;
+
+    // The replica gets its schema (and one row the primary lacks) before the application starts
+    static {
+        DriverManagerDataSource replica = new DriverManagerDataSource(REPLICA_URL, "sa", "");
+        Flyway.configure().dataSource(replica).load().migrate();
+        new JdbcTemplate(replica).update("INSERT INTO reservation (id, guest_full_name, address, contact_number, "
+            + "email, room_type, check_in, check_out, number_of_guests, status, created_at) "
+            + "VALUES (?, 'Replica Only', '1 Mirror Lane', '0770000000', 'replica.only@example.com', 'SUITE', "
+            + "DATE '2074-01-10', DATE '2074-01-12', 2, 'CONFIRMED', CURRENT_TIMESTAMP)", REPLICA_ONLY_ID);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationCache reservationCache;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    // IT-027: Writes land on the primary, read-only service calls are answered by the replica
+    @Test
+    @DisplayName("IT-027: Read-only transactions use the replica, writes the primary")
+    void testReadsGoToReplica() {
+        Reservation created = reservationService.create(newReservation("SINGLE", LocalDate.of(2074, 3, 1), 2));
+
+        assertEquals(1, count(primaryDataSource, created.getId()));
+        assertEquals(0, count(replicaDataSource, created.getId()));
+        assertEquals(0, count(primaryDataSource, REPLICA_ONLY_ID));
+
+        List<Long> confirmed = reservationService.getByStatus("CONFIRMED").stream().map(Reservation::getId).toList();
+        assertTrue(confirmed.contains(REPLICA_ONLY_ID));
+        List<Long> sameStatus = reservationService.getByStatus(created.getStatus()).stream()
+            .map(Reservation::getId).toList();
+        assertFalse(sameStatus.contains(created.getId()));
+    }
+
+    // IT-028: A client that has just written reads from the primary while its cookie is valid; others, and
+    // requests that only read, are not pinned
+    @Test
+    @DisplayName("IT-028: Read-your-writes cookie pins a client to the primary")
+    void testReadYourWrites() throws Exception {
+        MvcResult created = mockMvc.perform(post("/api/reservations")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {
+                      "guestFullName": "Sticky Guest",
+                      "address": "2 Harbour Road, Galle",
+                      "contactNumber": "+94771234567",
+                      "email": "sticky.guest@example.com",
+                      "roomType": "DOUBLE",
+                      "checkIn": "2074-04-01",
+                      "checkOut": "2074-04-03",
+                      "numberOfGuests": 2
+                    }
+                    """))
+            .andExpect(status().isCreated())
+            .andExpect(header().string(HttpHeaders.SET_COOKIE, startsWith(ReadYourWritesFilter.COOKIE + "=")))
+            .andReturn();
+        Cookie cookie = created.getResponse().getCookie(ReadYourWritesFilter.COOKIE);
+        assertNotNull(cookie);
+        long id = Long.parseLong(created.getResponse().getContentAsString().replaceAll(".*\"id\":(\\d+).*", "$1"));
+        String path = "/api/reservations/status/PENDING";
+
+        mockMvc.perform(get(path).cookie(cookie))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].id", hasItem((int) id)));
+        mockMvc.perform(get(path))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(HttpHeaders.SET_COOKIE))
+            .andExpect(jsonPath("$[*].id", not(hasItem((int) id))));
+        mockMvc.perform(get(path).cookie(new Cookie(ReadYourWritesFilter.COOKIE, "1")))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].id", not(hasItem((int) id))));
+    }
+
+    // IT-030: Reservation cache misses are loaded from the primary, so a lagging replica row is never cached
+    @Test
+    @DisplayName("IT-030: Reservation cache loads from the primary")
+    void testCacheLoadsFromPrimary() {
+        Reservation created = reservationService.create(newReservation("SINGLE", LocalDate.of(2074, 5, 1), 2));
+        reservationCache.clear();
+
+        assertTrue(reservationService.getById(created.getId()).isPresent());
+        assertTrue(reservationService.getById(REPLICA_ONLY_ID).isEmpty());
+        // Other read-only work still goes to the replica
+        assertTrue(reservationService.getByStatus("CONFIRMED").stream()
+            .anyMatch(reservation -> reservation.getId() == REPLICA_ONLY_ID));
+    }
+
+    private static int count(DataSource dataSource, long id) {
+        return new JdbcTemplate(dataSource).queryForObject("SELECT COUNT(*) FROM reservation WHERE id = ?",
+            Integer.class, id);
+    }
+}
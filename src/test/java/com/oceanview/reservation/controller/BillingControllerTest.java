@@ -0,0 +1,198 @@
+package com.oceanview.reservation.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.oceanview.reservation.model.Reservation;
+import com.oceanview.reservation.service.BillCache;
+import com.oceanview.reservation.service.BillingBatchService;
+import com.oceanview.reservation.service.BillingService;
+import com.oceanview.reservation.service.ReservationChangedEvent;
+import com.oceanview.reservation.service.ReservationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// Integration tests for the billing REST endpoints
+@WebMvcTest(BillingController.class)
+@Import({BillingService.class, BillCache.class})
+@DisplayName("BillingController Integration Tests")
+public class BillingControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BillCache billCache;
+
+    @MockBean
+    private ReservationService reservationService;
+
+    @MockBean
+    private BillingBatchService billingBatchService;
+
+    private Reservation reservation;
+
+    @BeforeEach
+    void setUp() {
+        billCache.clear();
+        reservation = new Reservation();
+        reservation.setId(1L);
+        reservation.setGuestFullName("John Smith");
+        reservation.setRoomType("DOUBLE");
+        reservation.setCheckIn(LocalDate.of(2026, 8, 15));
+        reservation.setCheckOut(LocalDate.of(2026, 8, 18));
+        reservation.setUpdatedAt(LocalDateTime.of(2026, 5, 1, 10, 0));
+    }
+
+    // IT-033: A repeated bill for an unchanged reservation is served from the cache without a lookup
+    @Test
+    @WithMockUser
+    @DisplayName("IT-033: GET /api/billing/{id} - Repeat served from cache")
+    void testRepeatedBillServedFromCache() throws Exception {
+        when(reservationService.getById(1L)).thenReturn(Optional.of(reservation));
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/billing/1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.grandTotal", is(152550.00)));
+        }
+
+        verify(reservationService, times(1)).getById(1L);
+        mockMvc.perform(get("/api/billing/cache/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hits", is(2)))
+                .andExpect(jsonPath("$.misses", is(1)))
+                .andExpect(jsonPath("$.size", is(1)));
+    }
+
+    // IT-034: After the reservation changes the bill is recalculated from the new data
+    @Test
+    @WithMockUser
+    @DisplayName("IT-034: GET /api/billing/{id} - Recalculated after a change")
+    void testBillRecalculatedAfterChange() throws Exception {
+        when(reservationService.getById(1L)).thenReturn(Optional.of(reservation));
+        mockMvc.perform(get("/api/billing/1"))
+                .andExpect(jsonPath("$.numberOfNights", is(3)));
+
+        Reservation moved = new Reservation();
+        moved.setId(1L);
+        moved.setGuestFullName("John Smith");
+        moved.setRoomType("DOUBLE");
+        moved.setCheckIn(LocalDate.of(2026, 8, 15));
+        moved.setCheckOut(LocalDate.of(2026, 8, 20));
+        moved.setUpdatedAt(reservation.getUpdatedAt().plusMinutes(1));
+        billCache.onReservationChanged(new ReservationChangedEvent(1L, reservation, moved));
+        when(reservationService.getById(1L)).thenReturn(Optional.of(moved));
+
+        mockMvc.perform(get("/api/billing/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.numberOfNights", is(5)));
+        verify(reservationService, times(2)).getById(1L);
+    }
+
+    // IT-035: Invalid batch requests are rejected with the usual error body
+    @Test
+    @WithMockUser
+    @DisplayName("IT-035: POST /api/billing/batch - Validation error")
+    void testBatchValidationError() throws Exception {
+        doThrow(new IllegalArgumentException("Provide either a list of reservation IDs or a from/to date range"))
+                .when(billingBatchService).validate(any());
+
+        mockMvc.perform(post("/api/billing/batch")
+                        .with(csrf())
+                        .contentType("application/json")
+                        .content("{}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", containsString("either")));
+    }
+
+    // IT-036: A bill the client already has comes back as 304, from the cache or after the reservation is read
+    @Test
+    @WithMockUser
+    @DisplayName("IT-036: GET /api/billing/{id} - Conditional request")
+    void testBillNotModified() throws Exception {
+        when(reservationService.getById(1L)).thenReturn(Optional.of(reservation));
+        String etag = mockMvc.perform(get("/api/billing/1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotNull(etag);
+
+        mockMvc.perform(get("/api/billing/1").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        billCache.clear();
+        mockMvc.perform(get("/api/billing/1").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        Reservation moved = new Reservation();
+        moved.setId(1L);
+        moved.setRoomType("DOUBLE");
+        moved.setCheckIn(LocalDate.of(2026, 8, 15));
+        moved.setCheckOut(LocalDate.of(2026, 8, 20));
+        moved.setUpdatedAt(reservation.getUpdatedAt().plusMinutes(1));
+        billCache.onReservationChanged(new ReservationChangedEvent(1L, reservation, moved));
+        when(reservationService.getById(1L)).thenReturn(Optional.of(moved));
+        mockMvc.perform(get("/api/billing/1").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.numberOfNights", is(5)));
+    }
+
+    // IT-037: The same bill is served as Smile or CBOR on request, smaller than the JSON and under its own ETag
+    @Test
+    @WithMockUser
+    @DisplayName("IT-037: GET /api/billing/{id} - Smile and CBOR responses")
+    void testBinaryFormats() throws Exception {
+        when(reservationService.getById(1L)).thenReturn(Optional.of(reservation));
+        MockHttpServletResponse jsonResponse = mockMvc.perform(get("/api/billing/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues("Vary", hasItem("Accept")))
+                .andReturn().getResponse();
+        byte[] json = jsonResponse.getContentAsByteArray();
+        Set<String> etags = new HashSet<>(Set.of(jsonResponse.getHeader("ETag")));
+
+        ObjectMapper[] mappers = {new ObjectMapper(new SmileFactory()), new ObjectMapper(new CBORFactory())};
+        String[] mediaTypes = {"application/x-jackson-smile", "application/cbor"};
+        for (int i = 0; i < mappers.length; i++) {
+            MockHttpServletResponse response = mockMvc.perform(get("/api/billing/1").accept(mediaTypes[i]))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(mediaTypes[i]))
+                    .andReturn().getResponse();
+            byte[] body = response.getContentAsByteArray();
+            // Each encoding has its own tag, and a client holding it still gets a 304
+            String etag = response.getHeader("ETag");
+            assertTrue(etags.add(etag), mediaTypes[i] + " reuses tag " + etag);
+            mockMvc.perform(get("/api/billing/1").accept(mediaTypes[i]).header("If-None-Match", etag))
+                    .andExpect(status().isNotModified());
+            mockMvc.perform(get("/api/billing/1").header("If-None-Match", etag))
+                    .andExpect(status().isOk());
+            JsonNode bill = mappers[i].readTree(body);
+            assertEquals(152550.00, bill.get("grandTotal").asDouble(), 0.001, mediaTypes[i]);
+            assertEquals("2026-08-15", bill.get("checkInDate").asText(), mediaTypes[i]);
+            assertTrue(body.length < json.length, mediaTypes[i]);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.oceanview.reservation.controller;
+
+import com.oceanview.reservation.model.Reservation;
+import com.oceanview.reservation.service.ReservationService;
+import com.oceanview.reservation.service.RoomInventory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static com.oceanview.reservation.TestReservations.newReservation;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// Checks the Prometheus scrape endpoint exposes the endpoint, repository, pool, cache and conflict meters
+@SpringBootTest(properties = "management.endpoints.web.exposure.include=health,prometheus")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@DisplayName("Metrics Endpoint Integration Tests")
+public class MetricsEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private RoomInventory roomInventory;
+
+    // IT-018: Served requests, repository calls and rejected bookings show up in /actuator/prometheus
+    @Test
+    @DisplayName("IT-018: GET /actuator/prometheus - Application meters")
+    void testPrometheusScrape() throws Exception {
+        // Take every DELUXE room for the nights, so one more booking is rejected
+        Reservation booked = reservationService.create(newReservation("DELUXE", LocalDate.of(2046, 6, 1), 2));
+        for (int room = 1; room < roomInventory.roomCount("DELUXE"); room++) {
+            reservationService.create(newReservation("DELUXE", LocalDate.of(2046, 6, 1), 2));
+        }
+        assertThrows(IllegalArgumentException.class, () -> reservationService.create(newReservation("DELUXE", LocalDate.of(2046, 6, 1), 2)));
+
+        mockMvc.perform(get("/api/reservations/" + booked.getId())).andExpect(status().isOk());
+        mockMvc.perform(get("/api/billing/" + booked.getId())).andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(allOf(
+                        containsString("http_server_requests_seconds_count{"),
+                        containsString("uri=\"/api/reservations/{id}\""),
+                        containsString("uri=\"/api/billing/{id}\""),
+                        containsString("spring_data_repository_invocations_seconds_count{"),
+                        containsString("method=\"save\""),
+                        containsString("reservation_booking_conflicts_total{"),
+                        containsString("cache_gets_total{"),
+                        containsString("cache=\"reservations\""),
+                        containsString("cache=\"bills\""),
+                        containsString("hikaricp_connections_active{"),
+                        containsString("hikaricp_connections_acquire_seconds_count{"))));
+    }
+}
@@ -1,6 +1,10 @@
 package com.oceanview.reservation.controller;
 
 import com.oceanview.reservation.model.Reservation;
+import com.oceanview.reservation.model.ReservationSummary;
+import com.oceanview.reservation.service.ReservationBitmapIndex;
+import com.oceanview.reservation.service.ReservationExportService;
+import com.oceanview.reservation.service.ReservationImportService;
 import com.oceanview.reservation.service.ReservationService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,6 +12,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -16,7 +21,9 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -24,6 +31,8 @@ import static org.springframework.security.test.web.servlet.request.SecurityMock
 import static org.hamcrest.Matchers.*;
 import static org.mockito.Mockito.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.isNull;
 
 // Integration tests for the reservation REST endpoints
 @WebMvcTest(ReservationController.class)
@@ -36,6 +45,12 @@ public class ReservationControllerTest {
     @MockBean
     private ReservationService reservationService;
 
+    @MockBean
+    private ReservationExportService reservationExportService;
+
+    @MockBean
+    private ReservationImportService reservationImportService;
+
     private Reservation sampleReservation;
 
     @BeforeEach
@@ -113,17 +128,43 @@ public class ReservationControllerTest {
             .andExpect(status().isBadRequest());
     }
 
-    // IT-005: Test get all reservations
+    // IT-005: Test get first page of reservations
     @Test
     @WithMockUser
     @DisplayName("IT-005: GET /api/reservations - Success")
     void testGetAllReservations() throws Exception {
-        when(reservationService.listAll()).thenReturn(Arrays.asList(sampleReservation));
+        when(reservationService.listPage(any(), any(), any())).thenReturn(
+            new ReservationService.ReservationPage<>(Arrays.asList(sampleReservation), "next-token", 20));
 
         mockMvc.perform(get("/api/reservations"))
             .andExpect(status().isOk())
-            .andExpect(jsonPath("$", hasSize(1)))
-            .andExpect(jsonPath("$[0].guestFullName").value("John Smith"));
+            .andExpect(jsonPath("$.items", hasSize(1)))
+            .andExpect(jsonPath("$.items[0].guestFullName").value("John Smith"))
+            .andExpect(jsonPath("$.nextCursor").value("next-token"));
+    }
+
+    // IT-038: Test paging filters and cursor are passed through to the service
+    @Test
+    @WithMockUser
+    @DisplayName("IT-038: GET /api/reservations?status=pending&cursor=... - Filtered page")
+    void testGetReservationsPageWithFilters() throws Exception {
+        when(reservationService.listPage(any(), eq("abc"), eq(50))).thenReturn(
+            new ReservationService.ReservationPage<>(Arrays.asList(sampleReservation), null, 50));
+
+        mockMvc.perform(get("/api/reservations")
+                .param("status", "pending")
+                .param("roomType", "double")
+                .param("from", "2026-08-01")
+                .param("cursor", "abc")
+                .param("limit", "50"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items", hasSize(1)))
+            .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        verify(reservationService).listPage(argThat(filter ->
+            "PENDING".equals(filter.getStatus()) &&
+            "DOUBLE".equals(filter.getRoomType()) &&
+            LocalDate.of(2026, 8, 1).equals(filter.getCheckInFrom())), eq("abc"), eq(50));
     }
 
     // IT-006: Test get reservation by ID (found)
@@ -151,6 +192,50 @@ public class ReservationControllerTest {
             .andExpect(status().isNotFound());
     }
 
+    // IT-039: Test a matching If-None-Match gets an empty 304 until the reservation changes
+    @Test
+    @WithMockUser
+    @DisplayName("IT-039: GET /api/reservations/{id} - Conditional request")
+    void testGetReservationByIdNotModified() throws Exception {
+        when(reservationService.getById(1L)).thenReturn(Optional.of(sampleReservation));
+
+        String etag = mockMvc.perform(get("/api/reservations/1"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", org.hamcrest.Matchers.startsWith("\"1-")))
+            .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(get("/api/reservations/1").header("If-None-Match", etag))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+
+        sampleReservation.setUpdatedAt(sampleReservation.getUpdatedAt().plusNanos(1_000));
+        mockMvc.perform(get("/api/reservations/1").header("If-None-Match", etag))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", org.hamcrest.Matchers.not(etag)));
+    }
+
+    // IT-040: Test list endpoints carry a weak ETag that changes when a row is swapped for another
+    @Test
+    @WithMockUser
+    @DisplayName("IT-040: GET /api/reservations/recent - Conditional request")
+    void testRecentReservationsNotModified() throws Exception {
+        when(reservationService.getRecentReservations()).thenReturn(Arrays.asList(sampleReservation));
+
+        String etag = mockMvc.perform(get("/api/reservations/recent"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", org.hamcrest.Matchers.startsWith("W/\"1-")))
+            .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(get("/api/reservations/recent").header("If-None-Match", etag))
+            .andExpect(status().isNotModified());
+
+        Reservation other = new Reservation();
+        other.setId(2L);
+        other.setUpdatedAt(sampleReservation.getUpdatedAt());
+        when(reservationService.getRecentReservations()).thenReturn(Arrays.asList(other));
+        mockMvc.perform(get("/api/reservations/recent").header("If-None-Match", etag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].id").value(2));
+    }
+
     // IT-008: Test update reservation
     @Test
     @WithMockUser
@@ -205,14 +290,183 @@ public class ReservationControllerTest {
             .andExpect(jsonPath("$[0].status").value("CONFIRMED"));
     }
 
+    // IT-041: Test summary view of a list endpoint
+    @Test
+    @WithMockUser
+    @DisplayName("IT-041: GET /api/reservations/active?view=summary - List columns only")
+    void testActiveReservationSummaries() throws Exception {
+        when(reservationService.getActiveSummaries()).thenReturn(Arrays.asList(new ReservationSummary(
+            1L, "John Smith", "DOUBLE", LocalDate.of(2026, 8, 15),
+            LocalDate.of(2026, 8, 18), 2, "CONFIRMED", LocalDateTime.now(), LocalDateTime.now())));
+
+        mockMvc.perform(get("/api/reservations/active").param("view", "summary"))
+            .andExpect(status().isOk())
+            .andExpect(header().exists("ETag"))
+            .andExpect(jsonPath("$[0].guestFullName").value("John Smith"))
+            .andExpect(jsonPath("$[0].address").doesNotExist())
+            .andExpect(jsonPath("$[0].email").doesNotExist())
+            .andExpect(jsonPath("$[0].specialRequests").doesNotExist());
+        verify(reservationService, never()).getActiveReservations();
+
+        mockMvc.perform(get("/api/reservations/active").param("view", "compact"))
+            .andExpect(status().isBadRequest());
+    }
+
     // Test search by guest name
     @Test
     @WithMockUser
     @DisplayName("GET /api/reservations?guestName=John - Search by name")
     void testSearchByGuestName() throws Exception {
-        when(reservationService.searchByGuest("John")).thenReturn(Arrays.asList(sampleReservation));
+        when(reservationService.listPage(argThat(filter -> "John".equals(filter.getGuest())), any(), any()))
+            .thenReturn(new ReservationService.ReservationPage<>(Arrays.asList(sampleReservation), null, 20));
 
         mockMvc.perform(get("/api/reservations").param("guestName", "John"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items", hasSize(1)))
+            .andExpect(jsonPath("$.items[0].guestFullName").value("John Smith"));
+    }
+
+    // IT-042: Test CSV export streams the service output as a download
+    @Test
+    @WithMockUser
+    @DisplayName("IT-042: GET /api/reservations/export?format=csv - Streamed export")
+    void testExportReservationsAsCsv() throws Exception {
+        when(reservationExportService.export(eq(ReservationExportService.Format.CSV), isNull(), isNull(), any()))
+            .thenAnswer(invocation -> {
+                invocation.getArgument(3, java.io.OutputStream.class).write("id,guestFullName\n1,John Smith\n".getBytes());
+                return 1L;
+            });
+
+        var result = mockMvc.perform(get("/api/reservations/export").param("format", "csv"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Disposition", containsString("reservations.csv")))
+            .andExpect(content().contentTypeCompatibleWith("text/csv"))
+            .andExpect(content().string("id,guestFullName\n1,John Smith\n"));
+    }
+
+    // IT-043: Test unknown export formats are rejected up front
+    @Test
+    @WithMockUser
+    @DisplayName("IT-043: GET /api/reservations/export?format=xml - Unsupported format")
+    void testExportReservationsUnsupportedFormat() throws Exception {
+        mockMvc.perform(get("/api/reservations/export").param("format", "xml"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value(containsString("Unsupported export format")));
+    }
+
+    // IT-044: Test a CSV import is handed to the import service and its report returned
+    @Test
+    @WithMockUser
+    @DisplayName("IT-044: POST /api/reservations/import - CSV bulk import")
+    void testImportReservationsFromCsv() throws Exception {
+        ReservationImportService.ImportReport report = new ReservationImportService.ImportReport(2, 1, 1,
+            Arrays.asList(new ReservationImportService.RowError(3, "Room type SUITE is not available for the selected dates")), false);
+        when(reservationImportService.importReservations(eq(ReservationExportService.Format.CSV), any())).thenReturn(report);
+
+        mockMvc.perform(post("/api/reservations/import")
+                .with(csrf())
+                .contentType("text/csv")
+                .content("guestFullName,roomType\nJohn Smith,SUITE\nJane Doe,SUITE\n"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.imported").value(1))
+            .andExpect(jsonPath("$.failed").value(1))
+            .andExpect(jsonPath("$.errors[0].line").value(3));
+    }
+
+    // IT-045: Test check-in returns the reservation with its assigned room, and a full room type is a bad request
+    @Test
+    @WithMockUser
+    @DisplayName("IT-045: POST /api/reservations/{id}/check-in - Room assigned")
+    void testCheckIn() throws Exception {
+        sampleReservation.setStatus("CHECKED_IN");
+        sampleReservation.setRoomNumber("201");
+        when(reservationService.checkIn(1L)).thenReturn(sampleReservation);
+        when(reservationService.checkIn(2L)).thenThrow(new IllegalArgumentException("No DOUBLE room is free for the whole stay"));
+
+        mockMvc.perform(post("/api/reservations/1/check-in").with(csrf()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("CHECKED_IN"))
+            .andExpect(jsonPath("$.roomNumber").value("201"));
+        mockMvc.perform(post("/api/reservations/2/check-in").with(csrf()))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value(containsString("No DOUBLE room")));
+    }
+
+    // IT-046: Test status changes pass the expected version and map lifecycle and version conflicts to 409
+    @Test
+    @WithMockUser
+    @DisplayName("IT-046: PATCH /api/reservations/{id}/status - Conditional status change")
+    void testUpdateReservationStatus() throws Exception {
+        sampleReservation.setStatus("CONFIRMED");
+        sampleReservation.setVersion(4L);
+        when(reservationService.transition(1L, "CONFIRMED", 3L)).thenReturn(sampleReservation);
+        when(reservationService.transition(1L, "PENDING", null))
+            .thenThrow(new IllegalStateException("Reservation 1 cannot move from CONFIRMED to PENDING"));
+        when(reservationService.transition(1L, "CANCELLED", 2L))
+            .thenThrow(new OptimisticLockingFailureException("Reservation 1 was changed by another request"));
+
+        mockMvc.perform(patch("/api/reservations/1/status").with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"CONFIRMED\",\"version\":3}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.version").value(4));
+        mockMvc.perform(patch("/api/reservations/1/status").with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"PENDING\"}"))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.error").value(containsString("cannot move")));
+        mockMvc.perform(patch("/api/reservations/1/status").with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"CANCELLED\",\"version\":2}"))
+            .andExpect(status().isConflict());
+    }
+
+    // IT-047: Test bulk status changes report updated, skipped and unknown ids
+    @Test
+    @WithMockUser
+    @DisplayName("IT-047: PATCH /api/reservations/status - Bulk status change")
+    void testUpdateReservationStatuses() throws Exception {
+        when(reservationService.transitionAll(Arrays.asList(1L, 2L, 3L), "CANCELLED")).thenReturn(
+            new ReservationService.BulkTransition("CANCELLED", Arrays.asList(1L, 2L), Arrays.asList(3L), Arrays.asList()));
+
+        mockMvc.perform(patch("/api/reservations/status").with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\":[1,2,3],\"status\":\"CANCELLED\"}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.updated.length()").value(2))
+            .andExpect(jsonPath("$.skipped[0]").value(3));
+    }
+
+    // IT-048: Test counting passes comma-separated, upper-cased filter values to the service
+    @Test
+    @WithMockUser
+    @DisplayName("IT-048: GET /api/reservations/count?status=pending,confirmed - Filtered counts")
+    void testCountReservations() throws Exception {
+        ReservationBitmapIndex.Criteria criteria = new ReservationBitmapIndex.Criteria(
+            Set.of("PENDING", "CONFIRMED"), Set.of("SUITE"), LocalDate.of(2026, 3, 1), null);
+        when(reservationService.count(criteria)).thenReturn(new ReservationBitmapIndex.Counts(
+            3, Map.of("CONFIRMED", 2, "PENDING", 1), Map.of("SUITE", 3)));
+
+        mockMvc.perform(get("/api/reservations/count")
+                .param("status", "pending,confirmed").param("roomType", "suite").param("from", "2026-03-01"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total").value(3))
+            .andExpect(jsonPath("$.byStatus.CONFIRMED").value(2))
+            .andExpect(jsonPath("$.byRoomType.SUITE").value(3));
+    }
+
+    // IT-049: Test ranked guest search passes the query and limit to the service
+    @Test
+    @WithMockUser
+    @DisplayName("IT-049: GET /api/reservations/search?q=smith - Ranked guest search")
+    void testSearchReservations() throws Exception {
+        when(reservationService.searchByGuest("smith", 5)).thenReturn(Arrays.asList(sampleReservation));
+
+        mockMvc.perform(get("/api/reservations/search").param("q", "smith").param("limit", "5"))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$", hasSize(1)))
             .andExpect(jsonPath("$[0].guestFullName").value("John Smith"));
@@ -0,0 +1,391 @@
+package com.oceanview.reservation.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oceanview.reservation.OceanviewReservationApplication;
+import com.oceanview.reservation.TestReservations;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// Closed-loop HTTP load generator: boots the application on the ci profile (embedded H2), drives the
+// reservation and billing endpoints from a fixed number of threads with a weighted request mix, and reports
+// throughput and HDR histogram latency percentiles per endpoint.
+// Settings come from system properties (see Settings); thresholds such as "get.p99=20" (milliseconds)
+// are checked against the report so a regression fails the run.
+public class LoadGenerator {
+
+    private static final String[] ROOM_TYPES = {"SINGLE", "DOUBLE", "SUITE", "DELUXE"};
+
+    // Load test endpoints, named as in the mix and threshold settings
+    public enum Endpoint {
+        CREATE, GET, LIST, STATUS, BILLING;
+
+        String key() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final Settings settings;
+    private final List<String> applicationArgs;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+
+    private final Map<Endpoint, Recorder> recorders = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+    private final List<Long> reservationIds = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicLong nextStay = new AtomicLong();
+    private final LocalDate firstNight = LocalDate.now().plusYears(1);
+    private volatile boolean measuring;
+    private String baseUrl;
+
+    public LoadGenerator(Settings settings, String... applicationArgs) {
+        this.settings = settings;
+        this.applicationArgs = List.of(applicationArgs);
+        for (Endpoint endpoint : Endpoint.values()) {
+            recorders.put(endpoint, new Recorder(3));
+            errors.put(endpoint, new LongAdder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Settings settings = Settings.fromSystemProperties();
+        Report report = new LoadGenerator(settings).run();
+        report.print(System.out);
+        List<String> violations = report.violations(settings);
+        violations.forEach(violation -> System.out.println("THRESHOLD EXCEEDED: " + violation));
+        System.exit(violations.isEmpty() ? 0 : 1);
+    }
+
+    // Start the application, seed reservations, warm up, then measure for the configured duration
+    public Report run() throws Exception {
+        // Pool and logging as in production; request logging at INFO would dominate the timings
+        List<String> args = new ArrayList<>(List.of("--server.port=0",
+            "--spring.jpa.open-in-view=false",
+            "--spring.datasource.hikari.maximum-pool-size=10",
+            "--logging.level.com.oceanview.reservation=WARN"));
+        if (settings.dbLatencyMillis > 0) {
+            SimulatedLatencyInspector.millis = settings.dbLatencyMillis;
+            args.add("--spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + SimulatedLatencyInspector.class.getName());
+        }
+        args.addAll(applicationArgs);
+        ConfigurableApplicationContext application = new SpringApplicationBuilder(OceanviewReservationApplication.class)
+            .profiles("ci")
+            .run(args.toArray(new String[0]));
+        try {
+            int port = ((WebServerApplicationContext) application).getWebServer().getPort();
+            baseUrl = "http://localhost:" + port;
+            for (int i = 0; i < settings.seedReservations; i++) {
+                if (!create()) {
+                    throw new IllegalStateException("Could not seed reservations");
+                }
+            }
+            return drive();
+        } finally {
+            application.close();
+        }
+    }
+
+    private Report drive() throws InterruptedException {
+        long warmupEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(settings.warmupSeconds);
+        long deadline = warmupEnd + TimeUnit.SECONDS.toNanos(settings.durationSeconds);
+        ExecutorService workers = Executors.newFixedThreadPool(settings.concurrency);
+        for (int i = 0; i < settings.concurrency; i++) {
+            workers.submit(() -> work(deadline));
+        }
+
+        TimeUnit.NANOSECONDS.sleep(Math.max(0, warmupEnd - System.nanoTime()));
+        recorders.values().forEach(Recorder::getIntervalHistogram);
+        measuring = true;
+        long start = System.nanoTime();
+
+        workers.shutdown();
+        if (!workers.awaitTermination(settings.durationSeconds + 60L, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+            throw new IllegalStateException("Load test workers did not finish");
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        Map<Endpoint, Histogram> histograms = new EnumMap<>(Endpoint.class);
+        Map<Endpoint, Long> errorCounts = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            histograms.put(endpoint, recorders.get(endpoint).getIntervalHistogram());
+            errorCounts.put(endpoint, errors.get(endpoint).sum());
+        }
+        return new Report(settings, seconds, histograms, errorCounts);
+    }
+
+    private void work(long deadline) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadline) {
+            Endpoint endpoint = settings.pick(random.nextInt(settings.totalWeight));
+            long start = System.nanoTime();
+            boolean ok;
+            try {
+                ok = switch (endpoint) {
+                    case CREATE -> create();
+                    case GET -> send(get("/api/reservations/" + randomId(random)));
+                    case LIST -> send(get("/api/reservations?limit=20"));
+                    case STATUS -> send(json("/api/reservations/" + randomId(random) + "/status", "PATCH",
+                        Map.of("status", "CONFIRMED")));
+                    case BILLING -> send(get("/api/billing/" + randomId(random)));
+                };
+            } catch (IOException e) {
+                ok = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            recorders.get(endpoint).recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+            if (!ok && measuring) {
+                errors.get(endpoint).increment();
+            }
+        }
+    }
+
+    // Book a one-night stay no other request uses, so creates never conflict
+    private boolean create() throws IOException, InterruptedException {
+        long stay = nextStay.getAndIncrement();
+        LocalDate checkIn = firstNight.plusDays(stay / ROOM_TYPES.length);
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("guestFullName", "Load Guest " + stay);
+        body.put("address", TestReservations.ADDRESS);
+        body.put("contactNumber", TestReservations.CONTACT_NUMBER);
+        body.put("email", "load" + stay + "@example.com");
+        body.put("roomType", ROOM_TYPES[(int) (stay % ROOM_TYPES.length)]);
+        body.put("checkIn", checkIn.toString());
+        body.put("checkOut", checkIn.plusDays(1).toString());
+        body.put("numberOfGuests", 2);
+
+        HttpResponse<String> response = httpClient.send(json("/api/reservations", "POST", body),
+            HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 201) {
+            return false;
+        }
+        reservationIds.add(objectMapper.readTree(response.body()).get("id").asLong());
+        return true;
+    }
+
+    private boolean send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+    }
+
+    private HttpRequest json(String path, String method, Object body) throws IOException {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .header("Content-Type", "application/json")
+            .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+            .build();
+    }
+
+    private long randomId(ThreadLocalRandom random) {
+        synchronized (reservationIds) {
+            return reservationIds.get(random.nextInt(reservationIds.size()));
+        }
+    }
+
+    // Load test settings, read from load.* system properties
+    public static class Settings {
+        final int durationSeconds;
+        final int warmupSeconds;
+        final int concurrency;
+        final int seedReservations;
+        final int dbLatencyMillis;
+        final Map<Endpoint, Integer> mix;
+        final Map<String, Double> thresholds;
+        final double maxErrorRate;
+        private final Endpoint[] slots;
+        final int totalWeight;
+
+        Settings(int durationSeconds, int warmupSeconds, int concurrency, int seedReservations, int dbLatencyMillis,
+                 Map<Endpoint, Integer> mix, Map<String, Double> thresholds, double maxErrorRate) {
+            if (durationSeconds < 1 || warmupSeconds < 0 || concurrency < 1 || seedReservations < 1 || dbLatencyMillis < 0) {
+                throw new IllegalArgumentException("load.duration, load.concurrency and load.seed must be positive");
+            }
+            this.durationSeconds = durationSeconds;
+            this.warmupSeconds = warmupSeconds;
+            this.concurrency = concurrency;
+            this.seedReservations = seedReservations;
+            this.dbLatencyMillis = dbLatencyMillis;
+            this.mix = mix;
+            this.thresholds = thresholds;
+            this.maxErrorRate = maxErrorRate;
+            this.totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+            if (totalWeight < 1) {
+                throw new IllegalArgumentException("load.mix needs at least one endpoint with a positive weight");
+            }
+            this.slots = new Endpoint[totalWeight];
+            int slot = 0;
+            for (Map.Entry<Endpoint, Integer> entry : mix.entrySet()) {
+                for (int i = 0; i < entry.getValue(); i++) {
+                    slots[slot++] = entry.getKey();
+                }
+            }
+        }
+
+        // load.duration=30, load.warmup=10 (seconds), load.concurrency=16, load.seed=200, load.db-latency=0 (ms per
+        // Hibernate statement), load.mix=create=1,get=6,list=2,status=1,billing=4,
+        // load.thresholds=get.p99=20,all.max=500 (ms), load.max-error-rate=0 (fraction of requests)
+        public static Settings fromSystemProperties() {
+            return fromSystemProperties(16, 0);
+        }
+
+        // As above, with other defaults for load.concurrency and load.db-latency
+        public static Settings fromSystemProperties(int defaultConcurrency, int defaultDbLatencyMillis) {
+            Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+            parse(System.getProperty("load.mix", "create=1,get=6,list=2,status=1,billing=4"))
+                .forEach((name, weight) -> mix.put(Endpoint.valueOf(name.toUpperCase(Locale.ROOT)), (int) weight.doubleValue()));
+            return new Settings(
+                Integer.getInteger("load.duration", 30),
+                Integer.getInteger("load.warmup", 10),
+                Integer.getInteger("load.concurrency", defaultConcurrency),
+                Integer.getInteger("load.seed", 200),
+                Integer.getInteger("load.db-latency", defaultDbLatencyMillis),
+                mix,
+                parse(System.getProperty("load.thresholds", "")),
+                Double.parseDouble(System.getProperty("load.max-error-rate", "0")));
+        }
+
+        Endpoint pick(int slot) {
+            return slots[slot];
+        }
+
+        // "a=1,b=2.5" -> {a=1.0, b=2.5}
+        private static Map<String, Double> parse(String spec) {
+            Map<String, Double> values = new LinkedHashMap<>();
+            for (String part : spec.split(",")) {
+                if (part.isBlank()) {
+                    continue;
+                }
+                String[] keyValue = part.split("=", 2);
+                if (keyValue.length != 2) {
+                    throw new IllegalArgumentException("Expected name=value but got: " + part);
+                }
+                values.put(keyValue[0].trim().toLowerCase(Locale.ROOT), Double.parseDouble(keyValue[1].trim()));
+            }
+            return values;
+        }
+    }
+
+    // Measured latencies (microseconds) and error counts per endpoint
+    public static class Report {
+        private static final String[] METRICS = {"p50", "p90", "p99", "p999", "max"};
+
+        private final Settings settings;
+        private final double seconds;
+        private final Map<String, Histogram> histograms = new LinkedHashMap<>();
+        private final Map<String, Long> errors = new LinkedHashMap<>();
+
+        Report(Settings settings, double seconds, Map<Endpoint, Histogram> byEndpoint, Map<Endpoint, Long> errorCounts) {
+            this.settings = settings;
+            this.seconds = seconds;
+            Histogram all = new Histogram(3);
+            long allErrors = 0;
+            for (Endpoint endpoint : settings.mix.keySet()) {
+                histograms.put(endpoint.key(), byEndpoint.get(endpoint));
+                errors.put(endpoint.key(), errorCounts.get(endpoint));
+                all.add(byEndpoint.get(endpoint));
+                allErrors += errorCounts.get(endpoint);
+            }
+            histograms.put("all", all);
+            errors.put("all", allErrors);
+        }
+
+        // Latency in milliseconds for p50, p90, p99, p999 or max
+        public double millis(String endpoint, String metric) {
+            Histogram histogram = histograms.get(endpoint);
+            if (histogram == null) {
+                throw new IllegalArgumentException("Unknown endpoint in load.thresholds: " + endpoint);
+            }
+            long micros = switch (metric) {
+                case "p50" -> histogram.getValueAtPercentile(50);
+                case "p90" -> histogram.getValueAtPercentile(90);
+                case "p99" -> histogram.getValueAtPercentile(99);
+                case "p999" -> histogram.getValueAtPercentile(99.9);
+                case "max" -> histogram.getMaxValue();
+                default -> throw new IllegalArgumentException("Unknown metric in load.thresholds: " + metric);
+            };
+            return micros / 1000.0;
+        }
+
+        public long requests(String endpoint) {
+            return histograms.get(endpoint).getTotalCount();
+        }
+
+        public double throughput(String endpoint) {
+            return requests(endpoint) / seconds;
+        }
+
+        public double errorRate(String endpoint) {
+            long requests = requests(endpoint);
+            return requests == 0 ? 0 : (double) errors.get(endpoint) / requests;
+        }
+
+        // Every configured threshold (and the error rate limit) that this run exceeded
+        public List<String> violations(Settings settings) {
+            List<String> violations = new ArrayList<>();
+            settings.thresholds.forEach((key, limit) -> {
+                int dot = key.lastIndexOf('.');
+                if (dot < 0) {
+                    throw new IllegalArgumentException("Expected endpoint.metric in load.thresholds but got: " + key);
+                }
+                double actual = millis(key.substring(0, dot), key.substring(dot + 1));
+                if (actual > limit) {
+                    violations.add(String.format(Locale.ROOT, "%s = %.2f ms (limit %.2f ms)", key, actual, limit));
+                }
+            });
+            histograms.keySet().forEach(endpoint -> {
+                if (errorRate(endpoint) > settings.maxErrorRate) {
+                    violations.add(String.format(Locale.ROOT, "%s error rate = %.4f (limit %.4f)",
+                        endpoint, errorRate(endpoint), settings.maxErrorRate));
+                }
+            });
+            return violations;
+        }
+
+        public void print(PrintStream out) {
+            out.printf(Locale.ROOT, "Load test: %d threads, %.1f s measured after %d s warm-up%n",
+                settings.concurrency, seconds, settings.warmupSeconds);
+            out.printf(Locale.ROOT, "%-8s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+            for (String endpoint : histograms.keySet()) {
+                out.printf(Locale.ROOT, "%-8s %9d %7d %9.1f", endpoint, requests(endpoint), errors.get(endpoint),
+                    throughput(endpoint));
+                for (String metric : METRICS) {
+                    out.printf(Locale.ROOT, " %9.2f", millis(endpoint, metric));
+                }
+                out.println();
+            }
+        }
+    }
+}
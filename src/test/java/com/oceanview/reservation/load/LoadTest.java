@@ -0,0 +1,29 @@
+package com.oceanview.reservation.load;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs LoadGenerator against the application on the ci profile (run with -Pload; settings via -Dload.*)
+@Tag("load")
+@DisplayName("HTTP Load Test")
+public class LoadTest {
+
+    // LT-001: Per-endpoint latency percentiles stay within the configured thresholds, without errors
+    @Test
+    @DisplayName("LT-001: Reservation and billing endpoints under concurrent load")
+    void testEndpointsUnderLoad() throws Exception {
+        LoadGenerator.Settings settings = LoadGenerator.Settings.fromSystemProperties();
+
+        LoadGenerator.Report report = new LoadGenerator(settings).run();
+        report.print(System.out);
+
+        List<String> violations = report.violations(settings);
+        assertTrue(violations.isEmpty(), "Thresholds exceeded: " + violations);
+        assertTrue(report.requests("all") > 0, "No requests were measured");
+    }
+}
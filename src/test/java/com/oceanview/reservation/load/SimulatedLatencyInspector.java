@@ -0,0 +1,23 @@
+package com.oceanview.reservation.load;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.TimeUnit;
+
+// Blocks the calling thread before every statement Hibernate prepares, standing in for the network round trip
+// to MySQL that the embedded H2 database does not have (load.db-latency). Request threads then spend most of
+// their time blocked, as they do in production.
+public class SimulatedLatencyInspector implements StatementInspector {
+
+    static volatile long millis;
+
+    @Override
+    public String inspect(String sql) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return sql;
+    }
+}
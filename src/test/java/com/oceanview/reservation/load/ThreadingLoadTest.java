@@ -0,0 +1,46 @@
+package com.oceanview.reservation.load;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs LoadGenerator twice with the same settings - Tomcat on its platform thread pool, then on virtual threads -
+// and prints both reports with the throughput and p99 side by side (run with -Pload; settings via -Dload.*).
+// Defaults model the check-in peak: 400 clients and 5 ms of simulated database latency per statement.
+@Tag("load")
+@DisplayName("Platform vs Virtual Thread Load Test")
+public class ThreadingLoadTest {
+
+    // LT-002: Both threading modes serve the blocking JPA endpoints under high concurrency within the thresholds
+    @Test
+    @DisplayName("LT-002: Platform and virtual request threads under high concurrency")
+    void testPlatformVersusVirtualThreads() throws Exception {
+        LoadGenerator.Settings settings = LoadGenerator.Settings.fromSystemProperties(400, 5);
+        // No shedding in the benchmark: every client may queue for a connection
+        String maxWaiting = "--reservation.datasource.max-waiting=" + settings.concurrency;
+
+        LoadGenerator.Report platform = new LoadGenerator(settings, "--spring.threads.virtual.enabled=false").run();
+        System.out.println("== Platform threads");
+        platform.print(System.out);
+        assertTrue(platform.requests("all") > 0, "No requests were measured");
+        List<String> violations = platform.violations(settings);
+        assertTrue(violations.isEmpty(), "Thresholds exceeded on platform threads: " + violations);
+
+        Assumptions.assumeTrue(Runtime.version().feature() >= 21, "Virtual threads need Java 21");
+        LoadGenerator.Report virtual = new LoadGenerator(settings, "--spring.threads.virtual.enabled=true", maxWaiting).run();
+        System.out.println("== Virtual threads");
+        virtual.print(System.out);
+        System.out.printf(Locale.ROOT, "req/s %.1f -> %.1f, p99 %.2f ms -> %.2f ms%n",
+            platform.throughput("all"), virtual.throughput("all"),
+            platform.millis("all", "p99"), virtual.millis("all", "p99"));
+        assertTrue(virtual.requests("all") > 0, "No requests were measured");
+        violations = virtual.violations(settings);
+        assertTrue(violations.isEmpty(), "Thresholds exceeded on virtual threads: " + violations);
+    }
+}
@@ -0,0 +1,212 @@
+package com.oceanview.reservation.repository;
+
+import com.oceanview.reservation.model.Reservation;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs every query declared on ReservationRepository, captures the SQL Hibernate sends and checks
+// H2's EXPLAIN plan for it: each one must be answered from an index, never a full table scan.
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+    + "com.oceanview.reservation.repository.RepositoryQueryPlanTest$CapturingInspector")
+@DisplayName("ReservationRepository Query Plan Tests")
+public class RepositoryQueryPlanTest {
+
+    // Queries that read every row by design (the guest search and bitmap index warm-ups)
+    private static final Set<String> WHOLE_TABLE_READS = Set.of("streamGuestKeys", "streamFilterKeys");
+
+    // Sample argument per parameter name; a new query with a new parameter name must be added here
+    private static final Map<String, Object> ARGUMENTS = Map.ofEntries(
+        Map.entry("email", "plan.guest@example.com"),
+        Map.entry("contactNumber", "0770000000"),
+        Map.entry("status", "CONFIRMED"),
+        Map.entry("statuses", List.of("PENDING", "CONFIRMED")),
+        Map.entry("roomType", "DOUBLE"),
+        Map.entry("checkIn", LocalDate.of(2050, 3, 1)),
+        Map.entry("checkOut", LocalDate.of(2050, 3, 4)),
+        Map.entry("startDate", LocalDate.of(2050, 3, 1)),
+        Map.entry("endDate", LocalDate.of(2050, 3, 31)),
+        Map.entry("currentDate", LocalDate.of(2050, 3, 1)),
+        Map.entry("date", LocalDate.of(2050, 3, 1)),
+        Map.entry("startTime", LocalDateTime.of(2049, 1, 2, 0, 0)),
+        Map.entry("endTime", LocalDateTime.of(2049, 1, 3, 0, 0)),
+        Map.entry("excludeId", 1L),
+        Map.entry("limit", Limit.of(50)),
+        // Ids no reservation has, so the status transition updates change nothing
+        Map.entry("id", -1L),
+        Map.entry("ids", List.of(-1L, -2L)),
+        Map.entry("version", 0L),
+        Map.entry("newStatus", "CANCELLED"),
+        Map.entry("updatedAt", LocalDateTime.of(2049, 1, 2, 0, 0))
+    );
+
+    private static final String[] ROOM_TYPES = {"SINGLE", "DOUBLE", "SUITE", "DELUXE"};
+    private static final String[] STATUSES = {"PENDING", "CONFIRMED", "CANCELLED", "CHECKED_OUT"};
+    private static final String SEED_EMAIL_SUFFIX = "@plan.example.com";
+
+    private static final List<String> captured = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // Enough rows that a scan is never the cheap option, with statistics refreshed for the optimizer
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(11);
+        List<Object[]> rows = new ArrayList<>();
+        LocalDateTime createdAt = LocalDateTime.of(2049, 1, 1, 0, 0);
+        transactionTemplate.executeWithoutResult(status -> {
+            // Take a block of ids the pooled generator will not hand out
+            long firstId = jdbcTemplate.queryForObject(
+                "SELECT next_val FROM id_generator WHERE sequence_name = 'reservation' FOR UPDATE", Long.class) + 1;
+            jdbcTemplate.update("UPDATE id_generator SET next_val = ? WHERE sequence_name = 'reservation'", firstId + 4999);
+            for (int i = 0; i < 5000; i++) {
+                LocalDate checkIn = LocalDate.of(2049, 1, 1).plusDays(random.nextInt(3 * 365));
+                rows.add(new Object[]{firstId + i, "Plan Guest " + i, "1 Plan Street", "07" + (10000000 + i),
+                    "guest" + i + SEED_EMAIL_SUFFIX, ROOM_TYPES[random.nextInt(ROOM_TYPES.length)], Date.valueOf(checkIn),
+                    Date.valueOf(checkIn.plusDays(1 + random.nextInt(14))), 2,
+                    STATUSES[random.nextInt(STATUSES.length)], Timestamp.valueOf(createdAt.plusMinutes(i))});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO reservation (id, guest_full_name, address, contact_number, email, "
+                + "room_type, check_in, check_out, number_of_guests, status, created_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        });
+        jdbcTemplate.execute("ANALYZE");
+        captured.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status ->
+            jdbcTemplate.update("DELETE FROM reservation WHERE email LIKE ?", "%" + SEED_EMAIL_SUFFIX));
+    }
+
+    // IT-013: Every declared repository query is answered from an index
+    @Test
+    @DisplayName("IT-013: Repository queries use indexes, not table scans")
+    void testDeclaredQueriesUseIndexes() throws Exception {
+        List<Method> methods = Arrays.stream(ReservationRepository.class.getDeclaredMethods())
+            .filter(method -> !method.isDefault() && !method.isSynthetic())
+            .sorted(Comparator.comparing(Method::getName))
+            .toList();
+        assertFalse(methods.isEmpty());
+
+        List<String> failures = new ArrayList<>();
+        for (Method method : methods) {
+            String sql = captureSql(() -> invoke(method));
+            String plan = explain(sql);
+            if (!WHOLE_TABLE_READS.contains(method.getName()) && scansTable(plan)) {
+                failures.add(method.getName() + ":\n" + plan);
+            }
+        }
+        assertTrue(failures.isEmpty(), "Queries falling back to a table scan:\n" + String.join("\n\n", failures));
+    }
+
+    // IT-014: The keyset-paginated listing walks the (created_at, id) index
+    @Test
+    @DisplayName("IT-014: Keyset listing uses the created_at index")
+    void testKeysetListingUsesCreatedIndex() {
+        Specification<Reservation> afterCursor =
+            ReservationSpecifications.createdBefore(LocalDateTime.of(2049, 1, 2, 12, 0), 1_000_000L);
+        Sort newestFirst = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+        String plan = explain(captureSql(() -> transactionTemplate.executeWithoutResult(status ->
+            reservationRepository.findBy(afterCursor, q -> q.sortBy(newestFirst).limit(21).all()))));
+
+        assertFalse(scansTable(plan), plan);
+        assertTrue(plan.toUpperCase().contains("IDX_RESERVATION_CREATED"), plan);
+    }
+
+    // Runs the method with sample arguments, fully consuming any stream inside a transaction
+    private void invoke(Method method) {
+        Parameter[] parameters = method.getParameters();
+        Object[] args = new Object[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            assertTrue(ARGUMENTS.containsKey(parameters[i].getName()),
+                "No sample argument for parameter '" + parameters[i].getName() + "' of " + method.getName());
+            args[i] = ARGUMENTS.get(parameters[i].getName());
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            try {
+                Object result = method.invoke(reservationRepository, args);
+                if (result instanceof Stream<?> stream) {
+                    try (stream) {
+                        stream.forEach(row -> { });
+                    }
+                }
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Could not run " + method.getName(), e);
+            }
+        });
+    }
+
+    private String captureSql(Runnable query) {
+        captured.clear();
+        query.run();
+        List<String> selects = captured.stream()
+            .filter(sql -> sql.trim().toLowerCase().startsWith("select") || sql.trim().toLowerCase().startsWith("update"))
+            .toList();
+        assertEquals(1, selects.size(), "Expected one SELECT or UPDATE, got " + selects);
+        return selects.get(0);
+    }
+
+    // H2 plans parameters as ?1, ?2 ... so the query can be explained without binding values
+    private String explain(String sql) {
+        StringBuilder numbered = new StringBuilder();
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('?').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return jdbcTemplate.queryForObject("EXPLAIN " + numbered, String.class);
+    }
+
+    private static boolean scansTable(String plan) {
+        return plan.contains(".tableScan");
+    }
+
+    // Records the SQL of every statement Hibernate prepares
+    public static class CapturingInspector implements StatementInspector {
+        @Override
+        public String inspect(String sql) {
+            captured.add(sql);
+            return sql;
+        }
+    }
+}
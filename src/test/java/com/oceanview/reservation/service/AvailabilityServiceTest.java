@@ -0,0 +1,122 @@
+package com.oceanview.reservation.service;
+
+import com.oceanview.reservation.model.Reservation;
+import com.oceanview.reservation.repository.ReservationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+
+import static com.oceanview.reservation.TestReservations.newReservation;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Checks the one-pass availability search against the room count check that POST /api/reservations uses
+@SpringBootTest
+@DisplayName("AvailabilityService Integration Tests")
+public class AvailabilityServiceTest {
+
+    private static final String[] ROOM_TYPES = {"SINGLE", "DOUBLE", "SUITE", "DELUXE"};
+
+    @Autowired
+    private AvailabilityService availabilityService;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private RoomInventory roomInventory;
+
+    @Autowired
+    private BillingService billingService;
+
+    // IT-021: Every night matches the booking check, from the occupancy index and from the database alike
+    @Test
+    @DisplayName("IT-021: Per-night availability matches the booking room count check")
+    void testAvailabilityMatchesBookingCheck() {
+        LocalDate base = LocalDate.of(2070, 3, 1);
+        Random random = new Random(21);
+        for (int i = 0; i < 500; i++) {
+            Reservation stay = newReservation(ROOM_TYPES[random.nextInt(ROOM_TYPES.length)],
+                base.plusDays(random.nextInt(40)), 1 + random.nextInt(5));
+            stay.setStatus(random.nextInt(4) == 0 ? "CANCELLED" : "CONFIRMED");
+            try {
+                reservationService.create(stay);
+            } catch (IllegalArgumentException e) {
+                // Every room of the type is already taken on one of the nights
+            }
+        }
+
+        LocalDate from = base.plusDays(5);
+        LocalDate to = base.plusDays(35);
+        AvailabilityService.Availability availability = availabilityService.search(from, to, 2);
+        assertEquals(30, availability.getNights());
+        assertEquals(ROOM_TYPES.length, availability.getRoomTypes().size());
+
+        int soldOutNights = 0;
+        for (AvailabilityService.RoomTypeAvailability roomType : availability.getRoomTypes()) {
+            assertEquals(roomInventory.roomCount(roomType.getRoomType()), roomType.getRooms());
+            int[] booked = reservationService.bookedPerNight(newReservation(roomType.getRoomType(), from, 30));
+            assertEquals(30, roomType.getNights().size());
+            for (int i = 0; i < 30; i++) {
+                AvailabilityService.NightAvailability night = roomType.getNights().get(i);
+                Reservation probe = newReservation(roomType.getRoomType(), night.getDate(), 1);
+                assertEquals(!reservationService.isFullyBooked(probe), night.isAvailable(),
+                    roomType.getRoomType() + " on " + night.getDate());
+                assertEquals(roomType.getRooms() - booked[i], night.getRoomsLeft());
+                soldOutNights += night.isAvailable() ? 0 : 1;
+            }
+            assertEquals(roomType.getNights().stream().mapToInt(AvailabilityService.NightAvailability::getRoomsLeft).min().orElseThrow(),
+                roomType.getRoomsLeft());
+            assertEquals(!reservationService.isFullyBooked(newReservation(roomType.getRoomType(), from, 30)),
+                roomType.isAvailable());
+        }
+        assertTrue(soldOutNights > 0, "The bookings should sell out some nights");
+
+        // Before the index has warmed up, the same answer comes from a single query
+        AvailabilityService fromDatabase = new AvailabilityService(reservationRepository,
+            new RoomOccupancyIndex(reservationRepository), roomInventory, billingService);
+        assertEquals(availability, fromDatabase.search(from, to, 2));
+    }
+
+    // IT-022: Quotes are the bills a booking would get; a room type with rooms left can be booked straight away
+    @Test
+    @DisplayName("IT-022: Quotes match billing and free room types can be booked")
+    void testQuotesAndBooking() {
+        LocalDate from = LocalDate.of(2071, 7, 1);
+        LocalDate to = from.plusDays(3);
+        for (int room = 0; room < roomInventory.roomCount("DELUXE"); room++) {
+            reservationService.create(newReservation("DELUXE", from.plusDays(1), 1));
+        }
+
+        AvailabilityService.Availability availability = availabilityService.search(from, to, 2);
+
+        assertEquals(List.of("SINGLE", "DOUBLE", "SUITE", "DELUXE"),
+            availability.getRoomTypes().stream().map(AvailabilityService.RoomTypeAvailability::getRoomType).toList());
+        for (AvailabilityService.RoomTypeAvailability roomType : availability.getRoomTypes()) {
+            assertEquals(0, billingService.calculateTotal(roomType.getRoomType(), 3)
+                .compareTo(roomType.getQuote().getGrandTotal()));
+            assertEquals(3, roomType.getQuote().getNumberOfNights());
+        }
+        AvailabilityService.RoomTypeAvailability deluxe = availability.getRoomTypes().get(3);
+        assertFalse(deluxe.isAvailable());
+        assertEquals(0, deluxe.getRoomsLeft());
+        assertEquals(List.of(true, false, true),
+            deluxe.getNights().stream().map(AvailabilityService.NightAvailability::isAvailable).toList());
+        AvailabilityService.RoomTypeAvailability suite = availability.getRoomTypes().get(2);
+        assertTrue(suite.isAvailable());
+        assertEquals(suite.getRooms(), suite.getRoomsLeft());
+
+        assertNotNull(reservationService.create(newReservation("SUITE", from, 3)).getId());
+        assertThrows(IllegalArgumentException.class, () -> reservationService.create(newReservation("DELUXE", from, 3)));
+        assertThrows(IllegalArgumentException.class, () -> availabilityService.search(to, from, 2));
+        assertThrows(IllegalArgumentException.class, () -> availabilityService.search(from, from.plusDays(400), 2));
+        assertThrows(IllegalArgumentException.class, () -> availabilityService.search(from, to, 0));
+    }
+}
@@ -0,0 +1,105 @@
+package com.oceanview.reservation.service;
+
+import com.oceanview.reservation.model.Reservation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Unit tests for the versioned bill cache
+@DisplayName("BillCache Unit Tests")
+public class BillCacheTest {
+
+    private static final LocalDateTime V1 = LocalDateTime.of(2026, 5, 1, 10, 0);
+    private static final LocalDateTime V2 = V1.plusMinutes(5);
+
+    private BillCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new BillCache(3);
+    }
+
+    // UT-028: Hits and misses are counted; least recently used bills are evicted first
+    @Test
+    @DisplayName("UT-028: LRU eviction and hit/miss counters")
+    void testEvictionAndCounters() {
+        for (long id = 1; id <= 3; id++) {
+            cache.put(reservation(id, V1), bill(id));
+        }
+        assertNotNull(cache.get(1L));
+        cache.put(reservation(4L, V1), bill(4L));
+
+        assertNull(cache.get(2L));
+        assertNotNull(cache.get(1L));
+        assertNotNull(cache.get(4L));
+
+        BillCache.Stats stats = cache.stats();
+        assertEquals(3, stats.getSize());
+        assertEquals(3, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(1, stats.getEvictions());
+        assertEquals(75.0, stats.getHitRate());
+    }
+
+    // UT-029: A change invalidates the bill, and a bill calculated from the old version cannot replace it
+    @Test
+    @DisplayName("UT-029: Changes invalidate and stale bills are rejected")
+    void testChangeInvalidates() {
+        Reservation before = reservation(1L, V1);
+        cache.put(before, bill(1L));
+
+        cache.onReservationChanged(new ReservationChangedEvent(1L, before, reservation(1L, V2)));
+        assertNull(cache.get(1L));
+
+        // A request that read the reservation before the update committed
+        cache.put(before, bill(1L));
+        assertNull(cache.get(1L));
+
+        // Reloaded from the database (microsecond precision) after the update
+        BillingService.BillDetails current = bill(1L);
+        cache.put(reservation(1L, V2), current);
+        assertSame(current, cache.get(1L));
+    }
+
+    // UT-030: Deleted reservations are never cached again
+    @Test
+    @DisplayName("UT-030: Deleted reservations stay uncached")
+    void testDeleteInvalidates() {
+        Reservation reservation = reservation(1L, V1);
+        cache.put(reservation, bill(1L));
+
+        cache.onReservationChanged(new ReservationChangedEvent(1L, reservation, null));
+        cache.put(reservation(1L, V2), bill(1L));
+
+        assertNull(cache.get(1L));
+    }
+
+    // UT-031: Versions are compared at microsecond precision, like the stored updated_at column
+    @Test
+    @DisplayName("UT-031: Version compares at database precision")
+    void testVersionPrecision() {
+        LocalDateTime saved = V1.plusNanos(123_456_789);
+        cache.onReservationChanged(new ReservationChangedEvent(1L, null, reservation(1L, saved)));
+
+        cache.put(reservation(1L, V1.plusNanos(123_456_000)), bill(1L));
+
+        assertNotNull(cache.get(1L));
+    }
+
+    private static Reservation reservation(Long id, LocalDateTime updatedAt) {
+        Reservation reservation = new Reservation();
+        reservation.setId(id);
+        reservation.setUpdatedAt(updatedAt);
+        return reservation;
+    }
+
+    private static BillingService.BillDetails bill(Long id) {
+        BillingService.BillDetails bill = new BillingService.BillDetails();
+        bill.setReservationId(id);
+        return bill;
+    }
+}
@@ -0,0 +1,172 @@
+package com.oceanview.reservation.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oceanview.reservation.model.Reservation;
+import com.oceanview.reservation.repository.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Checks batch billing results against bills calculated one reservation at a time
+@SpringBootTest
+@Transactional
+@DisplayName("BillingBatchService Integration Tests")
+public class BillingBatchServiceTest {
+
+    private static final LocalDate BASE = LocalDate.of(2041, 1, 1);
+    private static final String[] ROOM_TYPES = {"SINGLE", "DOUBLE", "SUITE", "DELUXE"};
+
+    @Autowired
+    private BillingBatchService billingBatchService;
+
+    @Autowired
+    private BillingService billingService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final List<Reservation> saved = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(3);
+        for (int i = 0; i < 600; i++) {
+            LocalDate checkIn = BASE.plusDays(random.nextInt(60));
+            saved.add(reservationRepository.save(reservation(i, ROOM_TYPES[random.nextInt(ROOM_TYPES.length)],
+                checkIn, checkIn.plusDays(1 + random.nextInt(10)))));
+        }
+    }
+
+    // IT-015: IDs are billed in request order, duplicates once, unknown IDs as error entries
+    @Test
+    @DisplayName("IT-015: Batch by IDs keeps request order and reports missing IDs")
+    void testBatchByIds() throws Exception {
+        List<Long> ids = new ArrayList<>(saved.stream().limit(50).map(Reservation::getId).toList());
+        Collections.reverse(ids);
+        ids.add(5, -1L);
+        ids.add(ids.get(0));
+
+        JsonNode result = run(ids, null, null);
+
+        assertEquals(51, result.size());
+        int position = 0;
+        for (Long id : ids.subList(0, 51)) {
+            JsonNode entry = result.get(position++);
+            assertEquals(id.longValue(), entry.get("reservationId").asLong());
+            if (id == -1L) {
+                assertEquals("Reservation not found with ID: -1", entry.get("error").asText());
+                assertFalse(entry.has("bill"));
+            } else {
+                Reservation reservation = saved.stream().filter(r -> r.getId().equals(id)).findFirst().orElseThrow();
+                assertEquals(0, billingService.calculate(reservation).getGrandTotal()
+                    .compareTo(entry.get("bill").get("grandTotal").decimalValue()));
+                assertFalse(entry.has("error"));
+            }
+        }
+    }
+
+    // IT-016: A date range bills every check-in across chunks; a bad row fails only its own entry
+    @Test
+    @DisplayName("IT-016: Batch by date range bills every reservation, errors per entry")
+    void testBatchByDateRange() throws Exception {
+        // The id comes from the pooled generator's table so it cannot collide with one Hibernate hands out
+        Long badId = jdbcTemplate.queryForObject(
+            "SELECT next_val FROM id_generator WHERE sequence_name = 'reservation' FOR UPDATE", Long.class) + 1;
+        jdbcTemplate.update("UPDATE id_generator SET next_val = ? WHERE sequence_name = 'reservation'", badId);
+        jdbcTemplate.update("INSERT INTO reservation (id, guest_full_name, address, contact_number, email, room_type, "
+            + "check_in, check_out, number_of_guests, status, created_at) VALUES (?, 'Zero Nights', '1 Batch Lane', "
+            + "'0770000000', 'zero@example.com', 'SINGLE', ?, ?, 1, 'PENDING', CURRENT_TIMESTAMP)", badId, BASE, BASE);
+
+        JsonNode result = run(null, BASE, BASE.plusDays(59));
+
+        assertEquals(saved.size() + 1, result.size());
+        BigDecimal expected = saved.stream()
+            .map(r -> billingService.calculate(r).getGrandTotal())
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal actual = BigDecimal.ZERO;
+        long previousId = Long.MIN_VALUE;
+        for (JsonNode entry : result) {
+            long id = entry.get("reservationId").asLong();
+            assertTrue(id > previousId, "entries are in id order");
+            previousId = id;
+            if (id == badId) {
+                assertEquals("Check-out date must be after check-in date", entry.get("error").asText());
+            } else {
+                actual = actual.add(entry.get("bill").get("grandTotal").decimalValue());
+            }
+        }
+        assertEquals(0, expected.compareTo(actual));
+    }
+
+    // UT-024: Requests must name either IDs or a complete date range
+    @Test
+    @DisplayName("UT-024: Invalid batch requests are rejected before streaming")
+    void testValidation() {
+        assertThrows(IllegalArgumentException.class, () -> billingBatchService.validate(null));
+        assertThrows(IllegalArgumentException.class, () -> billingBatchService.validate(request(null, null, null)));
+        assertThrows(IllegalArgumentException.class, () -> billingBatchService.validate(request(List.of(), null, null)));
+        assertThrows(IllegalArgumentException.class,
+            () -> billingBatchService.validate(request(List.of(1L), BASE, BASE.plusDays(1))));
+        assertThrows(IllegalArgumentException.class, () -> billingBatchService.validate(request(null, BASE, null)));
+        assertThrows(IllegalArgumentException.class,
+            () -> billingBatchService.validate(request(null, BASE.plusDays(1), BASE)));
+        List<Long> tooMany = new ArrayList<>();
+        for (long id = 1; id <= BillingBatchService.MAX_IDS + 1; id++) {
+            tooMany.add(id);
+        }
+        assertThrows(IllegalArgumentException.class, () -> billingBatchService.validate(request(tooMany, null, null)));
+        assertDoesNotThrow(() -> billingBatchService.validate(request(null, BASE, BASE)));
+    }
+
+    private JsonNode run(List<Long> ids, LocalDate from, LocalDate to) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long entries = billingBatchService.write(request(ids, from, to), out);
+        JsonNode result = objectMapper.readTree(out.toByteArray());
+        assertTrue(result.isArray());
+        assertEquals(entries, result.size());
+        return result;
+    }
+
+    private static BillingBatchService.BatchRequest request(List<Long> ids, LocalDate from, LocalDate to) {
+        BillingBatchService.BatchRequest request = new BillingBatchService.BatchRequest();
+        request.setIds(ids);
+        request.setFrom(from);
+        request.setTo(to);
+        return request;
+    }
+
+    private static Reservation reservation(int i, String roomType, LocalDate checkIn, LocalDate checkOut) {
+        Reservation reservation = new Reservation();
+        reservation.setGuestFullName("Batch Guest " + i);
+        reservation.setAddress("1 Batch Lane");
+        reservation.setContactNumber("+9476" + String.format("%07d", i));
+        reservation.setEmail("batch" + i + "@example.com");
+        reservation.setRoomType(roomType);
+        reservation.setCheckIn(checkIn);
+        reservation.setCheckOut(checkOut);
+        reservation.setNumberOfGuests(1);
+        reservation.setStatus("CONFIRMED");
+        return reservation;
+    }
+}
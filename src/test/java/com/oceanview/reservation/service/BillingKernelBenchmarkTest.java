@@ -0,0 +1,97 @@
+package com.oceanview.reservation.service;
+
+import com.oceanview.reservation.model.Reservation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Compares bulk repricing through BillingService.calculate (BigDecimal) with BillingKernel (long cents)
+// for time and heap allocation per bill (run with -Pbenchmark)
+@Tag("benchmark")
+@DisplayName("BillingKernel Benchmark")
+public class BillingKernelBenchmarkTest {
+
+    private static final int STAYS = 100_000;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 20;
+    private static final String[] ROOM_TYPES = {"SINGLE", "DOUBLE", "SUITE", "DELUXE"};
+
+    // BM-002: The kernel reprices without allocating and faster than the BigDecimal path
+    @Test
+    @DisplayName("BM-002: Fixed-point billing vs BigDecimal billing")
+    void benchmarkRepricing() {
+        BillingService billingService = new BillingService();
+        Random random = new Random(2026);
+        LocalDate base = LocalDate.of(2026, 1, 1);
+        Reservation[] reservations = new Reservation[STAYS];
+        String[] roomTypes = new String[STAYS];
+        long[] nights = new long[STAYS];
+        for (int i = 0; i < STAYS; i++) {
+            roomTypes[i] = ROOM_TYPES[random.nextInt(ROOM_TYPES.length)];
+            nights[i] = 1 + random.nextInt(21);
+            Reservation reservation = new Reservation();
+            reservation.setId((long) i);
+            reservation.setRoomType(roomTypes[i]);
+            reservation.setCheckIn(base.plusDays(random.nextInt(365)));
+            reservation.setCheckOut(reservation.getCheckIn().plusDays(nights[i]));
+            reservations[i] = reservation;
+        }
+
+        LongSupplier bigDecimal = () -> {
+            long checksum = 0;
+            for (Reservation reservation : reservations) {
+                checksum += billingService.calculate(reservation).getGrandTotal().unscaledValue().longValue();
+            }
+            return checksum;
+        };
+        LongSupplier kernel = () -> {
+            long checksum = 0;
+            for (int i = 0; i < STAYS; i++) {
+                checksum += billingService.calculateTotalCents(roomTypes[i], nights[i]);
+            }
+            return checksum;
+        };
+
+        assertEquals(bigDecimal.getAsLong(), kernel.getAsLong());
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            bigDecimal.getAsLong();
+            kernel.getAsLong();
+        }
+
+        double[] bigDecimalResult = measure("BigDecimal", bigDecimal);
+        double[] kernelResult = measure("long cents", kernel);
+        System.out.printf("  speed-up %.1fx%n", bigDecimalResult[0] / kernelResult[0]);
+
+        assertTrue(kernelResult[1] < 1, "kernel allocated " + kernelResult[1] + " bytes per bill");
+        assertTrue(kernelResult[0] < bigDecimalResult[0], "kernel " + kernelResult[0] + " ns vs " + bigDecimalResult[0] + " ns");
+    }
+
+    // Print and return the best time and the mean allocation per bill, in ns and bytes
+    private static double[] measure(String label, LongSupplier run) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        long bestNanos = Long.MAX_VALUE;
+        long allocated = 0;
+        long sink = 0;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            long bytesBefore = threads.getThreadAllocatedBytes(thread);
+            long start = System.nanoTime();
+            sink += run.getAsLong();
+            long elapsed = System.nanoTime() - start;
+            allocated += threads.getThreadAllocatedBytes(thread) - bytesBefore;
+            bestNanos = Math.min(bestNanos, elapsed);
+        }
+        double nanosPerBill = (double) bestNanos / STAYS;
+        double bytesPerBill = (double) allocated / MEASURED_ROUNDS / STAYS;
+        System.out.printf("  %-10s %d bills: %7.1f ns/bill, %7.1f bytes/bill (checksum %d)%n",
+            label, STAYS, nanosPerBill, bytesPerBill, sink);
+        return new double[]{nanosPerBill, bytesPerBill};
+    }
+}
@@ -0,0 +1,112 @@
+package com.oceanview.reservation.service;
+
+import com.oceanview.reservation.model.Reservation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Property tests: the fixed-point kernel must agree with the BigDecimal billing path on every input
+@DisplayName("BillingKernel Unit Tests")
+public class BillingKernelTest {
+
+    private static final String[] ROOM_TYPES = {"SINGLE", "DOUBLE", "SUITE", "DELUXE", "suite", "Deluxe"};
+    private static final LocalDate CHECK_IN = LocalDate.of(2026, 1, 1);
+
+    private BillingService billingService;
+
+    @BeforeEach
+    void setUp() {
+        billingService = new BillingService();
+    }
+
+    // UT-025: Every line of the bill matches BillDetails for all room types and stay lengths
+    @Test
+    @DisplayName("UT-025: Kernel matches BillDetails for real rates")
+    void testMatchesBillDetails() {
+        Random random = new Random(10);
+        for (String roomType : ROOM_TYPES) {
+            for (int i = 0; i < 600; i++) {
+                // Every stay up to 400 nights, then random long stays
+                long nights = i < 400 ? i + 1 : 1 + random.nextInt(200_000);
+                assertMatchesBill(roomType, nights);
+            }
+        }
+    }
+
+    // UT-026: HALF_UP rounding agrees with BigDecimal for arbitrary rates, charges and signs
+    @Test
+    @DisplayName("UT-026: Kernel rounding matches BigDecimal HALF_UP")
+    void testRoundingMatchesBigDecimal() {
+        Random random = new Random(26);
+        for (int i = 0; i < 200_000; i++) {
+            long rateCents = 1 + random.nextInt(1_000_000_000);
+            long nights = 1 + random.nextInt(10_000);
+            long service = random.nextInt((int) BillingKernel.WHOLE + 1);
+            long tax = random.nextInt((int) BillingKernel.WHOLE + 1);
+
+            BigDecimal subtotal = BigDecimal.valueOf(rateCents, 2).multiply(BigDecimal.valueOf(nights)).setScale(2, RoundingMode.HALF_UP);
+            BigDecimal serviceCharge = subtotal.multiply(BigDecimal.valueOf(service, 4)).setScale(2, RoundingMode.HALF_UP);
+            BigDecimal taxCharge = subtotal.multiply(BigDecimal.valueOf(tax, 4)).setScale(2, RoundingMode.HALF_UP);
+
+            long subtotalCents = BillingKernel.roomSubtotalCents(rateCents, nights);
+            assertEquals(subtotal, BigDecimal.valueOf(subtotalCents, 2));
+            assertEquals(serviceCharge, BigDecimal.valueOf(BillingKernel.chargeCents(subtotalCents, service), 2));
+            assertEquals(subtotal.add(serviceCharge).add(taxCharge),
+                BigDecimal.valueOf(BillingKernel.grandTotalCents(rateCents, nights, service, tax), 2));
+        }
+        for (int i = 0; i < 200_000; i++) {
+            long numerator = random.nextLong() >> random.nextInt(63);
+            long denominator = 1 + (random.nextLong() >>> 1) % (1L << random.nextInt(62));
+            assertEquals(BigDecimal.valueOf(numerator).divide(BigDecimal.valueOf(denominator), 0, RoundingMode.HALF_UP).longValueExact(),
+                BillingKernel.divideHalfUp(numerator, denominator), numerator + " / " + denominator);
+        }
+        assertEquals(3, BillingKernel.divideHalfUp(5, 2));
+        assertEquals(-3, BillingKernel.divideHalfUp(-5, 2));
+        assertEquals(2, BillingKernel.divideHalfUp(249, 100));
+        assertEquals(Long.MAX_VALUE, BillingKernel.divideHalfUp(Long.MAX_VALUE, 1));
+    }
+
+    // UT-027: Totals too large for long cents fail fast in the kernel and fall back to BigDecimal in the service
+    @Test
+    @DisplayName("UT-027: Overflow falls back to BigDecimal")
+    void testOverflowFallsBack() {
+        long nights = Long.MAX_VALUE / 1_000_000;
+        assertThrows(ArithmeticException.class, () -> billingService.calculateTotalCents("DELUXE", nights));
+
+        BigDecimal subtotal = new BigDecimal("120000.00").multiply(BigDecimal.valueOf(nights));
+        BigDecimal expected = subtotal
+            .add(subtotal.multiply(new BigDecimal("0.05")).setScale(2, RoundingMode.HALF_UP))
+            .add(subtotal.multiply(new BigDecimal("0.08")).setScale(2, RoundingMode.HALF_UP));
+        assertEquals(expected, billingService.calculateTotal("DELUXE", nights));
+
+        assertThrows(IllegalArgumentException.class, () -> billingService.calculateTotalCents("DOUBLE", 0));
+        assertThrows(IllegalArgumentException.class, () -> billingService.calculateTotalCents("PENTHOUSE", 1));
+        assertThrows(IllegalArgumentException.class, () -> billingService.calculateTotalCents(null, 1));
+    }
+
+    private void assertMatchesBill(String roomType, long nights) {
+        Reservation reservation = new Reservation();
+        reservation.setId(nights);
+        reservation.setRoomType(roomType);
+        reservation.setCheckIn(CHECK_IN);
+        reservation.setCheckOut(CHECK_IN.plusDays(nights));
+        BillingService.BillDetails bill = billingService.calculate(reservation);
+
+        long rate = billingService.getRoomRateCents(roomType);
+        long subtotal = BillingKernel.roomSubtotalCents(rate, nights);
+        assertEquals(bill.getRoomRatePerNight(), BigDecimal.valueOf(rate, 2));
+        assertEquals(bill.getRoomSubtotal(), BigDecimal.valueOf(subtotal, 2));
+        assertEquals(bill.getServiceCharge(),
+            BigDecimal.valueOf(BillingKernel.chargeCents(subtotal, billingService.getServiceChargeBasisPoints()), 2));
+        assertEquals(bill.getTax(), BigDecimal.valueOf(BillingKernel.chargeCents(subtotal, billingService.getTaxBasisPoints()), 2));
+        assertEquals(bill.getGrandTotal(), BigDecimal.valueOf(billingService.calculateTotalCents(roomType, nights), 2));
+        assertEquals(bill.getGrandTotal(), billingService.calculateTotal(roomType, nights));
+    }
+}
@@ -0,0 +1,124 @@
+package com.oceanview.reservation.service;
+
+import com.oceanview.reservation.model.Reservation;
+import com.oceanview.reservation.repository.ReservationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.oceanview.reservation.TestReservations.newReservation;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Fires parallel bookings through ReservationService and checks no night got more bookings than rooms.
+// The throughput run with thousands of bookings is tagged load and only runs with -Pload.
+@SpringBootTest
+@DisplayName("Booking Concurrency Tests")
+public class BookingConcurrencyTest {
+
+    private static final String[] ROOM_TYPES = {"SINGLE", "DOUBLE", "SUITE", "DELUXE"};
+    private static final int THREADS = 32;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private RoomInventory roomInventory;
+
+    // CT-001: Concurrent bookings for the last rooms of a night never both succeed
+    @Test
+    @DisplayName("CT-001: Parallel bookings never overbook a room type")
+    void testParallelBookingsNeverDoubleBook() throws Exception {
+        // A few nights, so every room type sells out
+        book(LocalDate.of(2031, 1, 1), 5, 200);
+        assertNoOverbooking();
+    }
+
+    // LT-003: Booking throughput with thousands of competing bookings (run with -Pload)
+    @Test
+    @Tag("load")
+    @DisplayName("LT-003: Parallel booking throughput")
+    void testParallelBookingThroughput() throws Exception {
+        long startedAt = System.nanoTime();
+        int booked = book(LocalDate.of(2032, 1, 1), 60, 4000);
+        double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+        System.out.printf(Locale.ROOT, "LT-003: %d attempts on %d threads in %.2fs (%.0f bookings/sec) - %d booked%n",
+            4000, THREADS, seconds, 4000 / seconds, booked);
+        assertNoOverbooking();
+    }
+
+    // Submits the bookings (one to four nights, starting in the first days from firstNight) all at once and
+    // returns how many succeeded; the rest must have been rejected as full
+    private int book(LocalDate firstNight, int days, int bookings) throws Exception {
+        Random random = new Random(7);
+        List<Reservation> requests = new ArrayList<>();
+        for (int i = 0; i < bookings; i++) {
+            LocalDate checkIn = firstNight.plusDays(random.nextInt(days));
+            requests.add(newReservation(ROOM_TYPES[random.nextInt(ROOM_TYPES.length)],
+                checkIn, checkIn.plusDays(1 + random.nextInt(4)), "CONFIRMED"));
+        }
+
+        AtomicInteger booked = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (Reservation request : requests) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    reservationService.create(request);
+                    booked.incrementAndGet();
+                } catch (IllegalArgumentException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        assertEquals(bookings, booked.get() + rejected.get());
+        assertTrue(booked.get() > 0, "Some bookings should succeed");
+        assertTrue(rejected.get() > 0, "The workload should contain conflicting bookings");
+        return booked.get();
+    }
+
+    // Within each room type, no night may hold more active stays than there are rooms
+    private void assertNoOverbooking() {
+        Map<String, Map<LocalDate, Integer>> byRoomType = new HashMap<>();
+        for (Reservation stay : reservationRepository.findByStatusIn(RoomOccupancyIndex.ACTIVE_STATUSES)) {
+            Map<LocalDate, Integer> nights = byRoomType.computeIfAbsent(stay.getRoomType(), type -> new HashMap<>());
+            stay.getCheckIn().datesUntil(stay.getCheckOut()).forEach(night -> nights.merge(night, 1, Integer::sum));
+        }
+
+        byRoomType.forEach((roomType, nights) -> {
+            int rooms = roomInventory.roomCount(roomType);
+            nights.forEach((night, booked) ->
+                assertTrue(booked <= rooms, "Overbooked " + roomType + " on " + night + ": " + booked + " of " + rooms));
+        });
+    }
+}
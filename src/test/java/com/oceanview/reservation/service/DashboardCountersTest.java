@@ -0,0 +1,101 @@
+package com.oceanview.reservation.service;
+
+import com.oceanview.reservation.model.Reservation;
+import com.oceanview.reservation.repository.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+// Unit tests for the incrementally maintained dashboard counters
+@DisplayName("DashboardCounters Unit Tests")
+public class DashboardCountersTest {
+
+    private final LocalDate today = LocalDate.now();
+
+    private ReservationRepository reservationRepository;
+    private DashboardCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository = mock(ReservationRepository.class);
+        counters = new DashboardCounters(reservationRepository);
+    }
+
+    // UT-016: Rebuild takes status totals from the grouped count and dates from current stays
+    @Test
+    @DisplayName("UT-016: Rebuild loads counts from the repository")
+    void testRebuildFromRepository() {
+        when(reservationRepository.countGroupedByStatus()).thenReturn(List.of(
+            new Object[]{"CONFIRMED", 5L},
+            new Object[]{"CANCELLED", 2L}
+        ));
+        when(reservationRepository.streamByCheckOutAfter(any())).thenReturn(Stream.of(
+            reservation(1L, "DOUBLE", today.minusDays(2), today.plusDays(1), "CONFIRMED"),
+            reservation(2L, "SUITE", today, today.plusDays(3), "CONFIRMED"),
+            reservation(3L, "SUITE", today, today.plusDays(2), "CANCELLED")
+        ));
+
+        counters.rebuild();
+        DashboardCounters.Summary summary = counters.summary(today);
+
+        assertEquals(7, summary.getTotalReservations());
+        assertEquals(5, summary.getStatusCounts().get("CONFIRMED"));
+        assertEquals(2, summary.getStatusCounts().get("CANCELLED"));
+        assertEquals(2, summary.getCheckIns());
+        assertEquals(1, summary.getOccupiedByRoomType().get("DOUBLE"));
+        assertEquals(1, summary.getOccupiedByRoomType().get("SUITE"));
+        assertEquals(0, summary.getOccupiedByRoomType().get("SINGLE"));
+        assertEquals(0, counters.summary(today.plusDays(1)).getOccupiedByRoomType().get("DOUBLE"));
+    }
+
+    // UT-017: Create, status change, move and delete each adjust the counters
+    @Test
+    @DisplayName("UT-017: Counters follow reservation changes")
+    void testCountersFollowChanges() {
+        Reservation pending = reservation(1L, "DOUBLE", today, today.plusDays(2), "PENDING");
+        counters.onReservationChanged(new ReservationChangedEvent(1L, null, pending));
+
+        DashboardCounters.Summary summary = counters.summary(today);
+        assertEquals(1, summary.getTotalReservations());
+        assertEquals(1, summary.getStatusCounts().get("PENDING"));
+        assertEquals(1, summary.getCheckIns());
+        assertEquals(1, summary.getOccupiedByRoomType().get("DOUBLE"));
+
+        Reservation cancelled = reservation(1L, "DOUBLE", today, today.plusDays(2), "CANCELLED");
+        counters.onReservationChanged(new ReservationChangedEvent(1L, pending, cancelled));
+        summary = counters.summary(today);
+        assertEquals(0, summary.getStatusCounts().get("PENDING"));
+        assertEquals(1, summary.getStatusCounts().get("CANCELLED"));
+        assertEquals(0, summary.getOccupiedByRoomType().get("DOUBLE"));
+
+        Reservation moved = reservation(1L, "SUITE", today.plusDays(1), today.plusDays(3), "CONFIRMED");
+        counters.onReservationChanged(new ReservationChangedEvent(1L, cancelled, moved));
+        assertEquals(0, counters.summary(today).getCheckIns());
+        assertEquals(1, counters.summary(today.plusDays(1)).getCheckIns());
+        assertEquals(1, counters.summary(today.plusDays(2)).getOccupiedByRoomType().get("SUITE"));
+
+        counters.onReservationChanged(new ReservationChangedEvent(1L, moved, null));
+        summary = counters.summary(today.plusDays(2));
+        assertEquals(0, summary.getTotalReservations());
+        assertEquals(0, summary.getStatusCounts().get("CONFIRMED"));
+        assertEquals(0, summary.getOccupiedByRoomType().get("SUITE"));
+    }
+
+    private static Reservation reservation(Long id, String roomType, LocalDate checkIn, LocalDate checkOut, String status) {
+        Reservation reservation = new Reservation();
+        reservation.setId(id);
+        reservation.setRoomType(roomType);
+        reservation.setCheckIn(checkIn);
+        reservation.setCheckOut(checkOut);
+        reservation.setStatus(status);
+        return reservation;
+    }
+}
@@ -0,0 +1,131 @@
+package com.oceanview.reservation.service;
+
+import com.oceanview.reservation.model.Reservation;
+import com.oceanview.reservation.repository.ReservationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+// Measures guest search lookups against an index of one million reservations (run with -Pbenchmark)
+@Tag("benchmark")
+@DisplayName("GuestSearchIndex Benchmark")
+public class GuestSearchIndexBenchmarkTest {
+
+    private static final int RESERVATIONS = 1_000_000;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 200;
+
+    private static final String[] SYLLABLES = {
+        "ka", "ri", "na", "ma", "sa", "lo", "be", "ta", "vi", "de", "ru", "mi", "ko", "ya", "shi",
+        "an", "el", "or", "us", "in", "pe", "ra", "si", "lva", "fer", "nan", "do", "jo", "han", "son"
+    };
+
+    // BM-001: Ranked lookups over name, email and phone fragments stay under a millisecond at 1M reservations
+    @Test
+    @DisplayName("BM-001: Sub-millisecond guest search at 1M reservations")
+    void benchmarkSearch() {
+        Random random = new Random(2026);
+        GuestSearchIndex index = new GuestSearchIndex(mock(ReservationRepository.class));
+        List<Reservation> sample = new ArrayList<>();
+        LocalDateTime created = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+        long buildStart = System.nanoTime();
+        Reservation reservation = new Reservation();
+        for (long id = 1; id <= RESERVATIONS; id++) {
+            String first = word(random, 2);
+            String last = word(random, 3);
+            reservation.setId(id);
+            reservation.setGuestFullName(capitalize(first) + " " + capitalize(last));
+            reservation.setEmail(first + "." + last + (id % 100) + "@example.com");
+            reservation.setContactNumber("+94 7" + random.nextInt(10) + " " + (1_000_000 + random.nextInt(9_000_000)));
+            reservation.setCreatedAt(created.plusSeconds(id));
+            index.put(reservation);
+            if (id % 5_000 == 0) {
+                Reservation copy = new Reservation();
+                copy.setGuestFullName(reservation.getGuestFullName());
+                copy.setEmail(reservation.getEmail());
+                copy.setContactNumber(reservation.getContactNumber());
+                sample.add(copy);
+            }
+        }
+        long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+
+        // Typical search-box input: a full name, a surname, an email fragment, phone digits
+        String[] kinds = {"full name", "surname", "email", "phone"};
+        List<List<String>> queries = new ArrayList<>();
+        for (String kind : kinds) {
+            queries.add(new ArrayList<>());
+        }
+        for (Reservation guest : sample) {
+            String name = guest.getGuestFullName().toLowerCase();
+            String phone = guest.getContactNumber();
+            queries.get(0).add(name);
+            queries.get(1).add(name.substring(name.indexOf(' ') + 1));
+            queries.get(2).add(guest.getEmail().substring(0, guest.getEmail().indexOf('@')));
+            queries.get(3).add(phone.substring(phone.length() - 6));
+        }
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            queries.forEach(kind -> kind.forEach(query -> index.search(query, 10)));
+        }
+
+        System.out.printf("Guest search index: %d reservations indexed in %d ms%n", index.size(), buildMillis);
+        long[] all = new long[kinds.length * sample.size() * MEASURED_ROUNDS];
+        int n = 0;
+        int empty = 0;
+        for (int kind = 0; kind < kinds.length; kind++) {
+            long[] nanos = new long[sample.size() * MEASURED_ROUNDS];
+            int k = 0;
+            for (int round = 0; round < MEASURED_ROUNDS; round++) {
+                for (String query : queries.get(kind)) {
+                    long start = System.nanoTime();
+                    List<Long> result = index.search(query, 10);
+                    nanos[k++] = System.nanoTime() - start;
+                    if (result.isEmpty()) {
+                        empty++;
+                    }
+                }
+            }
+            System.arraycopy(nanos, 0, all, n, k);
+            n += k;
+            report(kinds[kind], nanos);
+        }
+        double[] overall = report("all", all);
+
+        assertEquals(RESERVATIONS, index.size());
+        assertEquals(0, empty);
+        assertTrue(overall[0] < 1000, "median lookup " + overall[0] + " us");
+        assertTrue(overall[1] < 1000, "p99 lookup " + overall[1] + " us");
+    }
+
+    // Print and return the p50 and p99 of a set of timings, in microseconds
+    private static double[] report(String label, long[] nanos) {
+        Arrays.sort(nanos);
+        double p50 = nanos[nanos.length / 2] / 1000.0;
+        double p99 = nanos[(int) (nanos.length * 0.99)] / 1000.0;
+        double max = nanos[nanos.length - 1] / 1000.0;
+        System.out.printf("  %-10s %7d lookups: p50 %7.1f us, p99 %7.1f us, max %8.1f us%n", label, nanos.length, p50, p99, max);
+        return new double[]{p50, p99};
+    }
+
+    private static String word(Random random, int syllables) {
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < syllables; i++) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        return word.toString();
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+}
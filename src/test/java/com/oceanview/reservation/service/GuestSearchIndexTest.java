@@ -0,0 +1,178 @@
+package com.oceanview.reservation.service;
+
+import com.oceanview.reservation.model.Reservation;
+import com.oceanview.reservation.repository.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+// Unit tests for the in-memory guest search index
+@DisplayName("GuestSearchIndex Unit Tests")
+public class GuestSearchIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    private GuestSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new GuestSearchIndex(mock(ReservationRepository.class));
+    }
+
+    // UT-018: Substrings match across name, email and contact number, ignoring case, accents and phone formatting
+    @Test
+    @DisplayName("UT-018: Substring search across all guest fields")
+    void testSubstringAcrossFields() {
+        index.put(guest(1L, "José Pérez", "jose.p@mail.com", "+94 77 123 4567", 1));
+        index.put(guest(2L, "Anna Smith", "anna@ocean.lk", "0711234000", 2));
+
+        assertEquals(List.of(1L), index.search("PEREZ", 10));
+        assertEquals(List.of(2L), index.search("ocean", 10));
+        assertEquals(List.of(1L), index.search("77-123", 10));
+        assertEquals(List.of(2L, 1L), index.search("1234", 10));
+        assertEquals(List.of(), index.search("zzz", 10));
+        assertEquals(List.of(), index.search("   ", 10));
+    }
+
+    // UT-019: Exact field beats field prefix, whole word, word prefix and substring, in that order
+    @Test
+    @DisplayName("UT-019: Matches are ranked by match quality")
+    void testRanking() {
+        index.put(guest(1L, "Rosanna Wells", "r.wells@mail.com", "0770000001", 1));
+        index.put(guest(2L, "Mary Ann", "mary@mail.com", "0770000002", 2));
+        index.put(guest(3L, "Ann", "a@mail.com", "0770000003", 3));
+        index.put(guest(4L, "Annabel Lee", "lee@mail.com", "0770000004", 4));
+        index.put(guest(5L, "Bob Stone", "anna.stone@mail.com", "0770000005", 5));
+
+        index.put(guest(6L, "Lee Annika", "lee.a@mail.com", "0770000006", 6));
+
+        assertEquals(List.of(3L, 4L, 5L, 2L, 6L, 1L), index.search("ann", 10));
+        assertEquals(List.of(3L, 4L), index.search("ann", 2));
+    }
+
+    // UT-020: One- and two-character queries only match the start of a word
+    @Test
+    @DisplayName("UT-020: Short queries match word prefixes")
+    void testShortQueriesMatchWordPrefixes() {
+        index.put(guest(1L, "Kim Lo", "kim@mail.com", "0770000001", 1));
+        index.put(guest(2L, "Ola Kim", "ola@mail.com", "0770000002", 2));
+        index.put(guest(3L, "Mikael", "mk@mail.com", "0770000003", 3));
+
+        assertEquals(List.of(1L, 2L), index.search("ki", 10));
+        assertEquals(List.of(2L), index.search("o", 10));
+        assertEquals(List.of(1L, 2L, 3L), index.search("07", 10).stream().sorted().toList());
+    }
+
+    // UT-021: Updates and deletes replace or drop the old entry, including across a compaction
+    @Test
+    @DisplayName("UT-021: Index follows updates and deletes")
+    void testUpdatesAndDeletes() {
+        index.put(guest(1L, "Old Name", "old@mail.com", "0770000001", 1));
+        index.put(guest(1L, "New Name", "new@mail.com", "0770000001", 1));
+        assertEquals(List.of(), index.search("old", 10));
+        assertEquals(List.of(1L), index.search("new", 10));
+
+        index.remove(1L);
+        assertEquals(List.of(), index.search("new", 10));
+        assertEquals(0, index.size());
+
+        for (int round = 0; round < 3; round++) {
+            for (long id = 1; id <= 10_000; id++) {
+                index.put(guest(id, "Guest" + id + " Round" + round, "g" + id + "@mail.com", "0770000000", (int) id));
+            }
+        }
+        assertEquals(10_000, index.size());
+        assertEquals(List.of(4242L), index.search("guest4242 round2", 10));
+        assertEquals(List.of(), index.search("round1", 10));
+    }
+
+    // UT-022: Listing matches come newest first and continue after a keyset position
+    @Test
+    @DisplayName("UT-022: Listing matches follow keyset order")
+    void testMatchesNewestFirst() {
+        index.put(guest(1L, "Sam One", "s1@mail.com", "0770000001", 1));
+        index.put(guest(2L, "Sam Two", "s2@mail.com", "0770000002", 3));
+        index.put(guest(3L, "Sam Three", "s3@mail.com", "0770000003", 3));
+        index.put(guest(4L, "Other", "o@mail.com", "0770000004", 4));
+
+        assertEquals(List.of(3L, 2L, 1L), index.matchesNewestFirst("sam", null, null, 10).ids());
+        assertEquals(List.of(2L, 1L), index.matchesNewestFirst("sam", BASE.plusMinutes(3), 3L, 10).ids());
+        assertEquals(List.of(1L), index.matchesNewestFirst("sam", BASE.plusMinutes(3), 2L, 10).ids());
+        assertNull(index.matchesNewestFirst(" ", null, null, 10));
+    }
+
+    // UT-043: A limited listing keeps only the newest matches and continues from its last one
+    @Test
+    @DisplayName("UT-043: Listing matches are bounded and continue in batches")
+    void testMatchesNewestFirstLimit() {
+        for (long id = 1; id <= 50; id++) {
+            index.put(guest(id, id % 2 == 0 ? "Sam Even" : "Other Odd", "g" + id + "@mail.com", "0770000000",
+                (int) (id / 3)));
+        }
+
+        List<Long> seen = new ArrayList<>();
+        IndexMatches matches = index.matchesNewestFirst("sam", null, null, 4);
+        assertEquals(List.of(50L, 48L, 46L, 44L), matches.ids());
+        assertEquals(BASE.plusMinutes(14), matches.lastCreatedAt());
+        while (!matches.ids().isEmpty()) {
+            assertTrue(matches.ids().size() <= 4);
+            seen.addAll(matches.ids());
+            matches = index.matchesNewestFirst("sam", matches.lastCreatedAt(), matches.lastId(), 4);
+        }
+        List<Long> expected = new ArrayList<>();
+        for (long id = 50; id >= 2; id -= 2) {
+            expected.add(id);
+        }
+        assertEquals(expected, seen);
+        assertEquals(List.of(), index.matchesNewestFirst("sam", BASE, 0L, 4).ids());
+    }
+
+    // UT-023: Results match a brute-force scan of the normalized fields
+    @Test
+    @DisplayName("UT-023: Search answers match a linear scan")
+    void testMatchesLinearScan() {
+        Random random = new Random(11);
+        String[] first = {"anna", "john", "maria", "kumar", "sven", "li", "noor", "ola"};
+        String[] last = {"perera", "silva", "smith", "fernando", "olsen", "wang", "de silva"};
+        Map<Long, String> documents = new HashMap<>();
+        for (long id = 1; id <= 3000; id++) {
+            String name = first[random.nextInt(first.length)] + " " + last[random.nextInt(last.length)];
+            String email = name.replace(" ", ".") + id + "@mail.com";
+            String phone = "07" + (10_000_000 + random.nextInt(89_999_999));
+            index.put(guest(id, name, email, phone, (int) id));
+            documents.put(id, name + "|" + email + "|" + phone);
+        }
+
+        for (String query : List.of("silva", "a s", "ria", "sven.o", "0771", "mail", "xyz", "de silva")) {
+            List<Long> expected = new ArrayList<>();
+            documents.forEach((id, document) -> {
+                if (document.contains(query)) {
+                    expected.add(id);
+                }
+            });
+            expected.sort(Comparator.reverseOrder());
+            assertEquals(expected, index.matchesNewestFirst(query, null, null, 3000).ids(), query);
+        }
+    }
+
+    private static Reservation guest(Long id, String name, String email, String phone, int minute) {
+        Reservation reservation = new Reservation();
+        reservation.setId(id);
+        reservation.setGuestFullName(name);
+        reservation.setEmail(email);
+        reservation.setContactNumber(phone);
+        reservation.setCreatedAt(BASE.plusMinutes(minute));
+        return reservation;
+    }
+}
@@ -0,0 +1,133 @@
+package com.oceanview.reservation.service;
+
+import com.oceanview.reservation.model.Reservation;
+import com.oceanview.reservation.repository.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Checks the grouped report queries against bills calculated one reservation at a time
+@SpringBootTest
+@Transactional
+@DisplayName("ReportService Integration Tests")
+public class ReportServiceTest {
+
+    private static final LocalDate BASE = LocalDate.of(2040, 1, 1);
+    private static final String[] ROOM_TYPES = {"SINGLE", "DOUBLE", "SUITE", "DELUXE"};
+    private static final String[] STATUSES = {"PENDING", "CONFIRMED", "CANCELLED"};
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private BillingService billingService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    private final List<Reservation> saved = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(7);
+        for (int i = 0; i < 600; i++) {
+            LocalDate checkIn = BASE.plusDays(random.nextInt(3 * 365));
+            saved.add(reservationRepository.save(reservation(i, ROOM_TYPES[random.nextInt(ROOM_TYPES.length)],
+                checkIn, checkIn.plusDays(1 + random.nextInt(14)), STATUSES[random.nextInt(STATUSES.length)])));
+        }
+    }
+
+    // IT-010: Revenue totals match BillingService bills summed per reservation, for days and months
+    @Test
+    @DisplayName("IT-010: Revenue report matches per-reservation bills")
+    void testRevenueMatchesBills() {
+        LocalDate from = BASE.plusDays(100);
+        LocalDate to = BASE.plusDays(160);
+        List<Reservation> expected = saved.stream()
+            .filter(r -> !r.getCheckIn().isBefore(from) && !r.getCheckIn().isAfter(to))
+            .filter(r -> !"CANCELLED".equals(r.getStatus()))
+            .toList();
+        BigDecimal expectedTotal = expected.stream()
+            .map(r -> billingService.calculate(r).getGrandTotal())
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal expectedSuite = expected.stream()
+            .filter(r -> "SUITE".equals(r.getRoomType()))
+            .map(r -> billingService.calculate(r).getGrandTotal())
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        ReportService.RevenueReport daily = reportService.revenue(from, to, ReportService.Granularity.DAY);
+        assertEquals(0, expectedTotal.compareTo(daily.getTotalRevenue()));
+        assertEquals(expected.size(), daily.getTotalReservations());
+        assertEquals(0, expectedSuite.compareTo(daily.getRevenueByRoomType().stream()
+            .filter(r -> "SUITE".equals(r.getRoomType())).findFirst().orElseThrow().getRevenue()));
+        assertEquals(expected.size(), daily.getRevenueByPeriod().stream()
+            .mapToLong(ReportService.PeriodRevenue::getReservationCount).sum());
+
+        ReportService.RevenueReport monthly = reportService.revenue(from, to, ReportService.Granularity.MONTH);
+        assertEquals(0, expectedTotal.compareTo(monthly.getTotalRevenue()));
+        assertTrue(monthly.getRevenueByPeriod().size() <= 3);
+        assertEquals("2040-04", monthly.getRevenueByPeriod().get(0).getPeriod());
+    }
+
+    // IT-011: Multi-year ranges default to monthly periods and include cancelled stays only in status counts
+    @Test
+    @DisplayName("IT-011: Multi-year revenue report is grouped by month")
+    void testMultiYearRangeGroupsByMonth() {
+        LocalDate to = BASE.plusYears(3);
+        ReportService.RevenueReport report = reportService.revenue(BASE, to, null);
+
+        assertEquals(ReportService.Granularity.MONTH, report.getGranularity());
+        assertTrue(report.getRevenueByPeriod().size() <= 37);
+        long cancelled = saved.stream().filter(r -> "CANCELLED".equals(r.getStatus())).count();
+        assertEquals(cancelled, report.getReservationsByStatus().get("CANCELLED"));
+        assertEquals(saved.size() - cancelled, report.getTotalReservations());
+
+        assertThrows(IllegalArgumentException.class,
+            () -> reportService.revenue(BASE, to, ReportService.Granularity.DAY));
+        assertThrows(IllegalArgumentException.class,
+            () -> reportService.revenue(to, BASE, null));
+    }
+
+    // IT-012: Occupancy counts non-cancelled stays covering the night, per room type
+    @Test
+    @DisplayName("IT-012: Occupancy report counts stays covering the night")
+    void testOccupancy() {
+        LocalDate night = BASE.plusDays(200);
+        ReportService.OccupancyReport report = reportService.occupancy(night);
+
+        for (ReportService.RoomOccupancy room : report.getRoomBreakdown()) {
+            long expected = saved.stream()
+                .filter(r -> room.getRoomType().equals(r.getRoomType()) && !"CANCELLED".equals(r.getStatus()))
+                .filter(r -> !r.getCheckIn().isAfter(night) && r.getCheckOut().isAfter(night))
+                .count();
+            assertEquals(expected, room.getOccupied(), room.getRoomType());
+        }
+        assertEquals(100, report.getTotalRooms());
+        assertEquals(report.getTotalRooms() - report.getOccupiedRooms(), report.getAvailableRooms());
+    }
+
+    private static Reservation reservation(int i, String roomType, LocalDate checkIn, LocalDate checkOut, String status) {
+        Reservation reservation = new Reservation();
+        reservation.setGuestFullName("Report Guest " + i);
+        reservation.setAddress("1 Report Lane");
+        reservation.setContactNumber("+9477" + String.format("%07d", i));
+        reservation.setEmail("report" + i + "@example.com");
+        reservation.setRoomType(roomType);
+        reservation.setCheckIn(checkIn);
+        reservation.setCheckOut(checkOut);
+        reservation.setNumberOfGuests(1);
+        reservation.setStatus(status);
+        return reservation;
+    }
+}
@@ -0,0 +1,163 @@
+package com.oceanview.reservation.service;
+
+import com.oceanview.reservation.model.Reservation;
+import com.oceanview.reservation.model.ReservationSummary;
+import com.oceanview.reservation.repository.ReservationRepository;
+import com.oceanview.reservation.repository.ReservationSpecifications;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static com.oceanview.reservation.TestReservations.newReservation;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Checks that counts and listing pages answered from the bitmap index agree with the database after writes
+@SpringBootTest
+@DisplayName("ReservationBitmapIndex Integration Tests")
+public class ReservationBitmapIndexIntegrationTest {
+
+    private static final String[] STATUSES = {"PENDING", "CONFIRMED", "CANCELLED"};
+    private static final String[] ROOM_TYPES = {"SINGLE", "DOUBLE", "SUITE", "DELUXE"};
+    private static final LocalDate FROM = LocalDate.of(2073, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2073, 12, 31);
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReservationBitmapIndex bitmapIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // IT-024: Creates, updates and deletes through ReservationService keep the index in step with the table
+    @Test
+    @DisplayName("IT-024: Bitmap counts and pages match the database")
+    void testIndexMatchesDatabase() {
+        assertTrue(bitmapIndex.isReady());
+        Random random = new Random(24);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Reservation reservation = newReservation(ROOM_TYPES[random.nextInt(ROOM_TYPES.length)],
+                FROM.plusDays(random.nextInt(360)), 1 + random.nextInt(3));
+            reservation.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+            try {
+                ids.add(reservationService.create(reservation).getId());
+            } catch (IllegalArgumentException e) {
+                // Every room of the type is already taken on one of the nights
+            }
+        }
+        for (int i = 0; i < 60; i++) {
+            try {
+                reservationService.transition(ids.get(random.nextInt(ids.size())),
+                    STATUSES[random.nextInt(STATUSES.length)], null);
+            } catch (IllegalStateException e) {
+                // Cancelled and confirmed stays cannot go back
+            }
+        }
+        for (int i = 0; i < 20; i++) {
+            reservationService.delete(ids.remove(random.nextInt(ids.size())));
+        }
+
+        List<ReservationBitmapIndex.Criteria> filters = List.of(
+            new ReservationBitmapIndex.Criteria(null, null, FROM, TO),
+            new ReservationBitmapIndex.Criteria(Set.of("CONFIRMED"), Set.of("SUITE", "DELUXE"), FROM, TO),
+            new ReservationBitmapIndex.Criteria(Set.of("PENDING", "CANCELLED"), null,
+                LocalDate.of(2073, 2, 14), LocalDate.of(2073, 8, 3)));
+        for (ReservationBitmapIndex.Criteria criteria : filters) {
+            ReservationBitmapIndex.Counts counts = reservationService.count(criteria);
+            assertEquals(reservationRepository.count(specification(criteria)), counts.getTotal(), criteria.toString());
+            counts.getByStatus().forEach((status, count) -> assertEquals(
+                reservationRepository.count(specification(criteria).and(ReservationSpecifications.hasStatus(status))),
+                count.longValue(), status));
+            assertEquals(counts.getTotal(), counts.getByRoomType().values().stream().mapToInt(Integer::intValue).sum());
+        }
+
+        // Paging through the listing returns exactly the database's rows in keyset order
+        ReservationService.ReservationFilter filter =
+            new ReservationService.ReservationFilter("CONFIRMED", "DOUBLE", FROM.plusDays(30), TO, null);
+        List<Long> expected = reservationRepository.findAll(Specification.allOf(
+                ReservationSpecifications.hasStatus("CONFIRMED"), ReservationSpecifications.hasRoomType("DOUBLE"),
+                ReservationSpecifications.checkInFrom(FROM.plusDays(30)), ReservationSpecifications.checkInTo(TO)),
+                Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")))
+            .stream().map(Reservation::getId).toList();
+        List<Long> listed = new ArrayList<>();
+        String cursor = null;
+        do {
+            ReservationService.ReservationPage<Reservation> page = reservationService.listPage(filter, cursor, 7);
+            page.getItems().forEach(reservation -> listed.add(reservation.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, listed);
+
+        // The summary view pages through the same rows
+        List<Long> summarized = new ArrayList<>();
+        do {
+            ReservationService.ReservationPage<ReservationSummary> page =
+                reservationService.listSummaryPage(filter, cursor, 7);
+            page.getItems().forEach(summary -> summarized.add(summary.id()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        assertEquals(expected, summarized);
+    }
+
+    // IT-032: Rows the database recheck drops (here the index is behind a direct update) are replaced from the
+    // next index batch, so the page stays full and keeps its cursor
+    @Test
+    @DisplayName("IT-032: Listing refills a page when the index is behind")
+    void testPageRefillsDroppedMatches() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            Reservation reservation = newReservation("SUITE", LocalDate.of(2075, 3, 1).plusDays(3L * i), 1);
+            reservation.setStatus("CONFIRMED");
+            ids.add(reservationService.create(reservation).getId());
+        }
+        try {
+            // The three newest are cancelled behind the index's back
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(
+                "UPDATE reservation SET status = 'CANCELLED' WHERE id IN (?, ?, ?)", ids.get(3), ids.get(4), ids.get(5)));
+            ReservationService.ReservationFilter filter = new ReservationService.ReservationFilter("CONFIRMED",
+                "SUITE", LocalDate.of(2075, 1, 1), LocalDate.of(2075, 12, 31), null);
+
+            ReservationService.ReservationPage<Reservation> page = reservationService.listPage(filter, null, 2);
+            assertEquals(List.of(ids.get(2), ids.get(1)), page.getItems().stream().map(Reservation::getId).toList());
+            assertNotNull(page.getNextCursor());
+            page = reservationService.listPage(filter, page.getNextCursor(), 2);
+            assertEquals(List.of(ids.get(0)), page.getItems().stream().map(Reservation::getId).toList());
+            assertNull(page.getNextCursor());
+        } finally {
+            ids.forEach(reservationService::delete);
+        }
+    }
+
+    private static Specification<Reservation> specification(ReservationBitmapIndex.Criteria criteria) {
+        List<Specification<Reservation>> conditions = new ArrayList<>();
+        if (criteria.getStatuses() != null) {
+            conditions.add(ReservationSpecifications.statusIn(criteria.getStatuses()));
+        }
+        if (criteria.getRoomTypes() != null) {
+            conditions.add(ReservationSpecifications.roomTypeIn(criteria.getRoomTypes()));
+        }
+        conditions.add(ReservationSpecifications.checkInFrom(criteria.getCheckInFrom()));
+        conditions.add(ReservationSpecifications.checkInTo(criteria.getCheckInTo()));
+        return Specification.allOf(conditions);
+    }
+}
@@ -0,0 +1,195 @@
+package com.oceanview.reservation.service;
+
+import com.oceanview.reservation.model.Reservation;
+import com.oceanview.reservation.repository.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+// Unit tests for the compressed bitmap and the reservation bitmap index built on it
+@DisplayName("ReservationBitmapIndex Unit Tests")
+public class ReservationBitmapIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 9, 0);
+    private static final String[] STATUSES = {"PENDING", "CONFIRMED", "CHECKED_IN", "CANCELLED"};
+    private static final String[] ROOM_TYPES = {"SINGLE", "DOUBLE", "SUITE", "DELUXE"};
+
+    private ReservationBitmapIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ReservationBitmapIndex(mock(ReservationRepository.class));
+    }
+
+    // UT-040: Adds, removes, AND and OR agree with java.util.BitSet across sparse and dense chunks
+    @Test
+    @DisplayName("UT-040: Compressed bitmap matches BitSet")
+    void testBitmapMatchesBitSet() {
+        Random random = new Random(40);
+        CompressedBitmap a = new CompressedBitmap();
+        CompressedBitmap b = new CompressedBitmap();
+        BitSet expectedA = new BitSet();
+        BitSet expectedB = new BitSet();
+        // Chunk 0 dense in a, chunk 1 dense in both, chunk 2 sparse in both, chunk 5 only in b
+        for (int i = 0; i < 30_000; i++) {
+            int value = random.nextInt(65_536);
+            a.add(value);
+            expectedA.set(value);
+        }
+        for (int i = 0; i < 20_000; i++) {
+            int value = 65_536 + random.nextInt(65_536);
+            a.add(value);
+            expectedA.set(value);
+            value = 65_536 + random.nextInt(65_536);
+            b.add(value);
+            expectedB.set(value);
+        }
+        for (int i = 0; i < 500; i++) {
+            int value = 2 * 65_536 + random.nextInt(65_536);
+            a.add(value);
+            expectedA.set(value);
+            value = 2 * 65_536 + random.nextInt(65_536);
+            b.add(value);
+            expectedB.set(value);
+            value = 5 * 65_536 + random.nextInt(65_536);
+            b.add(value);
+            expectedB.set(value);
+        }
+        for (int i = 0; i < 40_000; i++) {
+            int value = random.nextInt(3 * 65_536);
+            a.remove(value);
+            expectedA.clear(value);
+        }
+        assertEquals(2, a.bitmapChunks());
+        assertEquals(1, b.bitmapChunks());
+
+        BitSet and = (BitSet) expectedA.clone();
+        and.and(expectedB);
+        BitSet or = (BitSet) expectedA.clone();
+        or.or(expectedB);
+        assertArrayEquals(expectedA.stream().toArray(), a.toArray());
+        assertArrayEquals(and.stream().toArray(), CompressedBitmap.and(a, b).toArray());
+        assertEquals(and.cardinality(), CompressedBitmap.andCardinality(a, b));
+        assertArrayEquals(or.stream().toArray(), CompressedBitmap.or(a, b).toArray());
+        assertTrue(a.contains(expectedA.nextSetBit(0)));
+        assertFalse(a.contains(expectedA.nextClearBit(0)));
+
+        // Emptying a chunk drops it; a dense chunk shrinks back to an array
+        for (int value = 0; value < 3 * 65_536; value++) {
+            a.remove(value);
+        }
+        assertTrue(a.isEmpty());
+        for (int value = 65_536; value < 65_536 + 60_000; value++) {
+            b.remove(value);
+        }
+        assertEquals(0, b.bitmapChunks());
+    }
+
+    // UT-041: Status, room type and check-in window filters combine like the equivalent SQL conditions
+    @Test
+    @DisplayName("UT-041: Multi-field filters and counts match a linear scan")
+    void testFiltersMatchLinearScan() {
+        Random random = new Random(41);
+        List<Reservation> reservations = new ArrayList<>();
+        for (long id = 1; id <= 5000; id++) {
+            Reservation reservation = reservation(id, STATUSES[random.nextInt(STATUSES.length)],
+                ROOM_TYPES[random.nextInt(ROOM_TYPES.length)], LocalDate.of(2026, 1, 1).plusDays(random.nextInt(400)),
+                random.nextInt(5000));
+            reservations.add(reservation);
+            index.put(reservation);
+        }
+
+        List<ReservationBitmapIndex.Criteria> filters = List.of(
+            new ReservationBitmapIndex.Criteria(null, null, null, null),
+            new ReservationBitmapIndex.Criteria(Set.of("CONFIRMED"), null, null, null),
+            new ReservationBitmapIndex.Criteria(Set.of("PENDING", "CONFIRMED"), Set.of("SUITE"), null, null),
+            new ReservationBitmapIndex.Criteria(null, Set.of("DOUBLE", "DELUXE"),
+                LocalDate.of(2026, 3, 15), LocalDate.of(2026, 6, 10)),
+            new ReservationBitmapIndex.Criteria(Set.of("CANCELLED"), null, LocalDate.of(2026, 12, 31), null),
+            new ReservationBitmapIndex.Criteria(null, null, null, LocalDate.of(2026, 2, 1)),
+            new ReservationBitmapIndex.Criteria(Set.of("CHECKED_IN"), Set.of("SINGLE"),
+                LocalDate.of(2026, 5, 1), LocalDate.of(2026, 5, 31)),
+            new ReservationBitmapIndex.Criteria(Set.of("NO_SUCH_STATUS"), null, null, null));
+
+        for (ReservationBitmapIndex.Criteria criteria : filters) {
+            List<Reservation> expected = reservations.stream().filter(r -> matches(r, criteria)).toList();
+            ReservationBitmapIndex.Counts counts = index.counts(criteria);
+            assertEquals(expected.size(), counts.getTotal(), criteria.toString());
+            assertEquals(expected.size(), index.count(criteria), criteria.toString());
+            assertEquals(new TreeMap<>(expected.stream().collect(Collectors.groupingBy(Reservation::getStatus,
+                Collectors.summingInt(r -> 1)))), counts.getByStatus(), criteria.toString());
+            assertEquals(new TreeMap<>(expected.stream().collect(Collectors.groupingBy(Reservation::getRoomType,
+                Collectors.summingInt(r -> 1)))), counts.getByRoomType(), criteria.toString());
+
+            List<Long> newest = expected.stream()
+                .sorted(Comparator.comparing(Reservation::getCreatedAt).thenComparing(Reservation::getId).reversed())
+                .map(Reservation::getId)
+                .limit(25)
+                .toList();
+            assertEquals(newest, index.newestFirst(criteria, null, null, 25).ids(), criteria.toString());
+        }
+    }
+
+    // UT-042: Changes move a reservation between bitmaps, deletes drop it and its ordinal is reused
+    @Test
+    @DisplayName("UT-042: Index follows updates and deletes")
+    void testUpdatesAndDeletes() {
+        ReservationBitmapIndex.Criteria confirmedSuites =
+            new ReservationBitmapIndex.Criteria(Set.of("CONFIRMED"), Set.of("SUITE"), null, null);
+        ReservationBitmapIndex.Criteria march =
+            new ReservationBitmapIndex.Criteria(null, null, LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31));
+        index.put(reservation(1L, "PENDING", "SUITE", LocalDate.of(2026, 3, 10), 1));
+        index.put(reservation(2L, "CONFIRMED", "SUITE", LocalDate.of(2026, 4, 10), 2));
+        assertEquals(1, index.count(confirmedSuites));
+        assertEquals(1, index.count(march));
+
+        index.put(reservation(1L, "CONFIRMED", "SUITE", LocalDate.of(2026, 4, 2), 1));
+        assertEquals(2, index.count(confirmedSuites));
+        assertEquals(0, index.count(march));
+        assertEquals(Map.of("CONFIRMED", 2), index.counts(confirmedSuites).getByStatus());
+
+        index.remove(2L);
+        index.put(reservation(3L, "PENDING", "DOUBLE", LocalDate.of(2026, 3, 31), 3));
+        assertEquals(2, index.size());
+        assertEquals(1, index.count(confirmedSuites));
+        assertEquals(List.of(3L), index.newestFirst(march, null, null, 10).ids());
+        assertEquals(List.of(3L, 1L), index.newestFirst(new ReservationBitmapIndex.Criteria(), null, null, 10).ids());
+        assertEquals(List.of(1L),
+            index.newestFirst(new ReservationBitmapIndex.Criteria(), BASE.plusMinutes(3), 3L, 10).ids());
+        assertEquals(0, index.count(new ReservationBitmapIndex.Criteria(null, null,
+            LocalDate.of(2026, 4, 30), LocalDate.of(2026, 3, 1))));
+    }
+
+    private static boolean matches(Reservation reservation, ReservationBitmapIndex.Criteria criteria) {
+        return (criteria.getStatuses() == null || criteria.getStatuses().contains(reservation.getStatus()))
+            && (criteria.getRoomTypes() == null || criteria.getRoomTypes().contains(reservation.getRoomType()))
+            && (criteria.getCheckInFrom() == null || !reservation.getCheckIn().isBefore(criteria.getCheckInFrom()))
+            && (criteria.getCheckInTo() == null || !reservation.getCheckIn().isAfter(criteria.getCheckInTo()));
+    }
+
+    private static Reservation reservation(Long id, String status, String roomType, LocalDate checkIn, int createdMinute) {
+        Reservation reservation = new Reservation();
+        reservation.setId(id);
+        reservation.setStatus(status);
+        reservation.setRoomType(roomType);
+        reservation.setCheckIn(checkIn);
+        reservation.setCheckOut(checkIn.plusDays(2));
+        reservation.setCreatedAt(BASE.plusMinutes(createdMinute));
+        return reservation;
+    }
+}
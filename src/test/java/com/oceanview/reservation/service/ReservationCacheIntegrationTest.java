@@ -0,0 +1,64 @@
+package com.oceanview.reservation.service;
+
+import com.oceanview.reservation.model.Reservation;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+
+import static com.oceanview.reservation.TestReservations.newReservation;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Checks that cached detail reads take no database connection and see committed changes
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("ReservationCache Integration Tests")
+public class ReservationCacheIntegrationTest {
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationCache reservationCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        reservationCache.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    // IT-017: Only the first read goes to the database; updates and deletes are written through
+    @Test
+    @DisplayName("IT-017: getById served from cache without a connection")
+    void testCachedReadsTakeNoConnection() {
+        Long id = reservationService.create(newReservation("SUITE", LocalDate.of(2045, 3, 1), 3, "PENDING")).getId();
+        reservationCache.clear();
+
+        assertEquals(1, connectionsFor(() -> reservationService.getById(id)));
+        assertEquals(0, connectionsFor(() -> assertEquals("PENDING", reservationService.getById(id).orElseThrow().getStatus())));
+
+        Reservation change = new Reservation();
+        change.setStatus("CONFIRMED");
+        reservationService.update(id, change);
+        assertEquals(0, connectionsFor(() -> assertEquals("CONFIRMED", reservationService.getById(id).orElseThrow().getStatus())));
+
+        reservationService.delete(id);
+        assertEquals(0, connectionsFor(() -> assertTrue(reservationService.getById(id).isEmpty())));
+    }
+
+    private long connectionsFor(Runnable action) {
+        statistics.clear();
+        action.run();
+        return statistics.getConnectCount();
+    }
+}
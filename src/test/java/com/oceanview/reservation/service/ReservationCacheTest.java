@@ -0,0 +1,118 @@
+package com.oceanview.reservation.service;
+
+import com.oceanview.reservation.model.Reservation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Unit tests for the read-through reservation cache
+@DisplayName("ReservationCache Unit Tests")
+public class ReservationCacheTest {
+
+    private static final LocalDateTime V1 = LocalDateTime.of(2026, 5, 1, 10, 0);
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    // UT-032: The first read loads, later reads are served from the cache as independent copies
+    @Test
+    @DisplayName("UT-032: Read-through with copies")
+    void testReadThrough() {
+        ReservationCache cache = new ReservationCache(true, 100, 60, now::get);
+
+        Reservation first = cache.get(1L, loader(reservation(1L, "PENDING", V1))).orElseThrow();
+        first.setStatus("MUTATED");
+        Reservation second = cache.get(1L, loader(reservation(1L, "PENDING", V1))).orElseThrow();
+
+        assertEquals(1, loads.get());
+        assertEquals("PENDING", second.getStatus());
+        assertNotSame(first, second);
+        assertEquals(1, cache.stats().getHits());
+        assertEquals(1, cache.stats().getMisses());
+    }
+
+    // UT-033: Entries expire after the TTL and are reloaded
+    @Test
+    @DisplayName("UT-033: TTL expiry")
+    void testTtlExpiry() {
+        ReservationCache cache = new ReservationCache(true, 100, 60, now::get);
+        cache.get(1L, loader(reservation(1L, "PENDING", V1)));
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(59));
+        cache.get(1L, loader(reservation(1L, "PENDING", V1)));
+        assertEquals(1, loads.get());
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        cache.get(1L, loader(reservation(1L, "CONFIRMED", V1)));
+        assertEquals(2, loads.get());
+    }
+
+    // UT-034: Size stays bounded and recently used entries survive eviction
+    @Test
+    @DisplayName("UT-034: Size-bounded LRU eviction")
+    void testSizeBound() {
+        ReservationCache cache = new ReservationCache(true, 64, 60, now::get);
+        for (long id = 1; id <= 1000; id++) {
+            cache.put(reservation(id, "PENDING", V1));
+            cache.get(1L, loader(reservation(1L, "PENDING", V1)));
+        }
+
+        assertTrue(cache.stats().getSize() <= 64);
+        assertEquals(0, loads.get());
+    }
+
+    // UT-035: Committed changes are written through; stale loads and deleted rows never come back
+    @Test
+    @DisplayName("UT-035: Write-through and stale load protection")
+    void testWriteThrough() {
+        ReservationCache cache = new ReservationCache(true, 100, 60, now::get);
+        Reservation original = reservation(1L, "PENDING", V1);
+        cache.put(original);
+
+        cache.onReservationChanged(new ReservationChangedEvent(1L, original, reservation(1L, "CONFIRMED", V1.plusSeconds(1))));
+        cache.put(original);
+        assertEquals("CONFIRMED", cache.get(1L, loader(original)).orElseThrow().getStatus());
+
+        cache.onReservationChanged(new ReservationChangedEvent(1L, original, null));
+        cache.put(original);
+        assertTrue(cache.get(1L, loader(original)).isEmpty());
+        assertEquals(0, loads.get());
+    }
+
+    // UT-036: A disabled cache always goes to the loader
+    @Test
+    @DisplayName("UT-036: Disabled cache passes reads through")
+    void testDisabled() {
+        ReservationCache cache = new ReservationCache(false, 100, 60, now::get);
+        cache.put(reservation(1L, "PENDING", V1));
+
+        cache.get(1L, loader(reservation(1L, "PENDING", V1)));
+        cache.get(1L, loader(reservation(1L, "PENDING", V1)));
+
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.stats().getSize());
+    }
+
+    private Supplier<Optional<Reservation>> loader(Reservation reservation) {
+        return () -> {
+            loads.incrementAndGet();
+            return Optional.of(reservation);
+        };
+    }
+
+    private static Reservation reservation(Long id, String status, LocalDateTime updatedAt) {
+        Reservation reservation = new Reservation();
+        reservation.setId(id);
+        reservation.setStatus(status);
+        reservation.setUpdatedAt(updatedAt);
+        return reservation;
+    }
+}
@@ -0,0 +1,75 @@
+package com.oceanview.reservation.service;
+
+import com.oceanview.reservation.model.Reservation;
+import com.oceanview.reservation.repository.ReservationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.oceanview.reservation.TestReservations.newReservation;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Checks room assignment at check-in against the room inventory
+@SpringBootTest
+@DisplayName("Reservation Check-In Integration Tests")
+public class ReservationCheckInTest {
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private RoomInventory roomInventory;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    // IT-023: Overlapping stays get different rooms, a room is reused once its guest has left, and a
+    // checked-in stay still holds its room against new bookings
+    @Test
+    @DisplayName("IT-023: Check-in assigns the lowest free room of the booked type")
+    void testCheckInAssignsRooms() {
+        LocalDate arrival = LocalDate.of(2072, 2, 1);
+        List<String> deluxeRooms = roomInventory.roomNumbers("DELUXE");
+        assertEquals(10, deluxeRooms.size());
+
+        Reservation first = reservationService.create(newReservation("DELUXE", arrival, 3, "CONFIRMED"));
+        Reservation overlapping = reservationService.create(newReservation("DELUXE", arrival.plusDays(2), 2, "CONFIRMED"));
+        Reservation later = reservationService.create(newReservation("DELUXE", arrival.plusDays(3), 2, "CONFIRMED"));
+
+        Reservation checkedIn = reservationService.checkIn(first.getId());
+        assertEquals("CHECKED_IN", checkedIn.getStatus());
+        assertEquals(deluxeRooms.get(0), checkedIn.getRoomNumber());
+        assertEquals(deluxeRooms.get(1), reservationService.checkIn(overlapping.getId()).getRoomNumber());
+        assertEquals(deluxeRooms.get(0), reservationService.checkIn(later.getId()).getRoomNumber());
+
+        assertThrows(IllegalStateException.class, () -> reservationService.checkIn(first.getId()));
+        assertThrows(IllegalArgumentException.class, () -> reservationService.checkIn(Long.MAX_VALUE));
+
+        // Checked-in stays keep counting: fill the rest of the first night, then nothing is left
+        for (int room = 1; room < deluxeRooms.size(); room++) {
+            reservationService.create(newReservation("DELUXE", arrival, 1, "CONFIRMED"));
+        }
+        assertTrue(reservationService.isFullyBooked(newReservation("DELUXE", arrival, 1, "CONFIRMED")));
+        assertFalse(reservationService.isFullyBooked(newReservation("DELUXE", arrival.plusDays(1), 1, "CONFIRMED")));
+    }
+
+    // IT-029: A checked-in guest is still in the hotel, so the stay stays in the active list and its summary view
+    @Test
+    @DisplayName("IT-029: Checked-in stays are listed as active")
+    void testCheckedInStayIsActive() {
+        LocalDate arrival = LocalDate.of(2072, 5, 10);
+        Reservation checkedIn = reservationService.checkIn(
+            reservationService.create(newReservation("SUITE", arrival, 3, "CONFIRMED")).getId());
+        assertEquals("CHECKED_IN", checkedIn.getStatus());
+
+        LocalDate duringStay = arrival.plusDays(1);
+        assertTrue(reservationRepository.findActiveReservations(duringStay).stream()
+            .anyMatch(reservation -> reservation.getId().equals(checkedIn.getId())));
+        assertTrue(reservationRepository.findActiveSummaries(duringStay).stream()
+            .anyMatch(summary -> summary.id().equals(checkedIn.getId())));
+    }
+}
@@ -0,0 +1,112 @@
+package com.oceanview.reservation.service;
+
+import com.oceanview.reservation.model.Reservation;
+import com.oceanview.reservation.repository.ReservationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.oceanview.reservation.TestReservations.newReservation;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Checks bulk import validation, conflict detection, chunking and the per-row error report
+@SpringBootTest
+@DisplayName("ReservationImportService Integration Tests")
+public class ReservationImportServiceTest {
+
+    private static final String[] ROOM_TYPES = {"SINGLE", "DOUBLE", "SUITE", "DELUXE"};
+
+    @Autowired
+    private ReservationImportService reservationImportService;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private RoomInventory roomInventory;
+
+    // IT-019: Invalid, unparseable and overbooked rows are reported by line; the rest are stored and indexed
+    @Test
+    @DisplayName("IT-019: CSV import with a per-row error report")
+    void testCsvImportReportsBadRows() throws Exception {
+        // Leave one SUITE room for the night of 2052-01-02: the first SUITE row takes it, the second finds none
+        for (int room = 1; room < roomInventory.roomCount("SUITE"); room++) {
+            reservationService.create(newReservation("SUITE", LocalDate.of(2052, 1, 2), 1));
+        }
+        String csv = """
+            guestFullName,email,contactNumber,address,roomType,checkIn,checkOut,numberOfGuests,status
+            Nimal Silva,csv.import1@example.com,+94771234567,1 Beach Road,SUITE,2052-01-01,2052-01-03,2,CONFIRMED
+            Kamal Perera,csv.import2@example.com,+94771234567,2 Beach Road,SUITE,2052-01-02,2052-01-04,2,
+            Bad Email,not-an-email,+94771234567,3 Beach Road,DOUBLE,2052-01-01,2052-01-03,2,
+            Ruwan Fernando,csv.import3@example.com,+94771234567,"4 Beach Road, ""Sea View""
+            Galle",DOUBLE,2052-01-01,2052-01-03,2,
+            Cancelled Guest,csv.import4@example.com,+94771234567,5 Beach Road,SUITE,2052-01-01,2052-01-03,2,CANCELLED
+            Bad Date,csv.import5@example.com,+94771234567,6 Beach Road,SINGLE,2052-13-01,2052-13-03,2,
+            """;
+
+        ReservationImportService.ImportReport report = reservationImportService.importReservations(
+            ReservationExportService.Format.CSV, stream(csv));
+
+        assertEquals(6, report.getRows());
+        assertEquals(3, report.getImported());
+        assertEquals(3, report.getFailed());
+        assertEquals(List.of(3L, 4L, 8L), report.getErrors().stream().map(ReservationImportService.RowError::getLine).toList());
+        assertTrue(report.getErrors().get(0).getError().contains("not available"));
+        assertTrue(report.getErrors().get(1).getError().startsWith("email:"));
+        assertTrue(report.getErrors().get(2).getError().startsWith("checkIn:"));
+
+        Reservation quoted = reservationRepository.findByEmail("csv.import3@example.com").get(0);
+        assertEquals("4 Beach Road, \"Sea View\"\nGalle", quoted.getAddress());
+        assertEquals("PENDING", quoted.getStatus());
+
+        Reservation competing = newReservation("SUITE", LocalDate.of(2052, 1, 2), 1);
+        assertThrows(IllegalArgumentException.class, () -> reservationService.create(competing));
+    }
+
+    // IT-020: An NDJSON import spanning several chunks stores every row with its own id
+    @Test
+    @DisplayName("IT-020: NDJSON import across chunks")
+    void testNdjsonImportAcrossChunks() throws Exception {
+        int rows = ReservationImportService.CHUNK_SIZE * 2 + 500;
+        LocalDate firstNight = LocalDate.of(2060, 1, 1);
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < rows; i++) {
+            LocalDate checkIn = firstNight.plusDays(i / ROOM_TYPES.length);
+            ndjson.append(String.format("{\"guestFullName\":\"Bulk Guest %d\",\"email\":\"bulk%d@example.com\","
+                    + "\"contactNumber\":\"+94771234567\",\"address\":\"1 Beach Road\",\"roomType\":\"%s\","
+                    + "\"checkIn\":\"%s\",\"checkOut\":\"%s\",\"numberOfGuests\":2}%n",
+                i, i, ROOM_TYPES[i % ROOM_TYPES.length], checkIn, checkIn.plusDays(1)));
+        }
+        long before = reservationRepository.count();
+
+        ReservationImportService.ImportReport report = reservationImportService.importReservations(
+            ReservationExportService.Format.NDJSON, stream(ndjson.toString()));
+
+        assertEquals(rows, report.getImported());
+        assertEquals(0, report.getFailed());
+        assertEquals(before + rows, reservationRepository.count());
+        List<Reservation> imported = reservationRepository.findByCheckInBetween(firstNight, firstNight.plusDays(rows));
+        assertEquals(rows, imported.stream().map(Reservation::getId).collect(Collectors.toSet()).size());
+
+        // Importing the same file again books a second room of each type on every night
+        ReservationImportService.ImportReport again = reservationImportService.importReservations(
+            ReservationExportService.Format.NDJSON, stream(ndjson.toString()));
+        assertEquals(rows, again.getImported());
+        assertEquals(0, again.getFailed());
+        assertEquals(before + 2L * rows, reservationRepository.count());
+    }
+
+    private static ByteArrayInputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
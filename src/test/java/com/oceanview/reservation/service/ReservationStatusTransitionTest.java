@@ -0,0 +1,201 @@
+package com.oceanview.reservation.service;
+
+import com.oceanview.reservation.model.Reservation;
+import com.oceanview.reservation.repository.ReservationRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.oceanview.reservation.TestReservations.newReservation;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// Checks the reservation lifecycle and that status changes are conditional single-statement updates
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@DisplayName("Reservation Status Transition Tests")
+public class ReservationStatusTransitionTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private RoomInventory roomInventory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // IT-025: Each move is one UPDATE; stale versions, lost races and moves the lifecycle forbids are rejected
+    @Test
+    @DisplayName("IT-025: Status transitions follow the lifecycle with optimistic locking")
+    void testSingleTransitions() {
+        Reservation created = reservationService.create(newReservation("SUITE", LocalDate.of(2074, 5, 1), 1, "PENDING"));
+        assertEquals(0L, created.getVersion());
+        reservationService.getById(created.getId());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        Reservation confirmed = reservationService.transition(created.getId(), "confirmed", 0L);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals("CONFIRMED", confirmed.getStatus());
+        assertEquals(1L, confirmed.getVersion());
+        assertEquals(1L, reservationService.getById(created.getId()).orElseThrow().getVersion());
+
+        // Same status again changes nothing; going back or skipping ahead is not allowed
+        assertEquals(1L, reservationService.transition(created.getId(), "CONFIRMED", null).getVersion());
+        assertThrows(OptimisticLockingFailureException.class,
+            () -> reservationService.transition(created.getId(), "CANCELLED", 0L));
+        assertThrows(IllegalStateException.class, () -> reservationService.transition(created.getId(), "PENDING", null));
+        assertThrows(IllegalStateException.class, () -> reservationService.transition(created.getId(), "CHECKED_OUT", null));
+        assertThrows(IllegalArgumentException.class, () -> reservationService.transition(created.getId(), "LOST", null));
+
+        // A write the service did not see: the conditional update matches no row
+        transactionTemplate.executeWithoutResult(status ->
+            jdbcTemplate.update("UPDATE reservation SET version = version + 1 WHERE id = ?", created.getId()));
+        assertThrows(OptimisticLockingFailureException.class,
+            () -> reservationService.transition(created.getId(), "CANCELLED", null));
+
+        // The same stale write through PUT is refused too
+        Reservation reloaded = reservationService.getById(created.getId()).orElseThrow();
+        assertEquals(2L, reloaded.getVersion());
+        Reservation stale = new Reservation();
+        stale.setSpecialRequests("Late arrival");
+        stale.setVersion(1L);
+        assertThrows(OptimisticLockingFailureException.class, () -> reservationService.update(created.getId(), stale));
+
+        Reservation checkedIn = reservationService.transition(created.getId(), "CHECKED_IN", 2L);
+        assertEquals("CHECKED_IN", checkedIn.getStatus());
+        assertNotNull(checkedIn.getRoomNumber());
+        Reservation checkedOut = reservationService.transition(created.getId(), "CHECKED_OUT", null);
+        assertEquals("CHECKED_OUT", checkedOut.getStatus());
+        assertEquals(4L, checkedOut.getVersion());
+        assertThrows(IllegalStateException.class, () -> reservationService.transition(created.getId(), "CANCELLED", null));
+        assertThrows(IllegalArgumentException.class, () -> reservationService.transition(Long.MAX_VALUE, "CANCELLED", null));
+    }
+
+    // IT-026: A bulk move is one UPDATE for every eligible id and frees the rooms it cancels
+    @Test
+    @DisplayName("IT-026: Bulk transition updates eligible reservations and skips the rest")
+    void testBulkTransition() {
+        LocalDate night = LocalDate.of(2074, 8, 1);
+        List<Long> ids = new ArrayList<>();
+        for (int room = 0; room < roomInventory.roomCount("DELUXE"); room++) {
+            ids.add(reservationService.create(newReservation("DELUXE", night, 1, "PENDING")).getId());
+        }
+        assertTrue(reservationService.isFullyBooked(newReservation("DELUXE", night, 1, "PENDING")));
+        reservationService.transition(ids.get(0), "CHECKED_IN", null);
+        reservationService.transition(ids.get(1), "CONFIRMED", null);
+
+        List<Long> requested = new ArrayList<>(ids.subList(0, 4));
+        requested.add(Long.MAX_VALUE);
+        ReservationService.BulkTransition result = reservationService.transitionAll(requested, "CANCELLED");
+
+        assertEquals(List.of(ids.get(1), ids.get(2), ids.get(3)), result.getUpdated());
+        assertEquals(List.of(ids.get(0)), result.getSkipped());
+        assertEquals(List.of(Long.MAX_VALUE), result.getNotFound());
+        for (Long id : result.getUpdated()) {
+            Reservation cancelled = reservationService.getById(id).orElseThrow();
+            assertEquals("CANCELLED", cancelled.getStatus());
+        }
+        assertEquals(2L, reservationService.getById(ids.get(1)).orElseThrow().getVersion());
+        assertFalse(reservationService.isFullyBooked(newReservation("DELUXE", night, 1, "PENDING")));
+
+        assertTrue(reservationService.transitionAll(ids.subList(1, 4), "CONFIRMED").getUpdated().isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> reservationService.transitionAll(ids, "CHECKED_IN"));
+        assertThrows(IllegalArgumentException.class, () -> reservationService.transitionAll(List.of(), "CANCELLED"));
+    }
+
+    // IT-050: A bulk move only updates the versions it read; a write that lands in between rolls the whole move back
+    @Test
+    @DisplayName("IT-050: Bulk transition does not overwrite a concurrent change")
+    void testBulkTransitionConflict() {
+        LocalDate night = LocalDate.of(2074, 10, 1);
+        List<Long> ids = List.of(
+            reservationService.create(newReservation("DOUBLE", night, 1, "PENDING")).getId(),
+            reservationService.create(newReservation("DOUBLE", night, 1, "PENDING")).getId());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // The bulk move sees the versions this transaction has already loaded
+            reservationRepository.findAllById(ids);
+            CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(other -> jdbcTemplate.update(
+                "UPDATE reservation SET special_requests = 'Sea view', version = version + 1 WHERE id = ?",
+                ids.get(1)))).join();
+            assertThrows(OptimisticLockingFailureException.class,
+                () -> reservationService.transitionAll(ids, "CANCELLED"));
+            // Even before the rollback, the changed row was not written over
+            assertEquals(List.of("PENDING", "Sea view"), jdbcTemplate.queryForObject(
+                "SELECT status, special_requests FROM reservation WHERE id = ?",
+                (row, n) -> List.of(row.getString(1), row.getString(2)), ids.get(1)));
+            status.setRollbackOnly();
+        });
+
+        Reservation first = reservationRepository.findById(ids.get(0)).orElseThrow();
+        assertEquals("PENDING", first.getStatus());
+        assertEquals(0L, first.getVersion());
+        Reservation second = reservationRepository.findById(ids.get(1)).orElseThrow();
+        assertEquals("PENDING", second.getStatus());
+        assertEquals("Sea view", second.getSpecialRequests());
+        assertEquals(1L, second.getVersion());
+    }
+
+    // IT-031: A PUT without a status edits the other fields and leaves the lifecycle alone
+    @Test
+    @DisplayName("IT-031: PUT without a status keeps a confirmed reservation confirmed")
+    void testUpdateWithoutStatus() throws Exception {
+        Reservation created = reservationService.create(newReservation("DOUBLE", LocalDate.of(2074, 9, 1), 1, "PENDING"));
+        reservationService.transition(created.getId(), "CONFIRMED", null);
+
+        mockMvc.perform(put("/api/reservations/" + created.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {
+                      "guestFullName": "Status Guest",
+                      "address": "1 Beach Road, Galle",
+                      "contactNumber": "+94771234567",
+                      "email": "status.guest.new@example.com",
+                      "roomType": "DOUBLE",
+                      "checkIn": "2074-09-01",
+                      "checkOut": "2074-09-02",
+                      "numberOfGuests": 3
+                    }
+                    """))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("CONFIRMED"))
+            .andExpect(jsonPath("$.email").value("status.guest.new@example.com"))
+            .andExpect(jsonPath("$.numberOfGuests").value(3));
+
+        Reservation guestsOnly = new Reservation();
+        guestsOnly.setNumberOfGuests(1);
+        Reservation updated = reservationService.update(created.getId(), guestsOnly);
+        assertEquals("CONFIRMED", updated.getStatus());
+        assertEquals(1, updated.getNumberOfGuests());
+    }
+}
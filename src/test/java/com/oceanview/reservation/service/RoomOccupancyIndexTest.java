@@ -0,0 +1,151 @@
+package com.oceanview.reservation.service;
+
+import com.oceanview.reservation.model.Reservation;
+import com.oceanview.reservation.repository.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+// Unit tests for the in-memory per-night room count index
+@DisplayName("RoomOccupancyIndex Unit Tests")
+public class RoomOccupancyIndexTest {
+
+    private ReservationRepository reservationRepository;
+    private RoomOccupancyIndex index;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository = mock(ReservationRepository.class);
+        index = new RoomOccupancyIndex(reservationRepository);
+    }
+
+    // UT-011: Warm-up loads active bookings from the repository
+    @Test
+    @DisplayName("UT-011: Warm-up loads active reservations")
+    void testWarmLoadsActiveReservations() {
+        when(reservationRepository.findByStatusIn(any())).thenReturn(List.of(
+            booking(1L, "DOUBLE", "2026-06-01", "2026-06-04", "CONFIRMED"),
+            booking(2L, "SUITE", "2026-07-15", "2026-07-20", "PENDING"),
+            booking(3L, "DOUBLE", "2026-06-03", "2026-06-05", "CHECKED_IN")
+        ));
+
+        assertFalse(index.isReady());
+        index.warm();
+
+        assertTrue(index.isReady());
+        assertEquals(3, index.size());
+        assertEquals(2, index.peakBooked("DOUBLE", date("2026-06-01"), date("2026-06-05"), null));
+        assertArrayEquals(new int[]{1, 1, 2, 1, 0}, index.bookedPerNight("DOUBLE", date("2026-06-01"), date("2026-06-06"), null));
+        assertEquals(0, index.peakBooked("SINGLE", date("2026-06-03"), date("2026-06-05"), null));
+    }
+
+    // UT-012: Back-to-back stays share a changeover day and never hold a room on the same night
+    @Test
+    @DisplayName("UT-012: Check-out day can be the next check-in day")
+    void testAdjacentStaysDoNotOverlap() {
+        index.put(booking(1L, "DOUBLE", "2026-06-01", "2026-06-04", "CONFIRMED"));
+        index.put(booking(2L, "DOUBLE", "2026-06-04", "2026-06-06", "CONFIRMED"));
+
+        assertEquals(1, index.peakBooked("DOUBLE", date("2026-05-28"), date("2026-06-10"), null));
+        assertEquals(0, index.peakBooked("DOUBLE", date("2026-05-28"), date("2026-06-01"), null));
+        assertEquals(0, index.peakBooked("DOUBLE", date("2026-06-06"), date("2026-06-08"), null));
+        assertEquals(1, index.peakBooked("DOUBLE", date("2026-06-03"), date("2026-06-04"), null));
+    }
+
+    // UT-013: An update never counts the reservation's own booking against the rooms
+    @Test
+    @DisplayName("UT-013: Updated reservation is excluded from its own check")
+    void testExcludesReservationBeingUpdated() {
+        index.put(booking(1L, "DOUBLE", "2026-06-01", "2026-06-04", "CONFIRMED"));
+        index.put(booking(2L, "DOUBLE", "2026-06-03", "2026-06-12", "CONFIRMED"));
+
+        assertEquals(2, index.peakBooked("DOUBLE", date("2026-06-02"), date("2026-06-05"), null));
+        assertEquals(1, index.peakBooked("DOUBLE", date("2026-06-02"), date("2026-06-05"), 1L));
+        assertEquals(1, index.peakBooked("DOUBLE", date("2026-06-05"), date("2026-06-08"), 1L));
+        assertArrayEquals(new int[]{0, 1, 1, 1}, index.bookedPerNight("DOUBLE", date("2026-06-02"), date("2026-06-06"), 1L));
+    }
+
+    // UT-014: Cancelled, moved and deleted reservations release their nights
+    @Test
+    @DisplayName("UT-014: Index follows status changes, moves and deletes")
+    void testIndexFollowsChanges() {
+        index.put(booking(1L, "DOUBLE", "2026-06-01", "2026-06-04", "CONFIRMED"));
+
+        index.put(booking(1L, "SUITE", "2026-06-01", "2026-06-04", "CONFIRMED"));
+        assertEquals(0, index.peakBooked("DOUBLE", date("2026-06-01"), date("2026-06-04"), null));
+        assertEquals(1, index.peakBooked("SUITE", date("2026-06-01"), date("2026-06-04"), null));
+
+        index.put(booking(1L, "SUITE", "2026-06-01", "2026-06-04", "CANCELLED"));
+        assertEquals(0, index.peakBooked("SUITE", date("2026-06-01"), date("2026-06-04"), null));
+        assertEquals(0, index.size());
+
+        Reservation pending = booking(1L, "SUITE", "2026-06-01", "2026-06-04", "PENDING");
+        index.put(pending);
+        index.onReservationChanged(new ReservationChangedEvent(1L, pending, null));
+        assertEquals(0, index.peakBooked("SUITE", date("2026-06-01"), date("2026-06-04"), null));
+    }
+
+    // UT-015: Range-max and per-night answers match counting every stay night by night
+    @Test
+    @DisplayName("UT-015: Room counts match a linear scan")
+    void testMatchesLinearScan() {
+        Random random = new Random(42);
+        List<long[]> intervals = new ArrayList<>();
+        for (long id = 1; id <= 2000; id++) {
+            long start = 20000 + random.nextInt(3650);
+            long end = start + 1 + random.nextInt(20);
+            intervals.add(new long[]{start, end, id});
+            index.put(booking(id, "SINGLE", LocalDate.ofEpochDay(start), LocalDate.ofEpochDay(end), "CONFIRMED"));
+        }
+        for (long id = 1; id <= 2000; id += 3) {
+            index.remove(id);
+        }
+        intervals.removeIf(interval -> (interval[2] - 1) % 3 == 0);
+
+        for (int i = 0; i < 2000; i++) {
+            long start = 20000 + random.nextInt(3700);
+            long end = start + 1 + random.nextInt(30);
+            Long excludeId = random.nextBoolean() ? (long) (1 + random.nextInt(2000)) : null;
+            int[] expected = new int[(int) (end - start)];
+            for (long[] interval : intervals) {
+                if (excludeId == null || interval[2] != excludeId) {
+                    for (long night = Math.max(start, interval[0]); night < Math.min(end, interval[1]); night++) {
+                        expected[(int) (night - start)]++;
+                    }
+                }
+            }
+            LocalDate from = LocalDate.ofEpochDay(start);
+            LocalDate to = LocalDate.ofEpochDay(end);
+            assertArrayEquals(expected, index.bookedPerNight("SINGLE", from, to, excludeId));
+            assertEquals(Arrays.stream(expected).max().orElse(0), index.peakBooked("SINGLE", from, to, excludeId));
+        }
+    }
+
+    private static Reservation booking(Long id, String roomType, String checkIn, String checkOut, String status) {
+        return booking(id, roomType, date(checkIn), date(checkOut), status);
+    }
+
+    private static Reservation booking(Long id, String roomType, LocalDate checkIn, LocalDate checkOut, String status) {
+        Reservation reservation = new Reservation();
+        reservation.setId(id);
+        reservation.setRoomType(roomType);
+        reservation.setCheckIn(checkIn);
+        reservation.setCheckOut(checkOut);
+        reservation.setStatus(status);
+        return reservation;
+    }
+
+    private static LocalDate date(String value) {
+        return LocalDate.parse(value);
+    }
+}